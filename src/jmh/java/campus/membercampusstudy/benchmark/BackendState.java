@@ -0,0 +1,209 @@
+package campus.membercampusstudy.benchmark;
+
+import campus.membercampusstudy.MemberCampusStudyApplication;
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.mapper.IMemberMapper;
+import campus.membercampusstudy.mapper.IProfileMapper;
+import campus.membercampusstudy.repository.IMember;
+import campus.membercampusstudy.repository.IProfile;
+import campus.membercampusstudy.repository.MemberRepository;
+import campus.membercampusstudy.repository.ProfileRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크 공통 상태 - 애플리케이션 컨텍스트와 시드 데이터
+ * <p>
+ * ref 프로필(완성 매퍼)로 애플리케이션을 메모리 H2 위에 띄우고 {@code datasetSize}명의 회원과 프로필을 적재합니다.
+ * {@code backend}에 따라 같은 {@link IMember}/{@link IProfile} 연산이 JPA Repository 또는 MyBatis Mapper로 실행됩니다.
+ * <p>
+ * 시드 데이터 분포는 {@link SeedData}를 참고하세요.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+public class BackendState {
+
+    static final String NAME_KEYWORD = SeedData.NAME_KEYWORD;
+    static final int AGE_FROM = SeedData.AGE_FROM;
+    static final int AGE_TO = SeedData.AGE_TO;
+    static final String ADDRESS_KEYWORD = SeedData.ADDRESS_KEYWORD;
+
+    private static final String INSERTED_EMAIL_SUFFIX = "@insert.bench";
+
+    @Param({"jpa", "mybatis"})
+    public String backend;
+
+    @Param({"1000", "10000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private MemberRepository memberRepository;
+    private IMemberMapper memberMapper;
+    private ProfileRepository profileRepository;
+    private IProfileMapper profileMapper;
+
+    IMember members;
+    IProfile profiles;
+    long[] memberIds;
+
+    private final AtomicLong insertSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(MemberCampusStudyApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("ref")
+                .properties(Map.of(
+                        "spring.datasource.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql", "false",
+                        // 2차 캐시는 JPA에만 있으므로 끄고 두 백엔드의 DB 접근 비용만 비교
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache", "false",
+                        "spring.jpa.properties.hibernate.cache.use_query_cache", "false",
+                        "spring.main.banner-mode", "off",
+                        "logging.level.root", "WARN",
+                        "logging.level.campus.membercampusstudy", "WARN"))
+                .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        memberRepository = context.getBean(MemberRepository.class);
+        memberMapper = context.getBean(IMemberMapper.class);
+        profileRepository = context.getBean(ProfileRepository.class);
+        profileMapper = context.getBean(IProfileMapper.class);
+        if ("jpa".equals(backend)) {
+            members = memberRepository;
+            profiles = profileRepository;
+        } else {
+            members = memberMapper;
+            profiles = profileMapper;
+        }
+        memberIds = SeedData.load(jdbcTemplate, datasetSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(memberIds.length);
+    }
+
+    long randomMemberId() {
+        return memberIds[randomIndex()];
+    }
+
+    // ========== 쓰기 연산 (백엔드별 API가 달라 IMember 밖에서 분기) ==========
+
+    Member newMember() {
+        long seq = insertSequence.incrementAndGet();
+        return Member.builder()
+                .email("member" + seq + INSERTED_EMAIL_SUFFIX)
+                .name("벤치" + seq)
+                .phone("010-9999-0000")
+                .age(30)
+                .gender(Member.Gender.OTHER)
+                .build();
+    }
+
+    Member insertMember(Member member) {
+        if (members == memberRepository) {
+            return memberRepository.save(member);
+        }
+        memberMapper.insertMember(member);
+        return member;
+    }
+
+    /** 컨트롤러의 수정 흐름과 같이 조회 후 이름을 바꿔 저장합니다. */
+    Member renameMember(long id, String name) {
+        if (members == memberRepository) {
+            Member member = memberRepository.findById(id).orElseThrow();
+            member.setName(name);
+            return memberRepository.save(member);
+        }
+        Member member = memberMapper.findMemberById(id);
+        member.setName(name);
+        memberMapper.updateMember(member);
+        return member;
+    }
+
+    void deleteMember(long id) {
+        if (members == memberRepository) {
+            memberRepository.deleteById(id);
+        } else {
+            memberMapper.deleteMember(id);
+        }
+    }
+
+    /** 삭제 벤치마크용 회원을 백엔드와 무관하게 JDBC로 준비합니다. */
+    long prepareDeleteTarget() {
+        Member member = newMember();
+        jdbcTemplate.update("INSERT INTO member (email, name, phone, age, gender) VALUES (?, ?, ?, ?, ?)",
+                member.getEmail(), member.getName(), member.getPhone(), member.getAge(), member.getGender().name());
+        return jdbcTemplate.queryForObject("SELECT id FROM member WHERE email = ?", Long.class, member.getEmail());
+    }
+
+    Profile insertProfile(long memberId) {
+        Profile profile = Profile.createWithMemberId(memberId, "벤치" + memberId, "벤치", null,
+                "00000", "벤치 주소", null, null, null);
+        if (profiles == profileRepository) {
+            return profileRepository.save(profile);
+        }
+        profileMapper.insertProfile(profile);
+        return profile;
+    }
+
+    /** 컨트롤러의 수정 흐름과 같이 조회 후 닉네임을 바꿔 저장합니다. */
+    Profile renameProfile(long memberId, String nickname) {
+        if (profiles == profileRepository) {
+            Profile profile = profileRepository.findByMemberId(memberId).orElseThrow();
+            profile.setNickname(nickname);
+            return profileRepository.save(profile);
+        }
+        Profile profile = profileMapper.findProfileByMemberId(memberId);
+        profile.setNickname(nickname);
+        profileMapper.updateProfile(profile);
+        return profile;
+    }
+
+    /** 회원 ID로 프로필을 삭제합니다 (JPA는 트랜잭션이 필요한 파생 삭제 대신 조회 후 CRUD 삭제). */
+    void deleteProfile(long memberId) {
+        if (profiles == profileRepository) {
+            profileRepository.findByMemberId(memberId).ifPresent(profileRepository::delete);
+        } else {
+            profileMapper.deleteProfileByMemberId(memberId);
+        }
+    }
+
+    /** 프로필 등록 벤치마크용으로 프로필 없는 회원을 JDBC로 준비합니다 (정리는 {@link #deleteInsertedMembers()}). */
+    long prepareProfileOwner() {
+        return prepareDeleteTarget();
+    }
+
+    /** 프로필 삭제 벤치마크용 회원과 프로필을 백엔드와 무관하게 JDBC로 준비합니다. */
+    long prepareProfileDeleteTarget() {
+        long memberId = prepareDeleteTarget();
+        jdbcTemplate.update("INSERT INTO profile (member_id, nickname, name) VALUES (?, ?, ?)",
+                memberId, "삭제" + memberId, "벤치");
+        return memberId;
+    }
+
+    /** 등록 벤치마크로 늘어난 행을 지워 반복(iteration) 간 데이터셋 크기를 유지합니다 (프로필은 CASCADE로 함께 삭제). */
+    void deleteInsertedMembers() {
+        jdbcTemplate.update("DELETE FROM member WHERE email LIKE ?", "%" + INSERTED_EMAIL_SUFFIX);
+    }
+}
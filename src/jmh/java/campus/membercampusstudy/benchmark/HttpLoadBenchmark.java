@@ -0,0 +1,131 @@
+package campus.membercampusstudy.benchmark;
+
+import campus.membercampusstudy.MemberCampusStudyApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 벤치마크 - 플랫폼 스레드와 가상 스레드 모드 비교
+ * <p>
+ * 애플리케이션을 임의 포트로 띄우고 {@value #CLIENTS}개의 동시 클라이언트가 요청을 보냅니다.
+ * 동시 요청 수가 Tomcat 기본 작업 스레드 수(200)보다 많으므로 플랫폼 모드에서는 스레드 대기가,
+ * 가상 스레드 모드에서는 커넥션 풀({@code spring.datasource.hikari.maximum-pool-size}) 대기가 드러납니다.
+ * 그 대기를 재려는 것이므로 동시 처리 한도({@code member.concurrency-limit.enabled})는 끄고 실행합니다
+ * (켜 두면 한도를 넘는 대부분의 요청이 503으로 바로 거절되어 거절 속도를 재게 됨).
+ * <ul>
+ *   <li>{@code threads} - platform 또는 virtual ({@code spring.threads.virtual.enabled})</li>
+ *   <li>{@code backend} - jpa 또는 mybatis 컨트롤러</li>
+ *   <li>처리량은 Throughput, p99 등 지연 분포는 SampleTime 결과의 백분위로 확인</li>
+ * </ul>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=HttpLoad}
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(HttpLoadBenchmark.CLIENTS)
+@State(Scope.Benchmark)
+public class HttpLoadBenchmark {
+
+    static final int CLIENTS = 256;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"jpa", "mybatis"})
+    public String backend;
+
+    @Param({"10000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private long[] memberIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(MemberCampusStudyApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles("ref")
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.threads.virtual.enabled", String.valueOf("virtual".equals(threads)),
+                        "member.concurrency-limit.enabled", "false",
+                        "spring.datasource.url", "jdbc:h2:mem:httpbench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql", "false",
+                        "spring.main.banner-mode", "off",
+                        "logging.level.root", "WARN",
+                        "logging.level.campus.membercampusstudy", "WARN"))
+                .run();
+        memberIds = SeedData.load(context.getBean(JdbcTemplate.class), datasetSize);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/" + backend + "/members/";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        client.close();
+        context.close();
+    }
+
+    /** 캐시를 거치지 않는 조인 조회 1건 */
+    @Benchmark
+    public int readMemberWithProfile() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + randomMemberId() + "/full")).GET().build());
+    }
+
+    /** 프로필 저장 - 등록/수정을 MERGE 한 문장으로 처리 ({@code ProfileUpserts}, 회원 확인/기존 프로필 조회 없음) */
+    @Benchmark
+    public int saveProfile() throws IOException, InterruptedException {
+        long memberId = randomMemberId();
+        String body = "{\"nickname\":\"부하" + memberId + "\",\"name\":\"부하테스트\",\"postalCode\":\"00000\"}";
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + memberId + "/profile"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status >= 500) {
+            throw new IllegalStateException("서버 오류 응답: " + status + " " + request.uri());
+        }
+        return status;
+    }
+
+    private long randomMemberId() {
+        return memberIds[ThreadLocalRandom.current().nextInt(memberIds.length)];
+    }
+}
@@ -0,0 +1,72 @@
+package campus.membercampusstudy.benchmark;
+
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.entity.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IMember 조회 연산 벤치마크
+ * <p>
+ * 같은 메서드를 {@code backend=jpa|mybatis}로 실행해 처리량(ops/ms)과 평균 시간(ms/op)을 비교합니다.
+ * 할당률은 {@code ./gradlew jmh}가 붙이는 gc 프로파일러 결과({@code gc.alloc.rate.norm})로 확인합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberReadBenchmark {
+
+    @Benchmark
+    public Optional<Member> findByEmail(BackendState state) {
+        return state.members.findByEmail(BackendState.email(state.randomIndex()));
+    }
+
+    @Benchmark
+    public boolean existsByEmail(BackendState state) {
+        return state.members.existsByEmail(BackendState.email(state.randomIndex()));
+    }
+
+    @Benchmark
+    public List<Member> findByNameContaining(BackendState state) {
+        return state.members.findByNameContaining(BackendState.NAME_KEYWORD);
+    }
+
+    @Benchmark
+    public List<Member> findByAgeBetween(BackendState state) {
+        return state.members.findByAgeBetween(BackendState.AGE_FROM, BackendState.AGE_TO);
+    }
+
+    @Benchmark
+    public List<Member> findByGender(BackendState state) {
+        return state.members.findByGender(Member.Gender.OTHER);
+    }
+
+    @Benchmark
+    public List<Member> findMembersAfter(BackendState state) {
+        return state.members.findMembersAfter(state.randomMemberId(), 20);
+    }
+
+    @Benchmark
+    public Optional<MemberWithProfile> findMemberWithProfile(BackendState state) {
+        return state.members.findMemberWithProfile(state.randomMemberId());
+    }
+
+    @Benchmark
+    public List<MemberWithProfile> findMembersWithProfileAfter(BackendState state) {
+        return state.members.findMembersWithProfileAfter(state.randomMemberId(), 20);
+    }
+}
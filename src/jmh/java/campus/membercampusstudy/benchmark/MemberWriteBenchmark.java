@@ -0,0 +1,71 @@
+package campus.membercampusstudy.benchmark;
+
+import campus.membercampusstudy.entity.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 등록/수정/삭제 벤치마크
+ * <p>
+ * 등록으로 늘어난 행은 반복(iteration)마다 정리하고, 삭제 대상은 호출마다 JDBC로 미리 만들어 두므로
+ * 측정 구간에는 백엔드의 쓰기 경로만 포함됩니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see MemberReadBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberWriteBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class InsertCleanup {
+
+        @TearDown(Level.Iteration)
+        public void cleanup(BackendState state) {
+            state.deleteInsertedMembers();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteTarget {
+
+        long id;
+
+        // Level.Invocation 준비 비용은 측정에서 제외되며, 호출당 수십 µs 이상인 DB 연산에서는 타이머 오차가 무시할 만합니다
+        @Setup(Level.Invocation)
+        public void prepare(BackendState state) {
+            id = state.prepareDeleteTarget();
+        }
+    }
+
+    @Benchmark
+    public Member insertMember(BackendState state, InsertCleanup cleanup) {
+        return state.insertMember(state.newMember());
+    }
+
+    @Benchmark
+    public Member updateMember(BackendState state) {
+        return state.renameMember(state.randomMemberId(), "수정" + System.nanoTime() % 1000);
+    }
+
+    @Benchmark
+    public void deleteMember(BackendState state, DeleteTarget target) {
+        state.deleteMember(target.id);
+    }
+}
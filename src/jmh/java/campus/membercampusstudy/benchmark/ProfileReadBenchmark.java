@@ -0,0 +1,54 @@
+package campus.membercampusstudy.benchmark;
+
+import campus.membercampusstudy.entity.Profile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IProfile 조회 연산 벤치마크
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see MemberReadBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfileReadBenchmark {
+
+    @Benchmark
+    public Optional<Profile> findByMemberId(BackendState state) {
+        return state.profiles.findByMemberId(state.randomMemberId());
+    }
+
+    @Benchmark
+    public boolean existsByMemberId(BackendState state) {
+        return state.profiles.existsByMemberId(state.randomMemberId());
+    }
+
+    @Benchmark
+    public List<Profile> findByNicknameContaining(BackendState state) {
+        return state.profiles.findByNicknameContaining("닉네임" + state.randomIndex());
+    }
+
+    @Benchmark
+    public List<Profile> findByAddressContaining(BackendState state) {
+        return state.profiles.findByAddressContaining(BackendState.ADDRESS_KEYWORD);
+    }
+
+    @Benchmark
+    public List<Profile> findByPostalCode(BackendState state) {
+        return state.profiles.findByPostalCode(BackendState.postalCode(state.randomIndex()));
+    }
+}
@@ -0,0 +1,81 @@
+package campus.membercampusstudy.benchmark;
+
+import campus.membercampusstudy.entity.Profile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 등록/수정/삭제 벤치마크
+ * <p>
+ * 등록 대상(프로필 없는 회원)과 삭제 대상(회원 + 프로필)은 호출마다 JDBC로 미리 만들고
+ * 반복(iteration)마다 정리하므로 측정 구간에는 백엔드의 쓰기 경로만 포함됩니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see MemberWriteBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfileWriteBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Cleanup {
+
+        @TearDown(Level.Iteration)
+        public void cleanup(BackendState state) {
+            state.deleteInsertedMembers();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class InsertTarget {
+
+        long memberId;
+
+        @Setup(Level.Invocation)
+        public void prepare(BackendState state) {
+            memberId = state.prepareProfileOwner();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteTarget {
+
+        long memberId;
+
+        @Setup(Level.Invocation)
+        public void prepare(BackendState state) {
+            memberId = state.prepareProfileDeleteTarget();
+        }
+    }
+
+    @Benchmark
+    public Profile insertProfile(BackendState state, InsertTarget target, Cleanup cleanup) {
+        return state.insertProfile(target.memberId);
+    }
+
+    @Benchmark
+    public Profile updateProfile(BackendState state) {
+        return state.renameProfile(state.randomMemberId(), "수정" + System.nanoTime() % 1000);
+    }
+
+    @Benchmark
+    public void deleteProfile(BackendState state, DeleteTarget target, Cleanup cleanup) {
+        state.deleteProfile(target.memberId);
+    }
+}
@@ -0,0 +1,70 @@
+package campus.membercampusstudy.benchmark;
+
+import campus.membercampusstudy.entity.Member;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 시드 데이터
+ * <p>
+ * {@code data.sql} 샘플 데이터를 지우고 지정한 수의 회원과 프로필(회원당 1개)을 JDBC 배치로 적재합니다.
+ * <ul>
+ *   <li>이름: 성 10종 순환 - {@link #NAME_KEYWORD} 검색 시 약 10% 일치</li>
+ *   <li>나이: 20~69세 균등 - {@link #AGE_FROM}~{@link #AGE_TO} 범위 약 6%</li>
+ *   <li>성별: MALE/FEMALE/OTHER 순환</li>
+ *   <li>우편번호: 500종 순환, 주소: 도시 8종 순환</li>
+ * </ul>
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+final class SeedData {
+
+    static final String NAME_KEYWORD = "김";
+    static final int AGE_FROM = 30;
+    static final int AGE_TO = 32;
+    static final String ADDRESS_KEYWORD = "부산";
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] CITIES = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종"};
+    private static final Member.Gender[] GENDERS = Member.Gender.values();
+
+    private SeedData() {
+    }
+
+    /**
+     * 데이터셋을 적재하고 회원 ID를 오름차순으로 반환합니다.
+     */
+    static long[] load(JdbcTemplate jdbcTemplate, int size) {
+        // profile은 ON DELETE CASCADE로 함께 삭제
+        jdbcTemplate.update("DELETE FROM member");
+        List<Object[]> memberRows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            memberRows.add(new Object[]{
+                    email(i), SURNAMES[i % SURNAMES.length] + "회원" + i, "010-0000-" + String.format("%04d", i % 10000),
+                    20 + i % 50, GENDERS[i % GENDERS.length].name()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (email, name, phone, age, gender) VALUES (?, ?, ?, ?, ?)", memberRows);
+        long[] memberIds = jdbcTemplate.queryForList("SELECT id FROM member ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        List<Object[]> profileRows = new ArrayList<>(size);
+        for (int i = 0; i < memberIds.length; i++) {
+            profileRows.add(new Object[]{
+                    memberIds[i], "닉네임" + i, SURNAMES[i % SURNAMES.length] + "회원" + i, postalCode(i),
+                    CITIES[i % CITIES.length] + " " + (i % 100) + "번길"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO profile (member_id, nickname, name, postal_code, address) VALUES (?, ?, ?, ?, ?)", profileRows);
+        return memberIds;
+    }
+
+    static String email(int index) {
+        return "user" + index + "@seed.bench";
+    }
+
+    static String postalCode(int index) {
+        return String.format("%05d", index % 500);
+    }
+}
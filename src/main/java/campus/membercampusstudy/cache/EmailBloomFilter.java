@@ -0,0 +1,193 @@
+package campus.membercampusstudy.cache;
+
+import campus.membercampusstudy.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 등록된 이메일 Bloom 필터
+ * <p>
+ * 이메일 중복 확인 앞단에서 "확실히 없음"을 판정해 DB 조회를 생략합니다.
+ * {@link #mightContain(String)}이 false면 등록되지 않은 이메일이고, true면 DB로 다시 확인해야 합니다.
+ * <ul>
+ *   <li>애플리케이션 기동 후 {@code member} 테이블 전체 이메일로 생성, 생성 전에는 항상 true (DB 확인)</li>
+ *   <li>회원 등록/이메일 변경 시 {@link #add(String)}로 즉시 반영</li>
+ *   <li>Bloom 필터는 제거를 지원하지 않으므로 삭제된 이메일은 주기적 재생성({@code member.email-filter.rebuild-interval})으로 정리</li>
+ *   <li>오탐률은 {@code member.email-filter.false-positive-rate}, 최소 용량은 {@code member.email-filter.expected-insertions}로 지정</li>
+ * </ul>
+ * 재생성 중 등록된 이메일은 기존 필터와 새 필터 모두에 기록되므로 교체 시점에 누락되지 않습니다.
+ * 필터에 없는 이메일은 DB 확인 없이 미등록으로 판정하므로, 재생성은 복제본이 아닌 주 DB의 이메일로 합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /** 조회에 사용하는 필터 (최초 생성 전에는 null) */
+    private volatile BitFilter active;
+    /** 재생성 중인 필터 (재생성 중이 아니면 null) */
+    private volatile BitFilter rebuilding;
+
+    public EmailBloomFilter(MemberRepository memberRepository, PlatformTransactionManager transactionManager,
+                            @Value("${member.email-filter.expected-insertions:100000}") long expectedInsertions,
+                            @Value("${member.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("member.email-filter.false-positive-rate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        this.memberRepository = memberRepository;
+        // 읽기 전용으로 지정하면 복제본에서 읽어 지연 중인 최근 가입 이메일이 빠질 수 있으므로 주 DB에서 읽음
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 이메일이 등록되어 있을 가능성이 있는지 확인합니다.
+     *
+     * @return false면 확실히 미등록, true면 DB 확인 필요
+     */
+    public boolean mightContain(String email) {
+        BitFilter filter = active;
+        return filter == null || email == null || filter.mightContain(email);
+    }
+
+    /**
+     * 등록된 이메일을 필터에 추가합니다 (DB 반영 후 호출).
+     */
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        // rebuilding을 먼저 읽어야 교체(active 설정 후 rebuilding 해제) 직후에도 새 필터에 기록됨
+        BitFilter next = rebuilding;
+        BitFilter current = active;
+        if (next != null) {
+            next.put(email);
+        }
+        if (current != null && current != next) {
+            current.put(email);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 전체 이메일로 새 필터를 만들어 교체합니다.
+     * <p>
+     * 이미 재생성 중이면 건너뜁니다. 실패 시 기존 필터를 그대로 사용합니다.
+     */
+    @Scheduled(fixedDelayString = "${member.email-filter.rebuild-interval:10m}",
+               initialDelayString = "${member.email-filter.rebuild-interval:10m}")
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            log.debug("이메일 필터 재생성이 이미 진행 중");
+            return;
+        }
+        try {
+            // 다음 재생성까지 늘어날 회원을 감안해 현재 건수의 두 배로 용량 산정
+            BitFilter next = new BitFilter(Math.max(expectedInsertions, memberRepository.count() * 2), falsePositiveRate);
+            rebuilding = next;
+            Long loaded = transactionTemplate.execute(status -> {
+                long count = 0;
+                try (Stream<String> emails = memberRepository.streamAllEmails()) {
+                    for (Iterator<String> it = emails.iterator(); it.hasNext(); count++) {
+                        next.put(it.next());
+                    }
+                }
+                return count;
+            });
+            active = next;
+            log.info("이메일 필터 생성 완료 - 이메일: {}건, 비트: {}, 해시: {}개", loaded, next.numBits, next.numHashes);
+        } catch (DataAccessException e) {
+            log.warn("이메일 필터 생성 실패 - 기존 필터 유지: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 고정 크기 비트 배열 Bloom 필터
+     * <p>
+     * 64비트 해시 두 개를 조합(h1 + i * h2)해 k개의 위치를 구합니다. 비트 설정은 CAS로 처리해 잠금 없이 동시 사용할 수 있습니다.
+     */
+    private static final class BitFilter {
+
+        private final AtomicLongArray words;
+        private final long numBits;
+        private final int numHashes;
+
+        BitFilter(long capacity, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (bits + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.numBits = (long) wordCount * 64;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * ln2));
+        }
+
+        void put(String value) {
+            long h1 = hash(value);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+                long mask = 1L << bit;
+                int index = (int) (bit >>> 6);
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.weakCompareAndSetVolatile(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+        }
+
+        boolean mightContain(String value) {
+            long h1 = hash(value);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 후 SplitMix64 마무리 혼합
+        private static long hash(String value) {
+            long h = 0xCBF29CE484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                h = (h ^ value.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
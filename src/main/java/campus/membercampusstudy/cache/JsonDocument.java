@@ -0,0 +1,38 @@
+package campus.membercampusstudy.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 미리 직렬화한 JSON 문서
+ * <p>
+ * 응답 본문으로 그대로 쓸 UTF-8 JSON과, 직렬화한 엔티티의 {@code updated_at}을 함께 담습니다.
+ * {@code (id, updatedAt)}이 문서의 버전이며 ETag/Last-Modified도 이 값으로 만듭니다.
+ *
+ * @param body UTF-8 JSON 바이트 (변경 금지)
+ * @param updatedAt 직렬화 시점 엔티티의 최종 수정 시각 (없으면 null)
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record JsonDocument(byte[] body, LocalDateTime updatedAt) {
+
+    /**
+     * 엔티티를 HTTP 응답과 같은 {@link ObjectMapper}로 직렬화합니다.
+     *
+     * @param value 직렬화할 엔티티 (null이면 null 반환 - 캐시하지 않음)
+     * @param updatedAt 엔티티의 최종 수정 시각 추출 함수
+     */
+    public static <T> JsonDocument encode(ObjectMapper objectMapper, T value, Function<T, LocalDateTime> updatedAt) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new JsonDocument(objectMapper.writeValueAsBytes(value), updatedAt.apply(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 직렬화 실패: " + value.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package campus.membercampusstudy.cache;
+
+import campus.membercampusstudy.dto.CacheStatsResponse;
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.support.ReadYourWritesInterceptor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 회원/프로필 조회 read-through 캐시
+ * <p>
+ * JPA와 MyBatis 컨트롤러가 함께 사용하는 단일 캐시입니다. 두 백엔드는 같은 테이블을 읽으므로
+ * 한쪽에서 쓰기가 일어나면 어느 백엔드로 적재된 항목이든 함께 무효화됩니다.
+ * <ul>
+ *   <li>최대 항목 수({@code member.cache.maximum-size})와 TTL({@code member.cache.expire-after-write})로 제거</li>
+ *   <li>조회 결과가 없으면(null) 캐시하지 않음 - 이후 등록된 회원이 바로 보이도록</li>
+ *   <li>쓰기 경로는 DB 반영 후 {@code evict*}를 호출 - 적재 중인 항목도 제거되며, 그 적재 결과는 캐시에 남지 않음</li>
+ * </ul>
+ * 같은 키의 동시 조회는 먼저 등록한 적재 하나만 DB를 조회하고 나머지는 그 결과를 기다립니다.
+ * 적재는 캐시 내부 잠금({@code ConcurrentHashMap.compute}의 synchronized) 밖에서 호출 스레드가 실행하므로
+ * 가상 스레드 모드에서도 JDBC 호출 동안 캐리어 스레드가 고정(pinning)되지 않습니다.
+ * <p>
+ * 자주 조회되는 회원/프로필 단건 응답은 엔티티 대신 직렬화된 JSON({@link JsonDocument})으로도 캐시합니다.
+ * 적중 시 엔티티 생성과 Jackson 직렬화 없이 바이트를 그대로 응답하며, 같은 {@code evict*} 호출로 함께 무효화됩니다.
+ * 조건부 GET은 캐시된 문서의 {@code updatedAt}만으로 304를 결정하므로, 회원/프로필 행을 바꾸는 모든 쓰기 경로
+ * (컨트롤러의 수정/삭제, 일괄 삭제, write-behind 기록)는 커밋 후 반드시 {@code evict*}를 호출해야 합니다.
+ * <p>
+ * {@code evict*}는 Hibernate 2차 캐시({@link SecondLevelCache})도 함께 무효화하므로,
+ * MyBatis처럼 Hibernate를 거치지 않은 쓰기 후에도 JPA 조회가 이전 값을 읽지 않습니다.
+ * <p>
+ * 캐시 적재는 복제본에서 읽을 수 있으므로 읽기 일관성을 위해 두 가지를 지킵니다.
+ * <ul>
+ *   <li>주 DB에 고정된 요청({@link ReadYourWritesInterceptor#isPinnedToPrimary()})은 캐시를 거치지 않고 바로 적재 함수를 호출</li>
+ *   <li>무효화 직후 지연된 복제본에서 이전 행이 다시 적재될 수 있으므로, 복제 지연 시간
+ *       ({@code member.datasource.replica.read-your-writes-window})이 지나면 같은 항목을 한 번 더 무효화</li>
+ * </ul>
+ * 고정이 끝난 뒤에는 두 번째 무효화가 끝난 캐시를 읽으므로, 쓴 클라이언트가 이전 값을 다시 보지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Component
+public class MemberLookupCache {
+
+    private final AsyncCache<Long, Member> membersById;
+    private final AsyncCache<String, Member> membersByEmail;
+    // 회원 ID → 이메일 캐시 키 (무효화 시 이메일 캐시를 훑지 않기 위한 색인, 이메일 캐시 항목과 함께 제거)
+    private final Map<Long, String> emailKeysById = new ConcurrentHashMap<>();
+    // 적재 중인 이메일 키 - 어느 회원인지 아직 모르므로 무효화 시 함께 제거
+    private final Set<String> loadingEmails = ConcurrentHashMap.newKeySet();
+    private final AsyncCache<Long, Profile> profilesByMemberId;
+    private final AsyncCache<Long, JsonDocument> memberJsonById;
+    private final AsyncCache<Long, JsonDocument> profileJsonByMemberId;
+    private final SecondLevelCache secondLevelCache;
+    // 복제 지연 후 두 번째 무효화 (복제본을 쓰지 않으면 null)
+    private final Executor delayedEviction;
+
+    public MemberLookupCache(SecondLevelCache secondLevelCache,
+                             @Value("${member.cache.maximum-size:10000}") long maximumSize,
+                             @Value("${member.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                             @Value("${member.datasource.replica.enabled:true}") boolean replicaEnabled,
+                             @Value("${member.datasource.replica.read-your-writes-window:2s}") Duration replicaLag) {
+        this.secondLevelCache = secondLevelCache;
+        this.delayedEviction = replicaEnabled
+                ? CompletableFuture.delayedExecutor(replicaLag.toMillis(), TimeUnit.MILLISECONDS)
+                : null;
+        this.membersById = newCache(maximumSize, expireAfterWrite);
+        this.membersByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .<String, Member>evictionListener((email, member, cause) -> {
+                    if (member != null) {
+                        emailKeysById.remove(member.getId(), email);
+                    }
+                })
+                .buildAsync();
+        this.profilesByMemberId = newCache(maximumSize, expireAfterWrite);
+        this.memberJsonById = newCache(maximumSize, expireAfterWrite);
+        this.profileJsonByMemberId = newCache(maximumSize, expireAfterWrite);
+    }
+
+    private static <K, V> AsyncCache<K, V> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시에 없으면 호출 스레드에서 {@code loader}를 실행해 적재합니다.
+     * <p>
+     * null이나 예외로 끝난 적재는 Caffeine이 항목을 자동으로 제거합니다.
+     * 주 DB에 고정된 요청은 캐시를 읽지도 채우지도 않습니다.
+     */
+    private static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        if (ReadYourWritesInterceptor.isPinnedToPrimary()) {
+            return loader.apply(key);
+        }
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.join();
+        }
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> prior = cache.asMap().putIfAbsent(key, loading);
+        if (prior != null) {
+            return prior.join();
+        }
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * ID로 회원을 조회합니다. 캐시에 없으면 {@code loader}로 적재합니다.
+     *
+     * @return 회원, 없으면 null
+     */
+    public Member getMember(Long id, Function<Long, Member> loader) {
+        return get(membersById, id, loader);
+    }
+
+    /**
+     * 이메일로 회원을 조회합니다. 캐시에 없으면 {@code loader}로 적재합니다.
+     *
+     * @return 회원, 없으면 null
+     */
+    public Member getMemberByEmail(String email, Function<String, Member> loader) {
+        if (ReadYourWritesInterceptor.isPinnedToPrimary()) {
+            return loader.apply(email);
+        }
+        return get(membersByEmail, email, key -> {
+            loadingEmails.add(key);
+            try {
+                Member member = loader.apply(key);
+                // 적재 목록에서 빠지기 전에 색인에 올려 두어야 그 사이의 무효화가 이 항목을 찾을 수 있음
+                if (member != null) {
+                    emailKeysById.put(member.getId(), key);
+                }
+                return member;
+            } finally {
+                loadingEmails.remove(key);
+            }
+        });
+    }
+
+    /**
+     * 회원 ID로 프로필을 조회합니다. 캐시에 없으면 {@code loader}로 적재합니다.
+     *
+     * @return 프로필, 없으면 null
+     */
+    public Profile getProfile(Long memberId, Function<Long, Profile> loader) {
+        return get(profilesByMemberId, memberId, loader);
+    }
+
+    /**
+     * ID로 회원 JSON 문서를 조회합니다. 캐시에 없으면 {@code loader}로 적재합니다.
+     *
+     * @return 직렬화된 회원, 없으면 null
+     */
+    public JsonDocument getMemberJson(Long id, Function<Long, JsonDocument> loader) {
+        return get(memberJsonById, id, loader);
+    }
+
+    /**
+     * 회원 ID로 프로필 JSON 문서를 조회합니다. 캐시에 없으면 {@code loader}로 적재합니다.
+     *
+     * @return 직렬화된 프로필, 없으면 null
+     */
+    public JsonDocument getProfileJson(Long memberId, Function<Long, JsonDocument> loader) {
+        return get(profileJsonByMemberId, memberId, loader);
+    }
+
+    /**
+     * 적재가 끝난 회원 JSON 문서만 확인합니다 (적재하지 않고 통계에도 반영하지 않음).
+     *
+     * @return 캐시된 문서, 없거나 적재 중이거나 주 DB에 고정된 요청이면 null
+     */
+    public JsonDocument peekMemberJson(Long id) {
+        return peek(memberJsonById, id);
+    }
+
+    /**
+     * 적재가 끝난 프로필 JSON 문서만 확인합니다 (적재하지 않고 통계에도 반영하지 않음).
+     *
+     * @return 캐시된 문서, 없거나 적재 중이거나 주 DB에 고정된 요청이면 null
+     */
+    public JsonDocument peekProfileJson(Long memberId) {
+        return peek(profileJsonByMemberId, memberId);
+    }
+
+    private static <K, V> V peek(AsyncCache<K, V> cache, K key) {
+        if (ReadYourWritesInterceptor.isPinnedToPrimary()) {
+            return null;
+        }
+        CompletableFuture<V> cached = cache.asMap().get(key);
+        return cached != null && cached.isDone() && !cached.isCompletedExceptionally() ? cached.join() : null;
+    }
+
+    /**
+     * 회원 항목을 무효화합니다 (회원 수정/삭제 후 호출).
+     * <p>
+     * 이메일 캐시는 적재 시 기록한 회원 ID → 이메일 색인으로 찾아 제거하므로 캐시 크기와 무관하게 처리되며,
+     * 이메일이 변경된 경우에도 이전 이메일 항목이 제거됩니다.
+     * 적재 중인 이메일 항목은 어느 회원인지 알 수 없으므로 함께 제거합니다 (동시 적재 수만큼만 확인).
+     */
+    public void evictMember(Long id) {
+        evictMemberEntries(id);
+        afterReplicaLag(() -> evictMemberEntries(id));
+    }
+
+    private void evictMemberEntries(Long id) {
+        membersById.asMap().remove(id);
+        memberJsonById.asMap().remove(id);
+        evictEmailKey(id);
+        evictLoadingEmails();
+        secondLevelCache.evictMember(id);
+    }
+
+    private void evictEmailKey(Long id) {
+        String email = emailKeysById.remove(id);
+        if (email != null) {
+            membersByEmail.asMap().remove(email);
+        }
+    }
+
+    private void evictLoadingEmails() {
+        for (String email : loadingEmails) {
+            membersByEmail.asMap().remove(email);
+        }
+    }
+
+    /**
+     * 회원 목록성 캐시를 무효화합니다 (Hibernate를 거치지 않은 회원 등록 후 호출).
+     * <p>
+     * 단건 캐시는 조회 결과가 없으면 캐시하지 않으므로, 성별 조회처럼 목록을 담은 2차 캐시 쿼리만 대상입니다.
+     */
+    public void evictMemberQueries() {
+        secondLevelCache.evictMemberQueries();
+        afterReplicaLag(secondLevelCache::evictMemberQueries);
+    }
+
+    /**
+     * 여러 회원의 회원/프로필 항목을 한 번에 무효화합니다 (일괄 삭제 후 호출).
+     * <p>
+     * 이메일 캐시는 회원 ID → 이메일 색인으로 회원마다 한 항목씩 제거합니다.
+     */
+    public void evictMembers(Collection<Long> ids) {
+        Set<Long> idSet = Set.copyOf(ids);
+        evictMembersEntries(idSet);
+        afterReplicaLag(() -> evictMembersEntries(idSet));
+    }
+
+    private void evictMembersEntries(Set<Long> idSet) {
+        for (Long id : idSet) {
+            membersById.asMap().remove(id);
+            profilesByMemberId.asMap().remove(id);
+            memberJsonById.asMap().remove(id);
+            profileJsonByMemberId.asMap().remove(id);
+            evictEmailKey(id);
+        }
+        evictLoadingEmails();
+        secondLevelCache.evictMembers(idSet);
+    }
+
+    /**
+     * 프로필 항목을 무효화합니다 (프로필 등록/수정 또는 회원 삭제 후 호출).
+     */
+    public void evictProfile(Long memberId) {
+        evictProfileEntries(memberId);
+        afterReplicaLag(() -> evictProfileEntries(memberId));
+    }
+
+    private void evictProfileEntries(Long memberId) {
+        profilesByMemberId.asMap().remove(memberId);
+        profileJsonByMemberId.asMap().remove(memberId);
+        secondLevelCache.evictProfile(memberId);
+    }
+
+    private void afterReplicaLag(Runnable eviction) {
+        if (delayedEviction != null) {
+            delayedEviction.execute(eviction);
+        }
+    }
+
+    /**
+     * 캐시별 적중/실패/제거 통계를 반환합니다.
+     */
+    public List<CacheStatsResponse> stats() {
+        return List.of(
+                CacheStatsResponse.of("membersById", membersById.synchronous()),
+                CacheStatsResponse.of("membersByEmail", membersByEmail.synchronous()),
+                CacheStatsResponse.of("profilesByMemberId", profilesByMemberId.synchronous()),
+                CacheStatsResponse.of("memberJsonById", memberJsonById.synchronous()),
+                CacheStatsResponse.of("profileJsonByMemberId", profileJsonByMemberId.synchronous()));
+    }
+}
@@ -0,0 +1,344 @@
+package campus.membercampusstudy.cache;
+
+import campus.membercampusstudy.dto.PendingProfile;
+import campus.membercampusstudy.dto.ProfileDeadLetter;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.mapper.IProfileMapper;
+import campus.membercampusstudy.mapper.MapperBatchExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로필 저장 write-behind 버퍼
+ * <p>
+ * 편집 중 자동 저장처럼 같은 회원의 프로필 저장이 짧은 간격으로 반복될 때,
+ * 회원별 슬롯에 최신 상태만 남겨 두었다가 모아서 JDBC 배치로 기록합니다.
+ * {@code member.profile.write-behind.enabled=true}일 때만 사용됩니다 (기본 꺼짐).
+ * <ul>
+ *   <li>기록 시점: {@code member.profile.write-behind.flush-interval}마다 전용 스레드에서, 또는 대기 건수가
+ *       {@code member.profile.write-behind.batch-size}에 도달하면 저장 요청 스레드가 즉시
+ *       (공용 {@code @Scheduled} 스레드를 쓰지 않으므로 필터 재생성/통계 재집계가 길어져도 밀리지 않음)</li>
+ *   <li>기록 방식: {@link IProfileMapper#mergeProfile(Profile)}를 BATCH executor로 실행 (배치 크기 단위 트랜잭션)</li>
+ *   <li>조회: 프로필 조회는 {@link #pending(Long)}/{@link #accepted(Long)}를 먼저 확인해 아직 기록되지 않은 저장도 보이게 함</li>
+ *   <li>종료: 애플리케이션 종료 시 남은 항목을 모두 기록하고, 이후 저장은 버퍼를 거치지 않음</li>
+ * </ul>
+ * 배치가 실패하면 항목별로 다시 기록합니다. 일시적 오류(커넥션, 잠금, 타임아웃)로 실패한 항목은 버퍼에 남겨
+ * 다음 기록 때 다시 시도하고, {@code member.profile.write-behind.max-attempts}번 실패하거나 다시 시도해도 소용없는 오류
+ * (예: 기록 전에 삭제된 회원)면 실패 목록({@link #deadLetters()})으로 옮깁니다. 실패 목록은 최근
+ * {@value #MAX_DEAD_LETTERS}건까지 보관합니다.
+ * 기록 후에는 조회 캐시를 먼저 무효화하고 슬롯을 비우므로, 조회가 DB와 버퍼 사이의 빈틈에서 이전 값을 읽지 않습니다.
+ * <p>
+ * 버퍼를 거치지 않는 프로필 쓰기(부분 수정, Form 등록)는 {@link #flush(Long)}로 대기 중인 저장을 먼저 기록하고,
+ * 회원 삭제(단건, 일괄)는 {@link #discard(Long)}/{@link #discard(Collection)}로 대기 중인 저장을 버립니다.
+ * <p>
+ * 메트릭: {@code profile.write-behind.pending}, {@code profile.write-behind.dead-letters} (게이지),
+ * {@code profile.write-behind.written}, {@code profile.write-behind.retried}, {@code profile.write-behind.dead-lettered} (카운터)
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class ProfileWriteBehindBuffer {
+
+    static final int MAX_DEAD_LETTERS = 1000;
+
+    private final MapperBatchExecutor batchExecutor;
+    private final MemberLookupCache memberLookupCache;
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Map<Long, Entry> pending = new ConcurrentHashMap<>();
+    private final Map<Long, ProfileDeadLetter> deadLetters = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter written;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    public ProfileWriteBehindBuffer(MapperBatchExecutor batchExecutor, MemberLookupCache memberLookupCache,
+                                    @Value("${member.profile.write-behind.enabled:false}") boolean enabled,
+                                    @Value("${member.profile.write-behind.flush-interval:200ms}") Duration flushInterval,
+                                    @Value("${member.profile.write-behind.batch-size:500}") int batchSize,
+                                    @Value("${member.profile.write-behind.max-attempts:5}") int maxAttempts,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        this.batchExecutor = batchExecutor;
+        this.memberLookupCache = memberLookupCache;
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("profile.write-behind.pending", pending, Map::size)
+                    .description("기록 대기 중인 프로필 저장 수").register(registry);
+            Gauge.builder("profile.write-behind.dead-letters", deadLetters, Map::size)
+                    .description("기록에 실패해 보관 중인 프로필 저장 수").register(registry);
+        }
+        this.written = counter(registry, "profile.write-behind.written", "기록한 프로필 저장 수");
+        this.retried = counter(registry, "profile.write-behind.retried", "일시적 오류로 다음 기록에 다시 시도한 수");
+        this.deadLettered = counter(registry, "profile.write-behind.dead-lettered", "기록을 포기하고 실패 목록으로 옮긴 수");
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String description) {
+        return registry == null ? null : Counter.builder(name).description(description).register(registry);
+    }
+
+    private static void increment(Counter counter, int amount) {
+        if (counter != null && amount > 0) {
+            counter.increment(amount);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("profile-write-behind").daemon().factory());
+        long intervalMillis = Math.max(1, flushInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::flushPending, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * write-behind 모드로 동작 중인지 확인합니다.
+     */
+    public boolean isEnabled() {
+        return enabled && !closed;
+    }
+
+    /**
+     * 프로필 저장을 버퍼에 넣습니다. 같은 회원의 대기 중인 저장은 대체됩니다.
+     *
+     * @param profile 저장할 프로필 ({@code memberId} 필수)
+     * @return 접수된 저장, 꺼져 있거나 종료 중이면 null (호출 측이 직접 저장)
+     */
+    public PendingProfile offer(Profile profile) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Entry entry = new Entry(profile, LocalDateTime.now(), 0);
+        pending.put(profile.getMemberId(), entry);
+        deadLetters.remove(profile.getMemberId());
+        if (closed) {
+            // 종료 중 기록과 엇갈려 남은 항목은 직접 기록
+            flush(profile.getMemberId());
+        } else if (pending.size() >= batchSize && flushLock.tryLock()) {
+            try {
+                flushAll();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+        return entry.accepted();
+    }
+
+    /**
+     * 아직 기록되지 않은 프로필 저장을 조회합니다.
+     *
+     * @return 대기 중인 프로필, 없으면 null
+     */
+    public Profile pending(Long memberId) {
+        Entry entry = pending.get(memberId);
+        return entry != null ? entry.profile() : null;
+    }
+
+    /**
+     * 아직 기록되지 않은 프로필 저장을 응답용으로 조회합니다.
+     *
+     * @return 대기 중인 저장, 없으면 null
+     */
+    public PendingProfile accepted(Long memberId) {
+        Entry entry = pending.get(memberId);
+        return entry != null ? entry.accepted() : null;
+    }
+
+    /**
+     * 기록에 실패해 버퍼에서 빠진 저장 목록을 반환합니다 (최근 실패 순).
+     */
+    public List<ProfileDeadLetter> deadLetters() {
+        return deadLetters.values().stream()
+                .sorted((a, b) -> b.failedAt().compareTo(a.failedAt()))
+                .toList();
+    }
+
+    /**
+     * 회원 한 명의 대기 중인 저장을 즉시 기록합니다.
+     */
+    public void flush(Long memberId) {
+        if (pending.containsKey(memberId)) {
+            flushLock.lock();
+            try {
+                Entry entry = pending.get(memberId);
+                if (entry != null) {
+                    write(List.of(entry));
+                }
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 회원의 대기 중인 저장을 기록하지 않고 버립니다 (회원 삭제 시).
+     */
+    public void discard(Long memberId) {
+        pending.remove(memberId);
+    }
+
+    /**
+     * 여러 회원의 대기 중인 저장을 기록하지 않고 버립니다 (회원 일괄 삭제 시).
+     */
+    public void discard(Collection<Long> memberIds) {
+        memberIds.forEach(pending::remove);
+    }
+
+    /**
+     * 대기 중인 저장을 모두 기록합니다. 이미 기록 중이면 건너뜁니다.
+     */
+    void flushPending() {
+        if (pending.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushAll();
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 주기 실행이 멈추므로 기록만 남김
+            log.error("프로필 write-behind 주기 기록 실패", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        flushLock.lock();
+        try {
+            int remaining = pending.size();
+            flushAll();
+            if (remaining > 0) {
+                log.info("프로필 write-behind 종료 - 대기 {}건 기록, 남은 {}건", remaining, pending.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushAll() {
+        List<Entry> chunk = new ArrayList<>(Math.min(batchSize, pending.size()));
+        for (Entry entry : pending.values()) {
+            chunk.add(entry);
+            if (chunk.size() == batchSize) {
+                write(chunk);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk);
+        }
+    }
+
+    private void write(List<Entry> chunk) {
+        List<Profile> profiles = chunk.stream().map(Entry::profile).toList();
+        try {
+            batchExecutor.executeChunk(IProfileMapper.class, profiles, IProfileMapper::mergeProfile);
+            chunk.forEach(this::written);
+        } catch (DataAccessException e) {
+            log.warn("프로필 write-behind 배치 실패 - 항목별 재시도 {}건: {}", chunk.size(), e.getMessage());
+            for (Entry entry : chunk) {
+                try {
+                    batchExecutor.executeChunk(IProfileMapper.class, List.of(entry.profile()), IProfileMapper::mergeProfile);
+                    written(entry);
+                } catch (DataAccessException single) {
+                    failed(entry, single);
+                }
+            }
+        }
+        log.debug("프로필 write-behind 기록 {}건", chunk.size());
+    }
+
+    private void written(Entry entry) {
+        Long memberId = entry.profile().getMemberId();
+        memberLookupCache.evictProfile(memberId);
+        // 기록 중 새 저장이 들어왔으면 그 항목은 다음 기록 대상으로 남김
+        pending.remove(memberId, entry);
+        increment(written, 1);
+    }
+
+    private void failed(Entry entry, DataAccessException e) {
+        Long memberId = entry.profile().getMemberId();
+        int attempts = entry.attempts() + 1;
+        if (isTransient(e) && attempts < maxAttempts && !closed) {
+            // 그사이 새 저장이 들어왔으면 그 항목이 대신 기록되므로 교체하지 않음
+            if (pending.replace(memberId, entry, entry.retried())) {
+                increment(retried, 1);
+            }
+            log.warn("프로필 write-behind 기록 실패 - 다음 기록에 재시도 ({}/{}), Member ID: {}, 에러: {}",
+                    attempts, maxAttempts, memberId, e.getMessage());
+            return;
+        }
+        if (!pending.remove(memberId, entry)) {
+            return;
+        }
+        if (deadLetters.size() >= MAX_DEAD_LETTERS) {
+            deadLetters().stream().skip(MAX_DEAD_LETTERS - 1L)
+                    .forEach(oldest -> deadLetters.remove(oldest.profile().memberId()));
+        }
+        deadLetters.put(memberId, new ProfileDeadLetter(entry.accepted(), attempts, e.getMessage(), LocalDateTime.now()));
+        increment(deadLettered, 1);
+        log.error("프로필 write-behind 기록 포기 - 실패 목록으로 이동, Member ID: {}, 시도: {}회, 에러: {}",
+                memberId, attempts, e.getMessage());
+    }
+
+    private static boolean isTransient(DataAccessException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 대기 중인 저장 (회원별 최신 상태, 접수 시각, 실패 횟수)
+     */
+    private record Entry(Profile profile, LocalDateTime acceptedAt, int attempts) {
+
+        Entry retried() {
+            return new Entry(profile, acceptedAt, attempts + 1);
+        }
+
+        PendingProfile accepted() {
+            return PendingProfile.of(profile, acceptedAt);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package campus.membercampusstudy.cache;
+
+import campus.membercampusstudy.dto.CacheStatsResponse;
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hibernate 2차 캐시 영역 정의와 무효화
+ * <p>
+ * JPA 쓰기는 Hibernate가 영역을 직접 갱신하지만, MyBatis 쓰기나 네이티브 SQL, DB 외래키 CASCADE처럼
+ * Hibernate가 모르는 변경은 {@link MemberLookupCache}의 {@code evict*}를 거쳐 이 클래스로 무효화합니다.
+ * 영역 전체를 비우지 않고 바뀐 항목만 제거합니다.
+ * <ul>
+ *   <li>회원: ID로 엔티티 항목만 제거. 이메일 자연 키 항목은 이전 이메일을 알 수 없으므로 조회 시 검증
+ *       ({@link #evictMemberEmail} - 캐시된 ID가 다른 이메일의 회원이나 삭제된 회원을 가리키면 그 항목만 제거)</li>
+ *   <li>프로필: 회원 ID 자연 키 항목에서 프로필 ID를 찾아 자연 키 항목과 엔티티 항목을 제거</li>
+ *   <li>쿼리 결과 영역(성별, 우편번호): 비우지 않고 테이블 갱신 시각만 올림 - Hibernate가 쓰기 후와 같은 방식으로
+ *       해당 테이블을 읽은 캐시 쿼리만 무효로 판단</li>
+ * </ul>
+ * 영역별 크기와 TTL은 {@code member.cache.l2.*}로 설정하며, 적중률은 {@code hibernate.generate_statistics}가 켜져 있을 때 집계됩니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Component
+public class SecondLevelCache {
+
+    public static final String MEMBER = "member";
+    public static final String MEMBER_EMAIL = "member-email";
+    public static final String MEMBER_BY_GENDER = "member-by-gender";
+    public static final String PROFILE = "profile";
+    public static final String PROFILE_MEMBER_ID = "profile-member-id";
+    public static final String PROFILE_BY_POSTAL_CODE = "profile-by-postal-code";
+
+    /** 엔티티, 자연 키, 쿼리 결과 영역 (갱신 시각 영역 제외) */
+    public static final List<String> REGIONS = List.of(
+            MEMBER, MEMBER_EMAIL, MEMBER_BY_GENDER, PROFILE, PROFILE_MEMBER_ID, PROFILE_BY_POSTAL_CODE);
+
+    private static final String MEMBER_TABLE = "member";
+    private static final String PROFILE_TABLE = "profile";
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public SecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    /**
+     * 회원 엔티티 항목을 제거하고 회원 테이블 갱신 시각을 올립니다.
+     */
+    public void evictMember(Long id) {
+        sessionFactory.getCache().evictEntityData(Member.class, id);
+        withSession(session -> invalidate(session, MEMBER_TABLE));
+    }
+
+    /**
+     * 여러 회원과 그 프로필 항목을 제거하고 회원/프로필 테이블 갱신 시각을 올립니다 (프로필은 외래키 CASCADE로 함께 삭제).
+     */
+    public void evictMembers(Collection<Long> ids) {
+        withSession(session -> {
+            for (Long id : ids) {
+                sessionFactory.getCache().evictEntityData(Member.class, id);
+                evictProfile(session, id);
+            }
+            invalidate(session, MEMBER_TABLE, PROFILE_TABLE);
+        });
+    }
+
+    /**
+     * 회원 테이블 갱신 시각만 올립니다 (Hibernate를 거치지 않은 회원 등록 후).
+     */
+    public void evictMemberQueries() {
+        withSession(session -> invalidate(session, MEMBER_TABLE));
+    }
+
+    /**
+     * 회원의 프로필 자연 키/엔티티 항목을 제거하고 프로필 테이블 갱신 시각을 올립니다.
+     */
+    public void evictProfile(Long memberId) {
+        withSession(session -> {
+            evictProfile(session, memberId);
+            invalidate(session, PROFILE_TABLE);
+        });
+    }
+
+    /**
+     * 이메일 자연 키 항목을 제거합니다.
+     * <p>
+     * 자연 키 조회 결과가 그 이메일의 회원이 아닐 때(이메일 변경, 삭제) 호출해, 캐시된 항목 때문이었으면 제거합니다.
+     *
+     * @return 캐시된 항목이 있어 제거했으면 true
+     */
+    public boolean evictMemberEmail(SharedSessionContractImplementor session, String email) {
+        EntityPersister persister = persister(Member.class);
+        NaturalIdDataAccess naturalIds = persister.getNaturalIdCacheAccessStrategy();
+        Object key = naturalIds.generateCacheKey(email, persister, session);
+        if (naturalIds.get(session, key) == null) {
+            return false;
+        }
+        naturalIds.evict(key);
+        return true;
+    }
+
+    // 프로필 엔티티 키는 프로필 ID이므로 회원 ID 자연 키 항목에 캐시된 ID로 찾음 (엔티티를 적재할 때 자연 키 항목도 함께 캐시됨)
+    private void evictProfile(SharedSessionContractImplementor session, Long memberId) {
+        EntityPersister persister = persister(Profile.class);
+        NaturalIdDataAccess naturalIds = persister.getNaturalIdCacheAccessStrategy();
+        Object key = naturalIds.generateCacheKey(memberId, persister, session);
+        Object profileId = naturalIds.get(session, key);
+        naturalIds.evict(key);
+        if (profileId != null) {
+            sessionFactory.getCache().evictEntityData(Profile.class, profileId);
+        }
+    }
+
+    private EntityPersister persister(Class<?> entityClass) {
+        return sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+    }
+
+    private static void invalidate(SharedSessionContractImplementor session, String... tables) {
+        session.getFactory().getCache().getTimestampsCache().invalidate(tables, session);
+    }
+
+    // 캐시 키 생성과 갱신 시각 기록에만 쓰는 세션 - 커넥션은 얻지 않음
+    private void withSession(Consumer<SharedSessionContractImplementor> action) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            action.accept((SharedSessionContractImplementor) session);
+        }
+    }
+
+    /**
+     * 영역별 적중/실패 통계를 반환합니다. 아직 만들어지지 않은 쿼리 영역은 제외됩니다.
+     */
+    public List<CacheStatsResponse> stats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheStatsResponse> result = new ArrayList<>(REGIONS.size());
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                result.add(CacheStatsResponse.of(region, regionStatistics));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package campus.membercampusstudy.config;
+
+import campus.membercampusstudy.support.AdaptiveConcurrencyLimit;
+import campus.membercampusstudy.support.ConcurrencyLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * HTTP 요청 동시 처리 한도 설정 클래스
+ * <p>
+ * 조회/쓰기 한도를 만들어 {@link ConcurrencyLimitInterceptor}로 등록하고 {@code /api/**} 요청에 적용합니다.
+ * 한도 범위는 커넥션 풀 크기({@code spring.datasource.hikari.maximum-pool-size})를 기준으로 잡습니다.
+ * {@code member.concurrency-limit.enabled=false}로 끌 수 있습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnProperty(name = "member.concurrency-limit.enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    @Value("${member.concurrency-limit.tolerance:2.0}")
+    private double tolerance;
+
+    @Value("${member.concurrency-limit.latency-ceiling:500ms}")
+    private Duration latencyCeiling;
+
+    @Value("${member.concurrency-limit.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${member.concurrency-limit.read.initial-limit:10}")
+    private int readInitial;
+
+    @Value("${member.concurrency-limit.read.min-limit:2}")
+    private int readMin;
+
+    @Value("${member.concurrency-limit.read.max-limit:40}")
+    private int readMax;
+
+    @Value("${member.concurrency-limit.write.initial-limit:5}")
+    private int writeInitial;
+
+    @Value("${member.concurrency-limit.write.min-limit:1}")
+    private int writeMin;
+
+    @Value("${member.concurrency-limit.write.max-limit:20}")
+    private int writeMax;
+
+    @Value("${member.concurrency-limit.retry-after:1s}")
+    private Duration retryAfter;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConcurrencyLimitConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor() {
+        return new ConcurrencyLimitInterceptor(
+                new AdaptiveConcurrencyLimit(readInitial, readMin, readMax, tolerance, latencyCeiling, backoffRatio),
+                new AdaptiveConcurrencyLimit(writeInitial, writeMin, writeMax, tolerance, latencyCeiling, backoffRatio),
+                retryAfter, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimitInterceptor()).addPathPatterns("/api/**");
+    }
+}
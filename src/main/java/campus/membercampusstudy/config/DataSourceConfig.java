@@ -0,0 +1,98 @@
+package campus.membercampusstudy.config;
+
+import campus.membercampusstudy.support.ReadYourWritesInterceptor;
+import campus.membercampusstudy.support.ReplicaAwareJpaDialect;
+import campus.membercampusstudy.support.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 주/복제본 DataSource 라우팅 설정 클래스
+ * <p>
+ * 주 풀({@code spring.datasource.*})과 복제본 풀({@code member.datasource.replica.url})을 만들고,
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 주 풀로 보내는 DataSource를 기본 DataSource로 등록합니다.
+ * 두 풀 모두 {@code spring.datasource.hikari.*} 설정을 따릅니다.
+ * <p>
+ * 주 DB에 고정된 요청은 공유 캐시도 거치지 않습니다.
+ * Hibernate 2차 캐시는 {@link ReplicaAwareJpaDialect}가, 조회 캐시는 {@code MemberLookupCache}가 담당합니다.
+ * <p>
+ * 복제본 URL을 지정하지 않으면 같은 DB에 별도 풀로 접속합니다 (로컬 H2에서 복제본 대역, 지연 없음).
+ * {@code member.datasource.replica.enabled=false}면 Spring Boot 기본 단일 DataSource를 사용합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnProperty(name = "member.datasource.replica.enabled", matchIfMissing = true)
+public class DataSourceConfig implements WebMvcConfigurer {
+
+    private final Duration readYourWritesWindow;
+
+    public DataSourceConfig(@Value("${member.datasource.replica.read-your-writes-window:2s}") Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${member.datasource.replica.url:}") String replicaUrl) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(replicaUrl)) {
+            dataSource.setJdbcUrl(replicaUrl);
+        }
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // 읽기 전용 여부는 트랜잭션 시작 후에 정해지므로 실제 커넥션 획득을 첫 SQL까지 미룸
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    // 엔티티 매니저 팩토리 초기화 전에 방언을 지정해야 트랜잭션 매니저도 같은 방언을 사용 (static - 설정 클래스 인스턴스 없이 생성)
+    @Bean
+    public static BeanPostProcessor replicaAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factory) {
+                    factory.setJpaDialect(new ReplicaAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesWindow)).addPathPatterns("/api/**");
+    }
+}
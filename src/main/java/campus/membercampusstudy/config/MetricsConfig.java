@@ -0,0 +1,33 @@
+package campus.membercampusstudy.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 메트릭 설정 클래스
+ * <p>
+ * Repository/Mapper 호출 시간 계측과 동일 조회 병합(single-flight)을 등록합니다.
+ * 각각 {@code member.metrics.repository.enabled=false}, {@code member.single-flight.enabled=false}로 끌 수 있으며,
+ * 결과는 {@code /actuator/prometheus}로 노출됩니다 ({@code data.access}, {@code data.access.coalesced}).
+ * 
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Configuration
+public class MetricsConfig {
+
+    // BeanPostProcessor는 설정 클래스 인스턴스 없이 만들어지도록 static으로 등록
+    @Bean
+    public static RepositoryInstrumentationPostProcessor repositoryInstrumentationPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        return new RepositoryInstrumentationPostProcessor(meterRegistry,
+                environment.getProperty("member.metrics.repository.enabled", Boolean.class, true),
+                environment.getProperty("member.single-flight.enabled", Boolean.class, true),
+                environment.getProperty("member.single-flight.max-wait", Duration.class, Duration.ofSeconds(2)));
+    }
+}
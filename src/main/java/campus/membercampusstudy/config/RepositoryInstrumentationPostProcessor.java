@@ -0,0 +1,80 @@
+package campus.membercampusstudy.config;
+
+import campus.membercampusstudy.mapper.IMemberMapper;
+import campus.membercampusstudy.mapper.IProfileMapper;
+import campus.membercampusstudy.repository.IMember;
+import campus.membercampusstudy.repository.IProfile;
+import campus.membercampusstudy.support.RepositoryMetricsInterceptor;
+import campus.membercampusstudy.support.SingleFlightInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 데이터 접근 빈 계측 후처리기
+ * <p>
+ * {@link IMember}/{@link IProfile}을 구현하는 빈(JPA Repository, MyBatis Mapper)을 프록시로 감싸
+ * 모든 메서드 호출을 {@link RepositoryMetricsInterceptor}로 측정하고, 동시에 들어온 같은 조회는
+ * {@link SingleFlightInterceptor}로 병합합니다. 측정이 바깥쪽이므로 병합된 호출도 대기 시간으로 측정됩니다.
+ * MyBatis 매퍼는 {@code backend=mybatis}, 나머지는 {@code backend=jpa}로 태그됩니다.
+ * <p>
+ * 후처리기는 다른 빈보다 먼저 만들어지므로 {@link MeterRegistry}는 첫 호출 시점에 조회합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class RepositoryInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean metrics;
+    private final boolean singleFlight;
+    private final Duration singleFlightMaxWait;
+
+    /**
+     * @param metrics 호출 시간 측정 여부
+     * @param singleFlight 동일 조회 병합 여부
+     * @param singleFlightMaxWait 병합된 호출이 먼저 들어온 호출을 기다리는 최대 시간
+     */
+    public RepositoryInstrumentationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                  boolean metrics, boolean singleFlight, Duration singleFlightMaxWait) {
+        this.meterRegistry = meterRegistry;
+        this.metrics = metrics;
+        this.singleFlight = singleFlight;
+        this.singleFlightMaxWait = singleFlightMaxWait;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if ((!metrics && !singleFlight) || (!(bean instanceof IMember) && !(bean instanceof IProfile))) {
+            return bean;
+        }
+        boolean mybatis = bean instanceof IMemberMapper || bean instanceof IProfileMapper;
+        String backend = mybatis ? "mybatis" : "jpa";
+        String repository = repositoryName(bean);
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        if (metrics) {
+            proxyFactory.addAdvice(new RepositoryMetricsInterceptor(meterRegistry, backend, repository));
+        }
+        if (singleFlight) {
+            proxyFactory.addAdvice(new SingleFlightInterceptor(meterRegistry, backend, repository,
+                    !mybatis, singleFlightMaxWait));
+        }
+        return proxyFactory.getProxy();
+    }
+
+    /**
+     * 빈이 구현한 인터페이스 중 IMember/IProfile을 상속한 첫 인터페이스 이름 (예: MemberRepository, MemberMapperRef)
+     */
+    private static String repositoryName(Object bean) {
+        return Arrays.stream(ClassUtils.getAllInterfaces(bean))
+                .filter(type -> IMember.class.isAssignableFrom(type) || IProfile.class.isAssignableFrom(type))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(ClassUtils.getUserClass(bean).getSimpleName());
+    }
+}
@@ -0,0 +1,18 @@
+package campus.membercampusstudy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * <p>
+ * 이메일 필터 재생성, 회원 통계 재집계 등 주기 작업을 위한 {@code @Scheduled} 활성화
+ * (프로필 write-behind 기록은 이 스레드에 밀리지 않도록 전용 스레드를 사용)
+ * 
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
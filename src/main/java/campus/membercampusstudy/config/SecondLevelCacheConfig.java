@@ -0,0 +1,67 @@
+package campus.membercampusstudy.config;
+
+import campus.membercampusstudy.cache.SecondLevelCache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 클래스
+ * <p>
+ * Caffeine JCache로 {@link SecondLevelCache#REGIONS}의 영역을 만들어 Hibernate JCache 영역 팩토리에 넘깁니다.
+ * 영역마다 {@code member.cache.l2.regions.<영역>.maximum-size}/{@code expire-after-write}로 재지정할 수 있고,
+ * 없으면 {@code member.cache.l2.*} 기본값을 사용합니다.
+ * 쿼리 캐시의 무효화 기준인 갱신 시각 영역은 항목이 제거되면 안 되므로 크기/TTL 제한 없이 만듭니다.
+ * <p>
+ * 2차 캐시 사용 여부는 {@code spring.jpa.properties.hibernate.cache.*}로 켜고 끕니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(Environment environment,
+                                                @Value("${member.cache.l2.maximum-size:10000}") long maximumSize,
+                                                @Value("${member.cache.l2.expire-after-write:30m}") Duration expireAfterWrite) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        for (String region : SecondLevelCache.REGIONS) {
+            String prefix = "member.cache.l2.regions." + region + ".";
+            long size = environment.getProperty(prefix + "maximum-size", Long.class, maximumSize);
+            Duration ttl = environment.getProperty(prefix + "expire-after-write", Duration.class, expireAfterWrite);
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(size));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            createIfAbsent(cacheManager, region, configuration);
+        }
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, String name,
+                                       CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(name) == null) {
+            cacheManager.createCache(name, configuration);
+        }
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,54 @@
+package campus.membercampusstudy.controller;
+
+import campus.membercampusstudy.cache.MemberLookupCache;
+import campus.membercampusstudy.cache.ProfileWriteBehindBuffer;
+import campus.membercampusstudy.cache.SecondLevelCache;
+import campus.membercampusstudy.dto.CacheStatsResponse;
+import campus.membercampusstudy.dto.ProfileDeadLetter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 캐시 통계 컨트롤러
+ * <p>
+ * 회원/프로필 조회 캐시와 Hibernate 2차 캐시 영역의 적중률과 제거 현황,
+ * 프로필 write-behind 버퍼의 기록 실패 목록을 제공합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Tag(name = "캐시", description = "조회 캐시 통계 API")
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final MemberLookupCache memberLookupCache;
+    private final SecondLevelCache secondLevelCache;
+    private final ProfileWriteBehindBuffer profileWriteBehind;
+
+    @Operation(summary = "캐시 통계 조회", description = "캐시별 적중/실패/제거 횟수와 항목 수를 조회합니다")
+    @GetMapping
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(memberLookupCache.stats());
+    }
+
+    @Operation(summary = "2차 캐시 통계 조회", description = "Hibernate 2차 캐시 영역별 적중/실패 횟수와 항목 수를 조회합니다")
+    @GetMapping("/hibernate")
+    public ResponseEntity<List<CacheStatsResponse>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(secondLevelCache.stats());
+    }
+
+    @Operation(summary = "write-behind 기록 실패 목록", description = "기록을 포기한 프로필 저장을 최근 실패 순으로 조회합니다")
+    @GetMapping("/write-behind/dead-letters")
+    public ResponseEntity<List<ProfileDeadLetter>> getWriteBehindDeadLetters() {
+        return ResponseEntity.ok(profileWriteBehind.deadLetters());
+    }
+}
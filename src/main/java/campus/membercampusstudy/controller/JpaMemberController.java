@@ -1,18 +1,57 @@
 package campus.membercampusstudy.controller;
 
+import campus.membercampusstudy.cache.EmailBloomFilter;
+import campus.membercampusstudy.cache.JsonDocument;
+import campus.membercampusstudy.cache.MemberLookupCache;
+import campus.membercampusstudy.cache.ProfileWriteBehindBuffer;
+import campus.membercampusstudy.dto.BulkDeleteRequest;
+import campus.membercampusstudy.dto.BulkDeleteResult;
+import campus.membercampusstudy.dto.CursorPage;
+import campus.membercampusstudy.dto.MemberField;
+import campus.membercampusstudy.dto.MemberPatch;
+import campus.membercampusstudy.dto.MemberSearchCondition;
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.dto.MultiGetRequest;
+import campus.membercampusstudy.dto.MultiGetResult;
+import campus.membercampusstudy.dto.PageVersion;
+import campus.membercampusstudy.dto.PendingProfile;
+import campus.membercampusstudy.dto.ProfileMultiGetResult;
+import campus.membercampusstudy.dto.ProfilePatch;
 import campus.membercampusstudy.entity.Member;
 import campus.membercampusstudy.entity.Profile;
 import campus.membercampusstudy.repository.MemberRepository;
 import campus.membercampusstudy.repository.ProfileRepository;
+import campus.membercampusstudy.support.ConditionalGets;
+import campus.membercampusstudy.support.LongRunningRequest;
+import campus.membercampusstudy.support.MemberBulkDeleter;
+import campus.membercampusstudy.support.MemberMultiGetter;
+import campus.membercampusstudy.support.MemberNdjsonExporter;
+import campus.membercampusstudy.support.ProfileUpserts;
+import campus.membercampusstudy.support.ReadOnlyRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JPA 회원 관리 컨트롤러
@@ -39,96 +78,332 @@ public class JpaMemberController {
     
     private final MemberRepository memberRepository;
     private final ProfileRepository memberProfileRepository;
+    private final MemberNdjsonExporter memberExporter;
+    private final EntityManager entityManager;
+    private final MemberLookupCache memberLookupCache;
+    private final EmailBloomFilter emailFilter;
+    private final MemberBulkDeleter memberBulkDeleter;
+    private final MemberMultiGetter memberMultiGetter;
+    private final ProfileWriteBehindBuffer profileWriteBehind;
+    private final ObjectMapper objectMapper;
     
     @Operation(summary = "회원 가입", description = "새로운 회원을 등록합니다")
     @PostMapping
     public ResponseEntity<Member> createMember(@RequestBody Member member) {
         log.info("JPA 회원가입 요청: {}", member.getEmail());
         
-        // 이메일 중복 확인
-        if (memberRepository.existsByEmail(member.getEmail())) {
+        // 이메일 중복 확인 (필터가 미등록으로 판정하면 DB 조회 생략)
+        if (emailFilter.mightContain(member.getEmail()) && memberRepository.existsByEmail(member.getEmail())) {
             return ResponseEntity.badRequest().build();
         }
         
         Member savedMember = memberRepository.save(member);
+        emailFilter.add(savedMember.getEmail());
         return ResponseEntity.ok(savedMember);
     }
     
-    @Operation(summary = "전체 회원 조회", description = "등록된 모든 회원 목록을 조회합니다")
+    @Operation(summary = "회원 목록 조회", description = "id 커서 기반으로 회원 목록을 페이지 단위로 조회합니다")
     @GetMapping
-    public ResponseEntity<List<Member>> getAllMembers() {
-        log.info("JPA 전체 회원 조회 요청");
-        List<Member> members = memberRepository.findAll();
-        return ResponseEntity.ok(members);
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<Member>> getAllMembers(@RequestParam(defaultValue = "0") Long after,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            WebRequest request) {
+        log.info("JPA 회원 목록 조회 요청 - after: {}, limit: {}", after, limit);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        // 조건부 요청은 페이지 버전만 집계해 변경이 없으면 304
+        if (ConditionalGets.isPageConditional(request)) {
+            PageVersion version = memberRepository.findMemberPageVersion(after, pageSize + 1);
+            if (ConditionalGets.checkPageNotModified(request, ConditionalGets.pageEtag("members", after, pageSize, version))) {
+                return null;
+            }
+        }
+        List<Member> members = memberRepository.findMembersAfter(after, pageSize + 1);
+        PageVersion version = PageVersion.ofMembers(members);
+        return ConditionalGets.page(CursorPage.of(members, pageSize, Member::getId),
+                ConditionalGets.pageEtag("members", after, pageSize, version));
+    }
+    
+    @Operation(summary = "회원 목록 조회 (필드 선택)", description = "fields로 지정한 컬럼만 SQL에서 조회해 id 커서 기반으로 반환합니다")
+    @GetMapping(value = {"", "/full"}, params = "fields")
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<Map<String, Object>>> getMemberFields(@RequestParam String fields,
+                                                                           @RequestParam(defaultValue = "0") Long after,
+                                                                           @RequestParam(required = false) Integer limit) {
+        log.info("JPA 회원 목록 필드 선택 조회 요청 - fields: {}, after: {}, limit: {}", fields, after, limit);
+        
+        List<MemberField> selected;
+        try {
+            selected = MemberField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.warn("JPA 회원 목록 필드 선택 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<Map<String, Object>> rows = memberRepository.findMemberFieldsAfter(after, selected, pageSize + 1).stream()
+                .map(row -> MemberField.toResponse(selected, row))
+                .toList();
+        return ResponseEntity.ok(CursorPage.of(rows, pageSize, row -> ((Number) row.get("id")).longValue()));
+    }
+    
+    @Operation(summary = "회원 전체 내보내기 (NDJSON)", description = "모든 회원을 프로필과 함께 한 줄에 하나씩 스트리밍합니다")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @LongRunningRequest
+    @Transactional(readOnly = true)
+    public void exportMembers(HttpServletResponse response) throws IOException {
+        log.info("JPA 회원 내보내기 요청");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        
+        // 스트림은 fetch size 단위로 읽고, flush마다 영속성 컨텍스트를 비워 메모리를 일정하게 유지
+        try (Stream<Member> members = memberRepository.streamAllByOrderByIdAsc();
+             Stream<Profile> profiles = memberProfileRepository.streamAllByOrderByMemberIdAsc()) {
+            long count = memberExporter.export(members.iterator(), profiles.iterator(),
+                    response.getOutputStream(), entityManager::clear);
+            log.info("JPA 회원 내보내기 완료: {}건", count);
+        }
     }
     
     @Operation(summary = "회원 상세 조회", description = "ID로 특정 회원을 조회합니다")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = Member.class)))
     @GetMapping("/{id}")
-    public ResponseEntity<Member> getMemberById(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getMemberById(@PathVariable Long id, WebRequest request) {
         log.info("JPA 회원 상세 조회 요청: {}", id);
-        Optional<Member> member = memberRepository.findById(id);
-        return member.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
+        // 조건부 요청은 캐시된 문서의 버전 또는 updated_at만 조회해 변경이 없으면 엔티티를 읽지 않고 304
+        if (ConditionalGets.isConditional(request)) {
+            JsonDocument cached = memberLookupCache.peekMemberJson(id);
+            LocalDateTime updatedAt = cached != null ? cached.updatedAt() : memberRepository.findMemberUpdatedAt(id);
+            if (updatedAt != null
+                    && ConditionalGets.checkNotModified(request, ConditionalGets.memberEtag(id, updatedAt), updatedAt)) {
+                return null;
+            }
+        }
+        // 캐시 적중 시 직렬화된 JSON을 그대로 응답
+        JsonDocument document = memberLookupCache.getMemberJson(id, key -> JsonDocument.encode(objectMapper,
+                memberRepository.findById(key).orElse(null), Member::getUpdatedAt));
+        if (document == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ConditionalGets.json(document, ConditionalGets.memberEtag(id, document.updatedAt()));
+    }
+    
+    @Operation(summary = "회원 다건 조회", description = "ID 목록의 회원을 청크마다 IN 조회 한 번으로 가져와 요청 순서대로 반환합니다")
+    @PostMapping("/_mget")
+    @ReadOnlyRequest
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<MultiGetResult>> getMembersByIds(@RequestBody MultiGetRequest request) {
+        log.info("JPA 회원 다건 조회 요청: {}건", request.ids() != null ? request.ids().size() : 0);
+        if (!memberMultiGetter.accepts(request.ids())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(memberMultiGetter.getMembers(memberRepository, request.ids()));
     }
     
     @Operation(summary = "이메일로 회원 조회", description = "이메일로 회원을 조회합니다")
     @GetMapping("/email/{email}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Member> getMemberByEmail(@PathVariable String email) {
         log.info("JPA 이메일 회원 조회 요청: {}", email);
-        Optional<Member> member = memberRepository.findByEmail(email);
+        Optional<Member> member = Optional.ofNullable(
+                memberLookupCache.getMemberByEmail(email, key -> memberRepository.findByEmail(key).orElse(null)));
         return member.map(ResponseEntity::ok)
                      .orElse(ResponseEntity.notFound().build());
     }
     
     @Operation(summary = "이메일 중복 확인", description = "이메일 중복 여부를 확인합니다")
     @GetMapping("/email/{email}/exists")
+    @Transactional(readOnly = true)
     public ResponseEntity<Boolean> checkEmailExists(@PathVariable String email) {
         log.info("JPA 이메일 중복 확인: {}", email);
-        boolean exists = memberRepository.existsByEmail(email);
+        boolean exists = emailFilter.mightContain(email) && memberRepository.existsByEmail(email);
         return ResponseEntity.ok(exists);
     }
     
+    @Operation(summary = "회원 부분 수정", description = "전달한 필드만 조회 없이 UPDATE 한 문장으로 수정합니다")
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchMember(@PathVariable Long id, @RequestBody MemberPatch patch) {
+        log.info("JPA 회원 부분 수정 요청 - ID: {}, Patch: {}", id, patch);
+        
+        if (patch.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        int updated;
+        try {
+            updated = memberRepository.patchMember(id, patch);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("JPA 회원 부분 수정 실패 - ID: {}, 에러: {}", id, e.getMostSpecificCause().getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        if (updated == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        memberLookupCache.evictMember(id);
+        emailFilter.add(patch.getEmail());
+        
+        return ResponseEntity.noContent().build();
+    }
+    
     @Operation(summary = "회원 탈퇴", description = "회원을 삭제합니다")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMember(@PathVariable Long id) {
         log.info("JPA 회원 탈퇴 요청: {}", id);
         
-        if (!memberRepository.existsById(id)) {
+        // 프로필은 외래키 CASCADE로 함께 삭제, 삭제 건수로 존재 여부 판단
+        if (memberRepository.deleteMembersByIds(List.of(id)) == 0) {
             return ResponseEntity.notFound().build();
         }
-        
-        // 프로필 먼저 삭제
-        memberProfileRepository.deleteByMemberId(id);
-        // 회원 삭제
-        memberRepository.deleteById(id);
+        profileWriteBehind.discard(id);
+        memberLookupCache.evictMember(id);
+        memberLookupCache.evictProfile(id);
         
         return ResponseEntity.ok().build();
     }
     
+    @Operation(summary = "회원 일괄 삭제", description = "ID 목록 또는 나이/성별 조건으로 회원을 청크 단위 일괄 삭제합니다")
+    @PostMapping("/bulk-delete")
+    @LongRunningRequest
+    public ResponseEntity<BulkDeleteResult> deleteMembersBulk(@RequestBody BulkDeleteRequest request,
+                                                              @RequestParam(defaultValue = "${member.batch.chunk-size:500}") int chunkSize) {
+        log.info("JPA 회원 일괄 삭제 요청: {}", request);
+        
+        if (!request.isValid()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(memberBulkDeleter.delete(memberRepository, request, Math.max(1, chunkSize)));
+    }
+    
     @Operation(summary = "프로필 등록/수정", description = "회원 프로필을 등록하거나 수정합니다")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = Profile.class)))
+    @ApiResponse(responseCode = "202", description = "write-behind 모드 - 접수만 하고 나중에 기록",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = PendingProfile.class)))
     @PostMapping("/{id}/profile")
-    public ResponseEntity<Profile> saveProfile(@PathVariable Long id, @RequestBody Profile profile) {
+    public ResponseEntity<?> saveProfile(@PathVariable Long id, @RequestBody Profile profile) {
         log.info("JPA 프로필 등록/수정 요청: {}", id);
         
-        if (!memberRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        
         // 회원 ID 설정
         profile.setMemberId(id);
         
-        Profile savedProfile = memberProfileRepository.save(profile);
+        // write-behind 모드면 회원 존재만 확인하고 버퍼에 넣은 뒤 202 응답
+        if (profileWriteBehind.isEnabled()) {
+            if (memberLookupCache.getMember(id, key -> memberRepository.findById(key).orElse(null)) == null) {
+                return ResponseEntity.notFound().build();
+            }
+            PendingProfile accepted = profileWriteBehind.offer(profile);
+            if (accepted != null) {
+                return ResponseEntity.accepted().body(accepted);
+            }
+        }
+        
+        Profile savedProfile = upsertProfile(profile);
+        if (savedProfile == null) {
+            return ResponseEntity.notFound().build();
+        }
+        memberLookupCache.evictProfile(id);
         return ResponseEntity.ok(savedProfile);
     }
     
+    @Operation(summary = "프로필 부분 수정", description = "전달한 필드만 조회 없이 UPDATE 한 문장으로 수정합니다")
+    @PatchMapping("/{id}/profile")
+    public ResponseEntity<Void> patchProfile(@PathVariable Long id, @RequestBody ProfilePatch patch) {
+        log.info("JPA 프로필 부분 수정 요청 - Member ID: {}, Patch: {}", id, patch);
+        
+        if (patch.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        // 대기 중인 write-behind 저장이 있으면 먼저 기록해야 부분 수정이 덮이지 않음
+        profileWriteBehind.flush(id);
+        if (memberProfileRepository.patchProfile(id, patch) == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        memberLookupCache.evictProfile(id);
+        
+        return ResponseEntity.noContent().build();
+    }
+    
     @Operation(summary = "프로필 조회", description = "회원의 프로필을 조회합니다")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = Profile.class)))
     @GetMapping("/{id}/profile")
-    public ResponseEntity<Profile> getProfile(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getProfile(@PathVariable Long id, WebRequest request) {
         log.info("JPA 프로필 조회 요청: {}", id);
         
-        Optional<Profile> profile = memberProfileRepository.findByMemberId(id);
-        return profile.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
+        // 아직 기록되지 않은 write-behind 저장은 검증 헤더 없이 그대로 반환
+        PendingProfile pending = profileWriteBehind.accepted(id);
+        if (pending != null) {
+            return ConditionalGets.json(JsonDocument.encode(objectMapper, pending, profile -> null), null);
+        }
+        if (ConditionalGets.isConditional(request)) {
+            JsonDocument cached = memberLookupCache.peekProfileJson(id);
+            LocalDateTime updatedAt = cached != null ? cached.updatedAt() : memberProfileRepository.findProfileUpdatedAt(id);
+            if (updatedAt != null
+                    && ConditionalGets.checkNotModified(request, ConditionalGets.profileEtag(id, updatedAt), updatedAt)) {
+                return null;
+            }
+        }
+        JsonDocument document = memberLookupCache.getProfileJson(id, key -> JsonDocument.encode(objectMapper,
+                memberProfileRepository.findByMemberId(key).orElse(null), Profile::getUpdatedAt));
+        if (document == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ConditionalGets.json(document, ConditionalGets.profileEtag(id, document.updatedAt()));
+    }
+    
+    @Operation(summary = "프로필 다건 조회", description = "회원 ID 목록의 프로필을 청크마다 member_id IN 조회 한 번으로 가져와 요청 순서대로 반환합니다")
+    @PostMapping("/profiles/_mget")
+    @ReadOnlyRequest
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ProfileMultiGetResult>> getProfilesByMemberIds(@RequestBody MultiGetRequest request) {
+        log.info("JPA 프로필 다건 조회 요청: {}건", request.ids() != null ? request.ids().size() : 0);
+        if (!memberMultiGetter.accepts(request.ids())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(memberMultiGetter.getProfiles(memberProfileRepository, request.ids()));
+    }
+    
+    @Operation(summary = "회원 + 프로필 조회", description = "회원과 프로필을 LEFT JOIN 쿼리 한 번으로 함께 조회합니다")
+    @GetMapping("/{id}/full")
+    @Transactional(readOnly = true)
+    public ResponseEntity<MemberWithProfile> getMemberWithProfile(@PathVariable Long id) {
+        log.info("JPA 회원 + 프로필 조회 요청: {}", id);
+        return memberRepository.findMemberWithProfile(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @Operation(summary = "회원 + 프로필 목록 조회", description = "id 커서 기반 페이지를 LEFT JOIN 쿼리 한 번으로 프로필과 함께 조회합니다")
+    @GetMapping("/full")
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<MemberWithProfile>> getAllMembersWithProfile(@RequestParam(defaultValue = "0") Long after,
+                                                                                  @RequestParam(required = false) Integer limit,
+                                                                                  WebRequest request) {
+        log.info("JPA 회원 + 프로필 목록 조회 요청 - after: {}, limit: {}", after, limit);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        if (ConditionalGets.isPageConditional(request)) {
+            PageVersion version = memberRepository.findMemberWithProfilePageVersion(after, pageSize + 1);
+            if (ConditionalGets.checkPageNotModified(request, ConditionalGets.pageEtag("members-full", after, pageSize, version))) {
+                return null;
+            }
+        }
+        List<MemberWithProfile> rows = memberRepository.findMembersWithProfileAfter(after, pageSize + 1);
+        PageVersion version = PageVersion.ofMembersWithProfile(rows);
+        return ConditionalGets.page(CursorPage.of(rows, pageSize, row -> row.getMember().getId()),
+                ConditionalGets.pageEtag("members-full", after, pageSize, version));
+    }
+    
+    @Operation(summary = "회원 복합 조건 검색", description = "이름/이메일/나이 범위/성별/닉네임/우편번호를 조합해 프로필 조인 쿼리 한 번으로 검색합니다")
+    @GetMapping("/search")
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<MemberWithProfile>> searchMembers(@ModelAttribute MemberSearchCondition condition,
+                                                                       @RequestParam(defaultValue = "0") Long after,
+                                                                       @RequestParam(required = false) Integer limit) {
+        log.info("JPA 회원 검색 요청 - 조건: {}, after: {}, limit: {}", condition, after, limit);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<MemberWithProfile> rows = memberRepository.searchMembers(condition.normalize(), after, pageSize + 1);
+        return ResponseEntity.ok(CursorPage.of(rows, pageSize, row -> row.getMember().getId()));
     }
     
     // ====== Form 기반 API (학습용) ======
@@ -145,6 +420,7 @@ public class JpaMemberController {
         }
         
         Member savedMember = memberRepository.save(member);
+        emailFilter.add(savedMember.getEmail());
         log.info("JPA Form 회원 등록 성공: {}", savedMember.getId());
         
         return ResponseEntity.ok(savedMember);
@@ -180,6 +456,8 @@ public class JpaMemberController {
         }
         
         Member updatedMember = memberRepository.save(existingMember);
+        memberLookupCache.evictMember(id);
+        emailFilter.add(updatedMember.getEmail());
         log.info("JPA Form 회원 수정 성공: {}", updatedMember.getId());
         
         return ResponseEntity.ok(updatedMember);
@@ -191,17 +469,17 @@ public class JpaMemberController {
         log.info("JPA Form 프로필 등록 요청 - Member ID: {}, Profile: {}", id, profile);
         
         try {
-            // 회원 존재 확인
-            if (!memberRepository.existsById(id)) {
-                log.warn("회원을 찾을 수 없음 - ID: {}", id);
-                return ResponseEntity.notFound().build();
-            }
-            
             // 회원 ID 설정
             profile.setMemberId(id);
             log.debug("프로필에 회원 ID 설정 완료 - Profile: {}", profile);
             
-            Profile savedProfile = memberProfileRepository.save(profile);
+            profileWriteBehind.flush(id);
+            Profile savedProfile = upsertProfile(profile);
+            if (savedProfile == null) {
+                log.warn("회원을 찾을 수 없음 - ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+            memberLookupCache.evictProfile(id);
             log.info("JPA Form 프로필 등록 성공: {}", savedProfile.getId());
             
             return ResponseEntity.ok(savedProfile);
@@ -211,4 +489,13 @@ public class JpaMemberController {
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 프로필을 MERGE 한 문장으로 등록/수정합니다. 회원이 없으면 null을 반환합니다.
+     *
+     * @see ProfileUpserts
+     */
+    private Profile upsertProfile(Profile profile) {
+        return ProfileUpserts.upsert(memberProfileRepository, profile, memberRepository::existsById);
+    }
+}
@@ -0,0 +1,35 @@
+package campus.membercampusstudy.controller;
+
+import campus.membercampusstudy.dto.MemberStatsResponse;
+import campus.membercampusstudy.support.MemberStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 회원 통계 컨트롤러
+ * <p>
+ * 성별/나이 구간/우편번호 앞자리별 회원 수를 제공합니다.
+ * 두 백엔드가 같은 테이블을 쓰므로 통계도 하나이며, 요약 테이블만 읽어 회원 수와 무관하게 응답합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Tag(name = "회원 통계", description = "회원 분포 통계 API")
+@RestController
+@RequestMapping("/api/members/stats")
+@RequiredArgsConstructor
+public class MemberStatsController {
+
+    private final MemberStatistics memberStatistics;
+
+    @Operation(summary = "회원 통계 조회", description = "전체/성별/나이 구간/우편번호 앞 2자리별 회원 수를 조회합니다")
+    @GetMapping
+    public ResponseEntity<MemberStatsResponse> getMemberStats() {
+        return ResponseEntity.ok(memberStatistics.snapshot());
+    }
+}
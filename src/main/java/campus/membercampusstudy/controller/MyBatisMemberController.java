@@ -1,16 +1,62 @@
 package campus.membercampusstudy.controller;
 
+import campus.membercampusstudy.cache.EmailBloomFilter;
+import campus.membercampusstudy.cache.JsonDocument;
+import campus.membercampusstudy.cache.MemberLookupCache;
+import campus.membercampusstudy.cache.ProfileWriteBehindBuffer;
+import campus.membercampusstudy.dto.BatchInsertResult;
+import campus.membercampusstudy.dto.BulkDeleteRequest;
+import campus.membercampusstudy.dto.BulkDeleteResult;
+import campus.membercampusstudy.dto.CursorPage;
+import campus.membercampusstudy.dto.MemberField;
+import campus.membercampusstudy.dto.MemberPatch;
+import campus.membercampusstudy.dto.MemberSearchCondition;
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.dto.MultiGetRequest;
+import campus.membercampusstudy.dto.MultiGetResult;
+import campus.membercampusstudy.dto.PageVersion;
+import campus.membercampusstudy.dto.PendingProfile;
+import campus.membercampusstudy.dto.ProfileMultiGetResult;
+import campus.membercampusstudy.dto.ProfilePatch;
 import campus.membercampusstudy.entity.Member;
 import campus.membercampusstudy.entity.Profile;
 import campus.membercampusstudy.mapper.IMemberMapper;
 import campus.membercampusstudy.mapper.IProfileMapper;
+import campus.membercampusstudy.mapper.MapperBatchExecutor;
+import campus.membercampusstudy.support.Chunks;
+import campus.membercampusstudy.support.ConditionalGets;
+import campus.membercampusstudy.support.LongRunningRequest;
+import campus.membercampusstudy.support.MemberBulkDeleter;
+import campus.membercampusstudy.support.MemberMultiGetter;
+import campus.membercampusstudy.support.MemberNdjsonExporter;
+import campus.membercampusstudy.support.ProfileUpserts;
+import campus.membercampusstudy.support.ReadOnlyRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * MyBatis 회원 관리 컨트롤러
@@ -36,16 +82,45 @@ public class MyBatisMemberController {
     
     private final IMemberMapper memberMapper;
     private final IProfileMapper memberProfileMapper;
+    private final MemberNdjsonExporter memberExporter;
+    private final MapperBatchExecutor batchExecutor;
+    private final MemberLookupCache memberLookupCache;
+    private final EmailBloomFilter emailFilter;
+    private final MemberBulkDeleter memberBulkDeleter;
+    private final MemberMultiGetter memberMultiGetter;
+    private final ProfileWriteBehindBuffer profileWriteBehind;
+    private final ObjectMapper objectMapper;
     
     /**
      * MyBatis 회원 관리 컨트롤러 생성자
      * 
      * @param memberMapper 회원 매퍼 인터페이스
      * @param memberProfileMapper 프로필 매퍼 인터페이스
+     * @param memberExporter 회원 NDJSON 내보내기
+     * @param batchExecutor BATCH executor 실행기
+     * @param memberLookupCache 회원/프로필 조회 캐시
+     * @param emailFilter 등록 이메일 Bloom 필터
+     * @param memberBulkDeleter 회원 일괄 삭제
+     * @param memberMultiGetter 회원 다건 조회
+     * @param profileWriteBehind 프로필 저장 write-behind 버퍼
+     * @param objectMapper 단건 조회 JSON 캐시 직렬화용 (HTTP 응답과 같은 설정)
      */
-    public MyBatisMemberController(IMemberMapper memberMapper, IProfileMapper memberProfileMapper) {
+    public MyBatisMemberController(IMemberMapper memberMapper, IProfileMapper memberProfileMapper,
+                                   MemberNdjsonExporter memberExporter, MapperBatchExecutor batchExecutor,
+                                   MemberLookupCache memberLookupCache, EmailBloomFilter emailFilter,
+                                   MemberBulkDeleter memberBulkDeleter, MemberMultiGetter memberMultiGetter,
+                                   ProfileWriteBehindBuffer profileWriteBehind,
+                                   ObjectMapper objectMapper) {
         this.memberMapper = memberMapper;
         this.memberProfileMapper = memberProfileMapper;
+        this.memberExporter = memberExporter;
+        this.batchExecutor = batchExecutor;
+        this.memberLookupCache = memberLookupCache;
+        this.emailFilter = emailFilter;
+        this.memberBulkDeleter = memberBulkDeleter;
+        this.memberMultiGetter = memberMultiGetter;
+        this.profileWriteBehind = profileWriteBehind;
+        this.objectMapper = objectMapper;
     }
     
     /**
@@ -61,40 +136,239 @@ public class MyBatisMemberController {
     public ResponseEntity<Member> createMember(@RequestBody Member member) {
         log.info("MyBatis 회원가입 요청: {}", member.getEmail());
         
-        // 이메일 중복 확인
-        if (memberMapper.countByEmail(member.getEmail()) > 0) {
+        // 이메일 중복 확인 (필터가 미등록으로 판정하면 DB 조회 생략)
+        if (emailFilter.mightContain(member.getEmail()) && memberMapper.countByEmail(member.getEmail()) > 0) {
             return ResponseEntity.badRequest().build();
         }
         
         memberMapper.insertMember(member);
+        emailFilter.add(member.getEmail());
+        memberLookupCache.evictMemberQueries();
         return ResponseEntity.ok(member);
     }
     
     /**
-     * 등록된 모든 회원 목록을 조회합니다
+     * 여러 회원을 JDBC 배치로 일괄 등록합니다
+     * <p>
+     * 요청 안의 중복 이메일은 메모리에서, 이미 등록된 이메일은 청크당 한 번의 IN 조회로 걸러낸 뒤
+     * 나머지를 {@code ExecutorType.BATCH} 세션으로 청크 단위 등록합니다.
+     * 청크마다 별도 트랜잭션이므로 실패한 청크의 행만 {@code FAILED}로 표시됩니다.
      * 
-     * @return 전체 회원 목록
+     * @param members 등록할 회원 목록
+     * @param chunkSize 청크 크기 (미지정 시 {@code member.batch.chunk-size})
+     * @return 요청 순서와 같은 행별 등록 결과
      */
-    @Operation(summary = "전체 회원 조회", description = "등록된 모든 회원 목록을 조회합니다")
+    @Operation(summary = "회원 일괄 등록", description = "JSON 배열로 받은 회원을 JDBC 배치로 청크 단위 등록합니다")
+    @PostMapping("/batch")
+    @LongRunningRequest
+    public ResponseEntity<List<BatchInsertResult>> createMembersBatch(@RequestBody List<Member> members,
+                                                                      @RequestParam(defaultValue = "${member.batch.chunk-size:500}") int chunkSize) {
+        int size = Math.max(1, chunkSize);
+        log.info("MyBatis 회원 일괄 등록 요청: {}건, 청크 크기: {}", members.size(), size);
+        
+        BatchInsertResult[] results = new BatchInsertResult[members.size()];
+        
+        // 필수 값 검증과 요청 내 이메일 중복 제거
+        Set<String> requestedEmails = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            String email = member.getEmail();
+            if (email == null || email.isBlank() || member.getName() == null || member.getPhone() == null) {
+                results[i] = BatchInsertResult.rejected(i, email, BatchInsertResult.Status.INVALID, "email, name, phone은 필수입니다");
+            } else if (!requestedEmails.add(email)) {
+                results[i] = BatchInsertResult.rejected(i, email, BatchInsertResult.Status.DUPLICATE, "요청 안에서 중복된 이메일입니다");
+            } else {
+                candidates.add(i);
+            }
+        }
+        
+        for (List<Integer> chunk : Chunks.of(candidates, size)) {
+            // 이미 등록된 이메일은 청크당 한 번의 조회로 확인 (필터가 미등록으로 판정한 이메일은 제외)
+            List<String> suspects = chunk.stream()
+                    .map(i -> members.get(i).getEmail())
+                    .filter(emailFilter::mightContain)
+                    .toList();
+            Set<String> existingEmails = suspects.isEmpty() ? Set.of() : new HashSet<>(memberMapper.findExistingEmails(suspects));
+            
+            List<Integer> insertIndexes = new ArrayList<>();
+            for (int i : chunk) {
+                String email = members.get(i).getEmail();
+                if (existingEmails.contains(email)) {
+                    results[i] = BatchInsertResult.rejected(i, email, BatchInsertResult.Status.DUPLICATE, "이미 등록된 이메일입니다");
+                } else {
+                    insertIndexes.add(i);
+                }
+            }
+            if (insertIndexes.isEmpty()) {
+                continue;
+            }
+            
+            List<Member> inserts = insertIndexes.stream().map(members::get).toList();
+            try {
+                batchExecutor.executeChunk(IMemberMapper.class, inserts, IMemberMapper::insertMember);
+                for (int i : insertIndexes) {
+                    Member inserted = members.get(i);
+                    emailFilter.add(inserted.getEmail());
+                    results[i] = BatchInsertResult.created(i, inserted.getEmail(), inserted.getId());
+                }
+            } catch (DataAccessException e) {
+                log.warn("MyBatis 회원 일괄 등록 청크 실패 - {}건, 에러: {}", inserts.size(), e.getMessage());
+                for (int i : insertIndexes) {
+                    results[i] = BatchInsertResult.rejected(i, members.get(i).getEmail(), BatchInsertResult.Status.FAILED, e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        
+        memberLookupCache.evictMemberQueries();
+        log.info("MyBatis 회원 일괄 등록 완료: {}건 중 {}건 등록", members.size(),
+                Arrays.stream(results).filter(r -> r.status() == BatchInsertResult.Status.CREATED).count());
+        return ResponseEntity.ok(Arrays.asList(results));
+    }
+    
+    /**
+     * 회원 목록을 id 커서 기반으로 페이지 단위 조회합니다
+     * <p>
+     * 응답의 {@code nextCursor}를 다음 요청의 {@code after}로 전달하면 이어서 조회합니다.
+     * 조건부 요청은 페이지 버전(행 수, 마지막 ID, 최신 {@code updated_at})만 집계해 변경이 없으면 304로 응답합니다.
+     * 
+     * @param after 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 페이지 크기 (기본 20, 최대 100)
+     * @param request 조건부 요청 헤더 확인용
+     * @return 회원 커서 페이지 (페이지 ETag 포함), 변경이 없으면 304
+     */
+    @Operation(summary = "회원 목록 조회", description = "id 커서 기반으로 회원 목록을 페이지 단위로 조회합니다")
     @GetMapping
-    public ResponseEntity<List<Member>> getAllMembers() {
-        log.info("MyBatis 전체 회원 조회 요청");
-        List<Member> members = memberMapper.findAllMembers();
-        return ResponseEntity.ok(members);
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<Member>> getAllMembers(@RequestParam(defaultValue = "0") Long after,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            WebRequest request) {
+        log.info("MyBatis 회원 목록 조회 요청 - after: {}, limit: {}", after, limit);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        if (ConditionalGets.isPageConditional(request)) {
+            PageVersion version = memberMapper.findMemberPageVersion(after, pageSize + 1);
+            if (ConditionalGets.checkPageNotModified(request, ConditionalGets.pageEtag("members", after, pageSize, version))) {
+                return null;
+            }
+        }
+        List<Member> members = memberMapper.findMembersAfter(after, pageSize + 1);
+        PageVersion version = PageVersion.ofMembers(members);
+        return ConditionalGets.page(CursorPage.of(members, pageSize, Member::getId),
+                ConditionalGets.pageEtag("members", after, pageSize, version));
+    }
+    
+    /**
+     * 회원 목록을 요청한 필드만 담아 id 커서 기반으로 조회합니다
+     * <p>
+     * {@code fields} 파라미터가 있으면 목록({@code /})과 회원 + 프로필 목록({@code /full}) 모두 이 메서드가 처리합니다.
+     * 요청한 컬럼만 SELECT 하고, 프로필 필드({@code profile.*})가 있을 때만 프로필을 조인합니다.
+     * 
+     * @param fields 쉼표로 구분한 필드 목록 (예: {@code id,name,profile.nickname}, id는 항상 포함)
+     * @param after 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 페이지 크기 (기본 20, 최대 100)
+     * @return 필드 선택 커서 페이지, 지원하지 않는 필드가 있으면 400
+     */
+    @Operation(summary = "회원 목록 조회 (필드 선택)", description = "fields로 지정한 컬럼만 SQL에서 조회해 id 커서 기반으로 반환합니다")
+    @GetMapping(value = {"", "/full"}, params = "fields")
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<Map<String, Object>>> getMemberFields(@RequestParam String fields,
+                                                                           @RequestParam(defaultValue = "0") Long after,
+                                                                           @RequestParam(required = false) Integer limit) {
+        log.info("MyBatis 회원 목록 필드 선택 조회 요청 - fields: {}, after: {}, limit: {}", fields, after, limit);
+        
+        List<MemberField> selected;
+        try {
+            selected = MemberField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.warn("MyBatis 회원 목록 필드 선택 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<Map<String, Object>> rows = memberMapper.findMemberFieldsAfter(after, selected, pageSize + 1).stream()
+                .map(row -> MemberField.toResponse(selected, row))
+                .toList();
+        return ResponseEntity.ok(CursorPage.of(rows, pageSize, row -> ((Number) row.get("id")).longValue()));
+    }
+    
+    /**
+     * 모든 회원을 프로필과 함께 NDJSON으로 스트리밍합니다
+     * <p>
+     * 회원/프로필 {@link Cursor}를 머지 조인하여 응답 스트림에 바로 쓰므로
+     * 테이블 크기와 관계없이 메모리 사용량이 일정합니다.
+     * 커서가 열린 SqlSession을 필요로 하므로 읽기 전용 트랜잭션 안에서 실행합니다.
+     * 
+     * @param response 응답 (NDJSON 출력 대상)
+     * @throws IOException 출력 실패 (클라이언트 연결 종료 등)
+     */
+    @Operation(summary = "회원 전체 내보내기 (NDJSON)", description = "모든 회원을 프로필과 함께 한 줄에 하나씩 스트리밍합니다")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @LongRunningRequest
+    @Transactional(readOnly = true)
+    public void exportMembers(HttpServletResponse response) throws IOException {
+        log.info("MyBatis 회원 내보내기 요청");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        
+        try (Cursor<Member> members = memberMapper.scanAllMembers();
+             Cursor<Profile> profiles = memberProfileMapper.scanAllProfiles()) {
+            long count = memberExporter.export(members.iterator(), profiles.iterator(),
+                    response.getOutputStream(), () -> { });
+            log.info("MyBatis 회원 내보내기 완료: {}건", count);
+        }
     }
     
     /**
      * ID로 특정 회원을 조회합니다
+     * <p>
+     * 직렬화된 JSON 캐시에 있으면 엔티티를 만들지 않고 바이트를 그대로 응답합니다.
+     * 조건부 요청({@code If-None-Match}/{@code If-Modified-Since})은 캐시된 문서의 버전, 없으면 {@code updated_at}만
+     * 조회해 비교하고, 변경이 없으면 회원을 읽지 않고 304로 응답합니다.
      * 
      * @param id 조회할 회원 ID
-     * @return 조회된 회원 정보 또는 404 Not Found
+     * @param request 조건부 요청 헤더 확인용
+     * @return 회원 JSON (ETag/Last-Modified 포함), 변경이 없으면 304, 없으면 404 Not Found
      */
     @Operation(summary = "회원 상세 조회", description = "ID로 특정 회원을 조회합니다")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = Member.class)))
     @GetMapping("/{id}")
-    public ResponseEntity<Member> getMemberById(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getMemberById(@PathVariable Long id, WebRequest request) {
         log.info("MyBatis 회원 상세 조회 요청: {}", id);
-        Member member = memberMapper.findMemberById(id);
-        return member != null ? ResponseEntity.ok(member) : ResponseEntity.notFound().build();
+        if (ConditionalGets.isConditional(request)) {
+            JsonDocument cached = memberLookupCache.peekMemberJson(id);
+            LocalDateTime updatedAt = cached != null ? cached.updatedAt() : memberMapper.findMemberUpdatedAt(id);
+            if (updatedAt != null
+                    && ConditionalGets.checkNotModified(request, ConditionalGets.memberEtag(id, updatedAt), updatedAt)) {
+                return null;
+            }
+        }
+        JsonDocument document = memberLookupCache.getMemberJson(id,
+                key -> JsonDocument.encode(objectMapper, memberMapper.findMemberById(key), Member::getUpdatedAt));
+        if (document == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ConditionalGets.json(document, ConditionalGets.memberEtag(id, document.updatedAt()));
+    }
+    
+    /**
+     * ID 목록의 회원을 한 번에 조회합니다
+     * <p>
+     * 청크마다 {@code <foreach>}로 만든 {@code WHERE id IN (...)} 한 문장을 실행하므로
+     * 단건 조회를 ID 수만큼 반복하지 않습니다.
+     * 
+     * @param request 조회할 ID 목록
+     * @return 요청 순서와 같은 항목별 결과 (없는 회원은 {@code found=false}), ID가 없거나 상한을 넘으면 400
+     */
+    @Operation(summary = "회원 다건 조회", description = "ID 목록의 회원을 청크마다 IN 조회 한 번으로 가져와 요청 순서대로 반환합니다")
+    @PostMapping("/_mget")
+    @ReadOnlyRequest
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<MultiGetResult>> getMembersByIds(@RequestBody MultiGetRequest request) {
+        log.info("MyBatis 회원 다건 조회 요청: {}건", request.ids() != null ? request.ids().size() : 0);
+        if (!memberMultiGetter.accepts(request.ids())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(memberMultiGetter.getMembers(memberMapper, request.ids()));
     }
     
     /**
@@ -105,70 +379,293 @@ public class MyBatisMemberController {
      */
     @Operation(summary = "이메일로 회원 조회", description = "이메일로 회원을 조회합니다")
     @GetMapping("/email/{email}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Member> getMemberByEmail(@PathVariable String email) {
         log.info("MyBatis 이메일 회원 조회 요청: {}", email);
-        Member member = memberMapper.findMemberByEmail(email);
+        Member member = memberLookupCache.getMemberByEmail(email, memberMapper::findMemberByEmail);
         return member != null ? ResponseEntity.ok(member) : ResponseEntity.notFound().build();
     }
     
     @Operation(summary = "이메일 중복 확인", description = "이메일 중복 여부를 확인합니다")
     @GetMapping("/email/{email}/exists")
+    @Transactional(readOnly = true)
     public ResponseEntity<Boolean> checkEmailExists(@PathVariable String email) {
         log.info("MyBatis 이메일 중복 확인: {}", email);
-        boolean exists = memberMapper.countByEmail(email) > 0;
+        boolean exists = emailFilter.mightContain(email) && memberMapper.countByEmail(email) > 0;
         return ResponseEntity.ok(exists);
     }
     
+    /**
+     * 회원의 전달된 필드만 수정합니다
+     * <p>
+     * 조회 없이 UPDATE 한 문장을 실행하고 수정된 행 수로 회원 존재 여부를 판단합니다.
+     * 
+     * @param id 회원 ID
+     * @param patch 수정할 필드 (null 필드는 유지)
+     * @return 성공 시 204, 수정할 필드가 없으면 400, 회원이 없으면 404, 이메일 중복이면 409
+     */
+    @Operation(summary = "회원 부분 수정", description = "전달한 필드만 조회 없이 UPDATE 한 문장으로 수정합니다")
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchMember(@PathVariable Long id, @RequestBody MemberPatch patch) {
+        log.info("MyBatis 회원 부분 수정 요청 - ID: {}, Patch: {}", id, patch);
+        
+        if (patch.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        int updated;
+        try {
+            updated = memberMapper.patchMember(id, patch);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("MyBatis 회원 부분 수정 실패 - ID: {}, 에러: {}", id, e.getMostSpecificCause().getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        if (updated == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        memberLookupCache.evictMember(id);
+        emailFilter.add(patch.getEmail());
+        
+        return ResponseEntity.noContent().build();
+    }
+    
     @Operation(summary = "회원 탈퇴", description = "회원을 삭제합니다")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMember(@PathVariable Long id) {
         log.info("MyBatis 회원 탈퇴 요청: {}", id);
         
-        Member member = memberMapper.findMemberById(id);
-        if (member == null) {
+        // 프로필은 외래키 CASCADE로 함께 삭제, 삭제 건수로 존재 여부 판단
+        if (memberMapper.deleteMember(id) == 0) {
             return ResponseEntity.notFound().build();
         }
-        
-        // 프로필 먼저 삭제
-        memberProfileMapper.deleteProfileByMemberId(id);
-        // 회원 삭제
-        memberMapper.deleteMember(id);
+        profileWriteBehind.discard(id);
+        memberLookupCache.evictMember(id);
+        memberLookupCache.evictProfile(id);
         
         return ResponseEntity.ok().build();
     }
     
+    /**
+     * 회원을 ID 목록 또는 조건으로 일괄 삭제합니다
+     * <p>
+     * 청크마다 {@code DELETE ... WHERE id IN (...)} 한 문장을 실행하고, 프로필은 외래키 CASCADE로 함께 삭제됩니다.
+     * 
+     * @param request 삭제할 ID 목록 또는 조건 (둘 중 하나만)
+     * @param chunkSize 청크 크기 (미지정 시 {@code member.batch.chunk-size})
+     * @return 대상/삭제 건수, ID 목록과 조건을 함께 주거나 모두 비우면 400
+     */
+    @Operation(summary = "회원 일괄 삭제", description = "ID 목록 또는 나이/성별 조건으로 회원을 청크 단위 일괄 삭제합니다")
+    @PostMapping("/bulk-delete")
+    @LongRunningRequest
+    public ResponseEntity<BulkDeleteResult> deleteMembersBulk(@RequestBody BulkDeleteRequest request,
+                                                              @RequestParam(defaultValue = "${member.batch.chunk-size:500}") int chunkSize) {
+        log.info("MyBatis 회원 일괄 삭제 요청: {}", request);
+        
+        if (!request.isValid()) {
+            return ResponseEntity.badRequest().build();
+        }
+        int size = Math.max(1, chunkSize);
+        return ResponseEntity.ok(memberBulkDeleter.delete(memberMapper, request, size));
+    }
+    
+    /**
+     * 회원 프로필을 등록하거나 수정합니다
+     * <p>
+     * write-behind 모드({@code member.profile.write-behind.enabled})에서는 회원 존재만 확인하고
+     * 버퍼에 넣은 뒤 202로 응답하며, 실제 기록은 배치로 모아서 처리됩니다.
+     * 
+     * @param id 회원 ID
+     * @param profile 저장할 프로필
+     * @return 저장된 프로필 (write-behind 모드면 202와 접수된 저장 {@link PendingProfile}), 회원이 없으면 404
+     */
     @Operation(summary = "프로필 등록/수정", description = "회원 프로필을 등록하거나 수정합니다")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = Profile.class)))
+    @ApiResponse(responseCode = "202", description = "write-behind 모드 - 접수만 하고 나중에 기록",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = PendingProfile.class)))
     @PostMapping("/{id}/profile")
-    public ResponseEntity<Profile> saveProfile(@PathVariable Long id, @RequestBody Profile profile) {
+    public ResponseEntity<?> saveProfile(@PathVariable Long id, @RequestBody Profile profile) {
         log.info("MyBatis 프로필 등록/수정 요청: {}", id);
         
-        Member member = memberMapper.findMemberById(id);
-        if (member == null) {
+        // 회원 ID 설정
+        profile.setMemberId(id);
+        
+        if (profileWriteBehind.isEnabled()) {
+            if (memberLookupCache.getMember(id, memberMapper::findMemberById) == null) {
+                return ResponseEntity.notFound().build();
+            }
+            PendingProfile accepted = profileWriteBehind.offer(profile);
+            if (accepted != null) {
+                return ResponseEntity.accepted().body(accepted);
+            }
+        }
+        
+        Profile savedProfile = upsertProfile(profile);
+        if (savedProfile == null) {
             return ResponseEntity.notFound().build();
         }
+        memberLookupCache.evictProfile(id);
         
-        // 회원 ID 설정
-        profile.setMemberId(id);
+        return ResponseEntity.ok(savedProfile);
+    }
+    
+    /**
+     * 회원 프로필의 전달된 필드만 수정합니다
+     * <p>
+     * 조회 없이 UPDATE 한 문장을 실행하고 수정된 행 수로 프로필 존재 여부를 판단합니다.
+     * 
+     * @param id 회원 ID
+     * @param patch 수정할 필드 (null 필드는 유지)
+     * @return 성공 시 204, 수정할 필드가 없으면 400, 프로필이 없으면 404
+     */
+    @Operation(summary = "프로필 부분 수정", description = "전달한 필드만 조회 없이 UPDATE 한 문장으로 수정합니다")
+    @PatchMapping("/{id}/profile")
+    public ResponseEntity<Void> patchProfile(@PathVariable Long id, @RequestBody ProfilePatch patch) {
+        log.info("MyBatis 프로필 부분 수정 요청 - Member ID: {}, Patch: {}", id, patch);
         
-        // 기존 프로필이 있는지 확인
-        Profile existingProfile = memberProfileMapper.findProfileByMemberId(id);
-        if (existingProfile != null) {
-            profile.setId(existingProfile.getId());
-            memberProfileMapper.updateProfile(profile);
-        } else {
-            memberProfileMapper.insertProfile(profile);
+        if (patch.isEmpty()) {
+            return ResponseEntity.badRequest().build();
         }
+        // 대기 중인 write-behind 저장이 있으면 먼저 기록해야 부분 수정이 덮이지 않음
+        profileWriteBehind.flush(id);
+        if (memberProfileMapper.patchProfile(id, patch) == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        memberLookupCache.evictProfile(id);
         
-        return ResponseEntity.ok(profile);
+        return ResponseEntity.noContent().build();
     }
     
+    /**
+     * 회원의 프로필을 조회합니다
+     * <p>
+     * 아직 기록되지 않은 write-behind 저장이 있으면 그 값({@link PendingProfile})을 검증 헤더 없이 반환합니다.
+     * 그 밖에는 직렬화된 JSON 캐시를 사용하며, 조건부 요청은 캐시된 문서의 버전 또는 {@code updated_at}만 조회해
+     * 비교하고 변경이 없으면 304로 응답합니다.
+     * 
+     * @param id 회원 ID
+     * @param request 조건부 요청 헤더 확인용
+     * @return 프로필 JSON (ETag/Last-Modified 포함), 변경이 없으면 304, 없으면 404
+     */
     @Operation(summary = "프로필 조회", description = "회원의 프로필을 조회합니다")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = Profile.class)))
     @GetMapping("/{id}/profile")
-    public ResponseEntity<Profile> getProfile(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getProfile(@PathVariable Long id, WebRequest request) {
         log.info("MyBatis 프로필 조회 요청: {}", id);
         
-        Profile profile = memberProfileMapper.findProfileByMemberId(id);
-        return profile != null ? ResponseEntity.ok(profile) : ResponseEntity.notFound().build();
+        PendingProfile pending = profileWriteBehind.accepted(id);
+        if (pending != null) {
+            return ConditionalGets.json(JsonDocument.encode(objectMapper, pending, profile -> null), null);
+        }
+        if (ConditionalGets.isConditional(request)) {
+            JsonDocument cached = memberLookupCache.peekProfileJson(id);
+            LocalDateTime updatedAt = cached != null ? cached.updatedAt() : memberProfileMapper.findProfileUpdatedAt(id);
+            if (updatedAt != null
+                    && ConditionalGets.checkNotModified(request, ConditionalGets.profileEtag(id, updatedAt), updatedAt)) {
+                return null;
+            }
+        }
+        JsonDocument document = memberLookupCache.getProfileJson(id,
+                key -> JsonDocument.encode(objectMapper, memberProfileMapper.findProfileByMemberId(key), Profile::getUpdatedAt));
+        if (document == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ConditionalGets.json(document, ConditionalGets.profileEtag(id, document.updatedAt()));
+    }
+    
+    /**
+     * 여러 회원의 프로필을 한 번에 조회합니다
+     * <p>
+     * 청크마다 {@code <foreach>}로 만든 {@code WHERE member_id IN (...)} 한 문장을 {@code idx_profile_member_id}로 처리합니다.
+     * 아직 기록되지 않은 write-behind 저장이 있으면 그 값을 반환합니다.
+     * 
+     * @param request 조회할 회원 ID 목록
+     * @return 요청 순서와 같은 항목별 결과 (프로필이 없으면 {@code found=false}), ID가 없거나 상한을 넘으면 400
+     */
+    @Operation(summary = "프로필 다건 조회", description = "회원 ID 목록의 프로필을 청크마다 member_id IN 조회 한 번으로 가져와 요청 순서대로 반환합니다")
+    @PostMapping("/profiles/_mget")
+    @ReadOnlyRequest
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ProfileMultiGetResult>> getProfilesByMemberIds(@RequestBody MultiGetRequest request) {
+        log.info("MyBatis 프로필 다건 조회 요청: {}건", request.ids() != null ? request.ids().size() : 0);
+        if (!memberMultiGetter.accepts(request.ids())) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(memberMultiGetter.getProfiles(memberProfileMapper, request.ids()));
+    }
+    
+    /**
+     * 회원과 프로필을 함께 조회합니다
+     * <p>
+     * {@code member LEFT JOIN profile} 한 번으로 조회하며, 프로필이 없으면 {@code profile}은 null입니다.
+     * 
+     * @param id 회원 ID
+     * @return 회원 + 프로필 또는 404 Not Found
+     */
+    @Operation(summary = "회원 + 프로필 조회", description = "회원과 프로필을 LEFT JOIN 쿼리 한 번으로 함께 조회합니다")
+    @GetMapping("/{id}/full")
+    @Transactional(readOnly = true)
+    public ResponseEntity<MemberWithProfile> getMemberWithProfile(@PathVariable Long id) {
+        log.info("MyBatis 회원 + 프로필 조회 요청: {}", id);
+        MemberWithProfile memberWithProfile = memberMapper.findMemberWithProfileById(id);
+        return memberWithProfile != null ? ResponseEntity.ok(memberWithProfile) : ResponseEntity.notFound().build();
+    }
+    
+    /**
+     * 회원과 프로필을 id 커서 기반으로 페이지 단위 조회합니다
+     * <p>
+     * 페이지 전체를 조인 쿼리 한 번으로 가져오므로 회원마다 프로필 쿼리가 추가되지 않습니다.
+     * 조건부 요청은 회원/프로필 페이지 버전만 집계해 변경이 없으면 304로 응답합니다.
+     * 
+     * @param after 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 페이지 크기 (기본 20, 최대 100)
+     * @param request 조건부 요청 헤더 확인용
+     * @return 회원 + 프로필 커서 페이지 (페이지 ETag 포함), 변경이 없으면 304
+     */
+    @Operation(summary = "회원 + 프로필 목록 조회", description = "id 커서 기반 페이지를 LEFT JOIN 쿼리 한 번으로 프로필과 함께 조회합니다")
+    @GetMapping("/full")
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<MemberWithProfile>> getAllMembersWithProfile(@RequestParam(defaultValue = "0") Long after,
+                                                                                  @RequestParam(required = false) Integer limit,
+                                                                                  WebRequest request) {
+        log.info("MyBatis 회원 + 프로필 목록 조회 요청 - after: {}, limit: {}", after, limit);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        if (ConditionalGets.isPageConditional(request)) {
+            PageVersion version = memberMapper.findMemberWithProfilePageVersion(after, pageSize + 1);
+            if (ConditionalGets.checkPageNotModified(request, ConditionalGets.pageEtag("members-full", after, pageSize, version))) {
+                return null;
+            }
+        }
+        List<MemberWithProfile> rows = memberMapper.findMembersWithProfileAfter(after, pageSize + 1);
+        PageVersion version = PageVersion.ofMembersWithProfile(rows);
+        return ConditionalGets.page(CursorPage.of(rows, pageSize, row -> row.getMember().getId()),
+                ConditionalGets.pageEtag("members-full", after, pageSize, version));
+    }
+    
+    /**
+     * 회원을 복합 조건으로 검색합니다
+     * <p>
+     * 이름, 이메일(앞부분), 나이 범위, 성별, 닉네임, 우편번호 중 지정한 조건만 AND로 결합해
+     * 프로필 조인 쿼리 한 번으로 조회하고 id 커서 기반으로 페이지를 나눕니다.
+     * 
+     * @param condition 검색 조건 (모두 선택)
+     * @param after 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 페이지 크기 (기본 20, 최대 100)
+     * @return 회원 + 프로필 커서 페이지
+     */
+    @Operation(summary = "회원 복합 조건 검색", description = "이름/이메일/나이 범위/성별/닉네임/우편번호를 조합해 프로필 조인 쿼리 한 번으로 검색합니다")
+    @GetMapping("/search")
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<MemberWithProfile>> searchMembers(@ModelAttribute MemberSearchCondition condition,
+                                                                       @RequestParam(defaultValue = "0") Long after,
+                                                                       @RequestParam(required = false) Integer limit) {
+        log.info("MyBatis 회원 검색 요청 - 조건: {}, after: {}, limit: {}", condition, after, limit);
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<MemberWithProfile> rows = memberMapper.searchMembers(condition.normalize(), after, pageSize + 1);
+        return ResponseEntity.ok(CursorPage.of(rows, pageSize, row -> row.getMember().getId()));
     }
     
     // ====== Form 기반 API (학습용) ======
@@ -185,6 +682,8 @@ public class MyBatisMemberController {
         }
         
         memberMapper.insertMember(member);
+        emailFilter.add(member.getEmail());
+        memberLookupCache.evictMemberQueries();
         log.info("MyBatis Form 회원 등록 성공: {}", member.getId());
         
         return ResponseEntity.ok(member);
@@ -218,6 +717,8 @@ public class MyBatisMemberController {
         }
         
         memberMapper.updateMember(existingMember);
+        memberLookupCache.evictMember(id);
+        emailFilter.add(existingMember.getEmail());
         log.info("MyBatis Form 회원 수정 성공: {}", existingMember.getId());
         
         return ResponseEntity.ok(existingMember);
@@ -228,26 +729,29 @@ public class MyBatisMemberController {
     public ResponseEntity<Profile> createProfileForm(@PathVariable Long id, @ModelAttribute Profile profile) {
         log.info("MyBatis Form 프로필 등록 요청 - Member ID: {}, Profile: {}", id, profile);
         
-        // 회원 존재 확인
-        Member member = memberMapper.findMemberById(id);
-        if (member == null) {
-            return ResponseEntity.notFound().build();
-        }
-        
         // 회원 ID 설정
         profile.setMemberId(id);
         
-        // 기존 프로필이 있는지 확인
-        Profile existingProfile = memberProfileMapper.findProfileByMemberId(id);
-        if (existingProfile != null) {
-            profile.setId(existingProfile.getId());
-            memberProfileMapper.updateProfile(profile);
-        } else {
-            memberProfileMapper.insertProfile(profile);
+        // 회원이 없으면 MERGE가 외래키 위반으로 실패
+        profileWriteBehind.flush(id);
+        Profile savedProfile = upsertProfile(profile);
+        if (savedProfile == null) {
+            return ResponseEntity.notFound().build();
         }
+        memberLookupCache.evictProfile(id);
         
-        log.info("MyBatis Form 프로필 등록 성공: {}", profile.getId());
+        log.info("MyBatis Form 프로필 등록 성공: {}", savedProfile.getId());
         
-        return ResponseEntity.ok(profile);
+        return ResponseEntity.ok(savedProfile);
+    }
+    
+    /**
+     * 프로필을 MERGE 한 문장으로 등록/수정합니다. 회원이 없으면 null을 반환합니다.
+     *
+     * @see ProfileUpserts
+     */
+    private Profile upsertProfile(Profile profile) {
+        return ProfileUpserts.upsert(memberProfileMapper, profile,
+                memberId -> memberMapper.findMemberById(memberId) != null);
     }
 }
\ No newline at end of file
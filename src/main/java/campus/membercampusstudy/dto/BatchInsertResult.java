@@ -0,0 +1,34 @@
+package campus.membercampusstudy.dto;
+
+/**
+ * 일괄 등록 행별 결과
+ *
+ * @param index 요청 배열에서의 위치 (0부터)
+ * @param email 요청한 이메일
+ * @param id 생성된 회원 ID ({@link Status#CREATED}일 때만 존재)
+ * @param status 처리 결과
+ * @param message 실패 사유 (성공 시 null)
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record BatchInsertResult(int index, String email, Long id, Status status, String message) {
+
+    public enum Status {
+        /** 등록 성공 */
+        CREATED,
+        /** 이미 등록된 이메일이거나 요청 안에서 중복된 이메일 */
+        DUPLICATE,
+        /** 필수 값 누락 */
+        INVALID,
+        /** 배치 실행 실패 (해당 청크 롤백) */
+        FAILED
+    }
+
+    public static BatchInsertResult created(int index, String email, Long id) {
+        return new BatchInsertResult(index, email, id, Status.CREATED, null);
+    }
+
+    public static BatchInsertResult rejected(int index, String email, Status status, String message) {
+        return new BatchInsertResult(index, email, null, status, message);
+    }
+}
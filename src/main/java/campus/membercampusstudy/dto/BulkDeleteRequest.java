@@ -0,0 +1,36 @@
+package campus.membercampusstudy.dto;
+
+import campus.membercampusstudy.entity.Member;
+
+import java.util.List;
+
+/**
+ * 회원 일괄 삭제 요청
+ * <p>
+ * ID 목록({@code ids}) 또는 조건({@code minAge}, {@code maxAge}, {@code gender}) 중 한 가지 방식만 지정합니다.
+ * 조건은 지정한 항목만 AND로 적용하며, 아무 조건 없이 전체를 삭제하는 요청은 허용하지 않습니다.
+ *
+ * @param ids 삭제할 회원 ID 목록
+ * @param minAge 최소 나이 (포함)
+ * @param maxAge 최대 나이 (포함)
+ * @param gender 성별
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record BulkDeleteRequest(List<Long> ids, Integer minAge, Integer maxAge, Member.Gender gender) {
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasCriteria() {
+        return minAge != null || maxAge != null || gender != null;
+    }
+
+    /**
+     * ID 목록과 조건 중 정확히 한 가지만 지정되었는지 확인합니다.
+     */
+    public boolean isValid() {
+        return hasIds() != hasCriteria();
+    }
+}
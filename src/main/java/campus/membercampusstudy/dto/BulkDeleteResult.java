@@ -0,0 +1,13 @@
+package campus.membercampusstudy.dto;
+
+/**
+ * 회원 일괄 삭제 결과
+ *
+ * @param matched 삭제 대상 회원 수 (ID 목록 방식은 중복을 제거한 요청 ID 수, 조건 방식은 조건에 맞은 회원 수)
+ * @param deleted 실제로 삭제된 회원 수 (DELETE 문의 영향 행 수 합계)
+ * @param chunks 실행한 DELETE 문 수
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record BulkDeleteResult(long matched, long deleted, int chunks) {
+}
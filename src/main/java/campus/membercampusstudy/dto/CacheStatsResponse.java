@@ -0,0 +1,35 @@
+package campus.membercampusstudy.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.hibernate.stat.CacheRegionStatistics;
+
+/**
+ * 캐시 통계 응답
+ *
+ * @param name 캐시 이름
+ * @param size 현재 항목 수 (추정치, 알 수 없으면 -1)
+ * @param hitCount 적중 횟수
+ * @param missCount 실패 횟수
+ * @param hitRate 적중률 (0.0 ~ 1.0)
+ * @param evictionCount 크기/TTL 초과로 제거된 항목 수 (Hibernate 2차 캐시 영역은 집계하지 않아 0)
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record CacheStatsResponse(String name, long size, long hitCount, long missCount,
+                                 double hitRate, long evictionCount) {
+
+    public static CacheStatsResponse of(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+
+    public static CacheStatsResponse of(String name, CacheRegionStatistics stats) {
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        long size = stats.getElementCountInMemory();
+        return new CacheStatsResponse(name, size < 0 ? -1 : size, hits, misses,
+                hits + misses == 0 ? 1.0 : (double) hits / (hits + misses), 0);
+    }
+}
@@ -0,0 +1,56 @@
+package campus.membercampusstudy.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지 응답
+ * <p>
+ * {@code nextCursor}를 다음 요청의 {@code after} 파라미터로 그대로 전달하면 다음 페이지를 조회합니다.
+ * 마지막 페이지이면 {@code nextCursor}는 {@code null}이고 {@code hasNext}는 {@code false}입니다.
+ *
+ * @param items 현재 페이지 항목 (id 오름차순)
+ * @param nextCursor 다음 페이지 조회용 커서 (마지막 항목의 id)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param <T> 항목 타입
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor, boolean hasNext) {
+
+    /** limit 미지정 시 기본 페이지 크기 */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /** 한 페이지에서 허용하는 최대 크기 */
+    public static final int MAX_LIMIT = 100;
+
+    /**
+     * 요청된 limit을 허용 범위(1 ~ {@link #MAX_LIMIT})로 보정합니다.
+     *
+     * @param limit 요청된 페이지 크기 (null이면 기본값)
+     * @return 보정된 페이지 크기
+     */
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * {@code limit + 1}건으로 조회한 결과로 페이지를 만듭니다.
+     * <p>
+     * 한 건을 더 조회해 두면 별도의 COUNT 쿼리 없이 다음 페이지 존재 여부를 알 수 있습니다.
+     *
+     * @param rows {@code limit + 1}건까지 조회한 결과 (id 오름차순)
+     * @param limit 페이지 크기
+     * @param idExtractor 항목에서 커서(id)를 꺼내는 함수
+     * @return 커서 페이지
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> idExtractor) {
+        boolean hasNext = rows.size() > limit;
+        List<T> items = hasNext ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasNext ? idExtractor.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(List.copyOf(items), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,136 @@
+package campus.membercampusstudy.dto;
+
+import lombok.Getter;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목록 조회 {@code ?fields=} 허용 필드
+ * <p>
+ * 요청 필드 이름을 SQL 컬럼(MyBatis)과 JPQL 속성(JPA)으로 대응시키는 화이트리스트입니다.
+ * 컬럼 식은 SQL에 그대로 들어가므로 요청 문자열을 직접 쓰지 않고 반드시 이 enum을 거칩니다.
+ * <ul>
+ *   <li>회원 필드: {@code id, email, name, phone, age, gender, createdAt, updatedAt}</li>
+ *   <li>프로필 필드: {@code profile.} 접두사 (요청하면 {@code member LEFT JOIN profile}로 조회)</li>
+ * </ul>
+ * 커서 페이지네이션에 필요하므로 {@code id}는 요청하지 않아도 항상 포함됩니다.
+ * <p>
+ * 조회 결과 행의 키는 점이 없는 {@link #getAlias() 별칭}입니다. MyBatis는 Map 결과도 MetaObject로 채우므로
+ * {@code profile.nickname} 같은 별칭을 중첩 경로로 해석해 {@code {profile={nickname=...}}}로 담기 때문입니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Getter
+public enum MemberField {
+
+    ID("id", "m.id", "m.id"),
+    EMAIL("email", "m.email", "m.email"),
+    NAME("name", "m.name", "m.name"),
+    PHONE("phone", "m.phone", "m.phone"),
+    AGE("age", "m.age", "m.age"),
+    GENDER("gender", "m.gender", "m.gender"),
+    CREATED_AT("createdAt", "m.created_at", "m.createdAt"),
+    UPDATED_AT("updatedAt", "m.updated_at", "m.updatedAt"),
+    PROFILE_NICKNAME("profile.nickname", "p.nickname", "p.nickname"),
+    PROFILE_NAME("profile.name", "p.name", "p.name"),
+    PROFILE_IMAGE_URL("profile.profileImageUrl", "p.profile_image_url", "p.profileImageUrl"),
+    PROFILE_POSTAL_CODE("profile.postalCode", "p.postal_code", "p.postalCode"),
+    PROFILE_ADDRESS("profile.address", "p.address", "p.address"),
+    PROFILE_ADDRESS_DETAIL("profile.addressDetail", "p.address_detail", "p.addressDetail"),
+    PROFILE_MOBILE_PHONE("profile.mobilePhone", "p.mobile_phone", "p.mobilePhone"),
+    PROFILE_MEMO("profile.memo", "p.memo", "p.memo");
+
+    private static final String PROFILE_PREFIX = "profile.";
+
+    /** 요청/응답 필드 이름 */
+    private final String key;
+    /** SQL 컬럼 식 (member 별칭 m, profile 별칭 p) */
+    private final String column;
+    /** JPQL 속성 경로 (Member 별칭 m, Profile 별칭 p) */
+    private final String attribute;
+    /** 조회 결과 행의 키이자 SQL 컬럼 별칭 (점을 밑줄로 바꾼 이름, 예: {@code profile_nickname}) */
+    private final String alias;
+
+    MemberField(String key, String column, String attribute) {
+        this.key = key;
+        this.column = column;
+        this.attribute = attribute;
+        this.alias = key.replace('.', '_');
+    }
+
+    public boolean isProfile() {
+        return key.startsWith(PROFILE_PREFIX);
+    }
+
+    /**
+     * 쉼표로 구분된 필드 목록을 해석합니다.
+     *
+     * @param fields 요청 값 (예: {@code id,name,profile.nickname})
+     * @return {@code id}가 맨 앞에 오는 중복 없는 필드 목록
+     * @throws IllegalArgumentException 허용되지 않은 필드가 있을 때
+     */
+    public static List<MemberField> parse(String fields) {
+        Set<MemberField> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        for (String key : fields.split(",")) {
+            if (!key.isBlank()) {
+                selected.add(of(key.trim()));
+            }
+        }
+        return List.copyOf(selected);
+    }
+
+    /**
+     * 필드 목록에 프로필 필드가 있는지 확인합니다 (profile 조인 여부 판단).
+     */
+    public static boolean includesProfile(Collection<MemberField> fields) {
+        return fields.stream().anyMatch(MemberField::isProfile);
+    }
+
+    /**
+     * 필드 별칭으로 조회한 행을 응답 객체로 바꿉니다.
+     * <p>
+     * 요청 순서를 유지하고 값이 없는 필드는 null로 채우며, 프로필 필드는 {@code profile} 객체 아래에 담습니다.
+     * MyBatis Map 결과의 {@link Timestamp}는 엔티티와 같은 {@code LocalDateTime}으로 맞춥니다.
+     *
+     * @param fields 조회한 필드 목록
+     * @param row 필드 별칭({@link #getAlias()})을 키로 하는 조회 결과 행
+     * @return 응답 객체
+     */
+    public static Map<String, Object> toResponse(List<MemberField> fields, Map<String, Object> row) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        Map<String, Object> profile = null;
+        for (MemberField field : fields) {
+            Object value = row.get(field.alias);
+            if (value instanceof Timestamp timestamp) {
+                value = timestamp.toLocalDateTime();
+            }
+            if (field.isProfile()) {
+                if (profile == null) {
+                    profile = new LinkedHashMap<>();
+                    response.put("profile", profile);
+                }
+                profile.put(field.key.substring(PROFILE_PREFIX.length()), value);
+            } else {
+                response.put(field.key, value);
+            }
+        }
+        return response;
+    }
+
+    private static MemberField of(String key) {
+        for (MemberField field : values()) {
+            if (field.key.equals(key)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 필드입니다: " + key);
+    }
+}
@@ -0,0 +1,39 @@
+package campus.membercampusstudy.dto;
+
+import campus.membercampusstudy.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 부분 수정 요청
+ * <p>
+ * null이 아닌 필드만 수정합니다 (필드를 생략하거나 null로 보내면 기존 값 유지).
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberPatch {
+
+    private String email;
+
+    private String name;
+
+    private String phone;
+
+    private Integer age;
+
+    private Member.Gender gender;
+
+    /**
+     * 수정할 필드가 하나도 없는지 확인합니다.
+     */
+    public boolean isEmpty() {
+        return email == null && name == null && phone == null && age == null && gender == null;
+    }
+}
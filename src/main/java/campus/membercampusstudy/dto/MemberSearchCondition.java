@@ -0,0 +1,84 @@
+package campus.membercampusstudy.dto;
+
+import campus.membercampusstudy.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 복합 조건 검색 요청
+ * <p>
+ * 지정한 조건만 AND로 결합합니다 (null 또는 빈 문자열 조건은 적용하지 않음).
+ * <ul>
+ *   <li>{@code name}, {@code nickname}: 부분일치</li>
+ *   <li>{@code email}: 앞부분 일치 (이메일 인덱스 범위 스캔)</li>
+ *   <li>{@code minAge}, {@code maxAge}: 범위 (양 끝 포함)</li>
+ *   <li>{@code gender}, {@code postalCode}: 정확히 일치</li>
+ * </ul>
+ * 프로필 조건({@code nickname}, {@code postalCode})을 지정하면 프로필이 없는 회원은 결과에서 빠집니다.
+ * 부분/앞부분 일치 값의 {@code %}, {@code _}는 와일드카드가 아닌 문자로 검색합니다 ({@link #escapeLike(String)}).
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSearchCondition {
+
+    /** LIKE 이스케이프 문자 (SQL에서는 {@code ESCAPE '\'}) */
+    public static final char LIKE_ESCAPE = '\\';
+
+    private String name;
+
+    private String email;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private Member.Gender gender;
+
+    private String nickname;
+
+    private String postalCode;
+
+    /**
+     * 빈 문자열 조건을 null로 바꿉니다 (쿼리 파라미터를 비워 보낸 경우).
+     */
+    public MemberSearchCondition normalize() {
+        name = blankToNull(name);
+        email = blankToNull(email);
+        nickname = blankToNull(nickname);
+        postalCode = blankToNull(postalCode);
+        return this;
+    }
+
+    /**
+     * LIKE 패턴에 넣을 값의 와일드카드({@code %}, {@code _})와 이스케이프 문자를 일반 문자로 바꿉니다.
+     * <p>
+     * 이스케이프하지 않으면 {@code email=%} 같은 앞부분 검색이 전체 스캔이 됩니다.
+     *
+     * @return 이스케이프한 값, null이면 null
+     */
+    public static String escapeLike(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
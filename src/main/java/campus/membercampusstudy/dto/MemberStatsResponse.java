@@ -0,0 +1,19 @@
+package campus.membercampusstudy.dto;
+
+import java.util.Map;
+
+/**
+ * 회원 통계 응답
+ * <p>
+ * 구간 정의는 {@code MemberStatsBuckets}를 참고하세요.
+ *
+ * @param total 전체 회원 수
+ * @param byGender 성별 회원 수 (미입력은 UNKNOWN)
+ * @param byAge 10년 단위 나이 구간별 회원 수 (미입력은 UNKNOWN)
+ * @param byPostalPrefix 프로필 우편번호 앞 2자리별 회원 수 (0건 구간 제외, 프로필 없는 회원 제외)
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record MemberStatsResponse(long total, Map<String, Long> byGender, Map<String, Long> byAge,
+                                  Map<String, Long> byPostalPrefix) {
+}
@@ -0,0 +1,25 @@
+package campus.membercampusstudy.dto;
+
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 + 프로필 조합 응답
+ * <p>
+ * 프로필이 없는 회원은 {@code profile}이 {@code null}입니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberWithProfile {
+
+    private Member member;
+
+    private Profile profile;
+}
@@ -0,0 +1,13 @@
+package campus.membercampusstudy.dto;
+
+import java.util.List;
+
+/**
+ * 다건 조회 요청
+ *
+ * @param ids 조회할 회원 ID 목록 (응답은 이 순서를 따름, 최대 {@code member.mget.max-ids}건)
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record MultiGetRequest(List<Long> ids) {
+}
@@ -0,0 +1,23 @@
+package campus.membercampusstudy.dto;
+
+import campus.membercampusstudy.entity.Member;
+
+/**
+ * 회원 다건 조회 항목별 결과
+ *
+ * @param id 요청한 회원 ID
+ * @param found 회원 존재 여부
+ * @param member 조회된 회원 (없으면 null)
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record MultiGetResult(Long id, boolean found, Member member) {
+
+    public static MultiGetResult found(Long id, Member member) {
+        return new MultiGetResult(id, true, member);
+    }
+
+    public static MultiGetResult missing(Long id) {
+        return new MultiGetResult(id, false, null);
+    }
+}
@@ -0,0 +1,58 @@
+package campus.membercampusstudy.dto;
+
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 키셋 페이지 버전 (목록 조건부 GET의 페이지 ETag 계산용)
+ * <p>
+ * 페이지 본문을 읽지 않고 행 수, 마지막 회원 ID, 최신 {@code updated_at}만으로 변경 여부를 판단합니다.
+ * 수정은 {@code updated_at}으로, 행 추가/삭제는 행 수나 마지막 ID 변화로 드러납니다.
+ * DB 집계 결과와 조회한 행 목록({@link #ofMembers}, {@link #ofMembersWithProfile})은 같은 값을 만듭니다.
+ *
+ * @param rowCount 페이지 행 수 (회원 + 프로필 페이지는 프로필 행 수 포함)
+ * @param lastId 페이지 마지막 회원 ID (빈 페이지면 null)
+ * @param lastModified 페이지 안의 최신 {@code updated_at} (빈 페이지면 null)
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record PageVersion(long rowCount, Long lastId, LocalDateTime lastModified) {
+
+    public static PageVersion ofMembers(List<Member> rows) {
+        Long lastId = null;
+        LocalDateTime lastModified = null;
+        for (Member member : rows) {
+            lastId = max(lastId, member.getId());
+            lastModified = latest(lastModified, member.getUpdatedAt());
+        }
+        return new PageVersion(rows.size(), lastId, lastModified);
+    }
+
+    public static PageVersion ofMembersWithProfile(List<MemberWithProfile> rows) {
+        long rowCount = 0;
+        Long lastId = null;
+        LocalDateTime lastModified = null;
+        for (MemberWithProfile row : rows) {
+            rowCount++;
+            lastId = max(lastId, row.getMember().getId());
+            lastModified = latest(lastModified, row.getMember().getUpdatedAt());
+            Profile profile = row.getProfile();
+            if (profile != null) {
+                rowCount++;
+                lastModified = latest(lastModified, profile.getUpdatedAt());
+            }
+        }
+        return new PageVersion(rowCount, lastId, lastModified);
+    }
+
+    private static Long max(Long current, Long candidate) {
+        return current == null || (candidate != null && candidate > current) ? candidate : current;
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || (candidate != null && candidate.isAfter(current)) ? candidate : current;
+    }
+}
@@ -0,0 +1,30 @@
+package campus.membercampusstudy.dto;
+
+import campus.membercampusstudy.entity.Profile;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 기록되지 않은 프로필 저장 (write-behind)
+ * <p>
+ * write-behind 모드의 저장 응답(202)과 기록 전 프로필 조회 응답으로 사용합니다.
+ * 아직 DB 행이 없으므로 프로필 ID와 생성/수정 시각 대신 상태({@value #STATUS})와 접수 시각을 담습니다.
+ *
+ * @param memberId 회원 ID
+ * @param status 항상 {@value #STATUS}
+ * @param acceptedAt 버퍼에 접수된 시각
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record PendingProfile(Long memberId, String nickname, String name, String profileImageUrl, String postalCode,
+                             String address, String addressDetail, String mobilePhone, String memo,
+                             String status, LocalDateTime acceptedAt) {
+
+    public static final String STATUS = "PENDING";
+
+    public static PendingProfile of(Profile profile, LocalDateTime acceptedAt) {
+        return new PendingProfile(profile.getMemberId(), profile.getNickname(), profile.getName(),
+                profile.getProfileImageUrl(), profile.getPostalCode(), profile.getAddress(),
+                profile.getAddressDetail(), profile.getMobilePhone(), profile.getMemo(), STATUS, acceptedAt);
+    }
+}
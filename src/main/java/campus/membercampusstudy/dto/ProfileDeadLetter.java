@@ -0,0 +1,16 @@
+package campus.membercampusstudy.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록에 실패해 버퍼에서 빠진 write-behind 프로필 저장
+ *
+ * @param profile 기록하지 못한 저장
+ * @param attempts 기록 시도 횟수
+ * @param error 마지막 실패 사유
+ * @param failedAt 마지막 실패 시각
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record ProfileDeadLetter(PendingProfile profile, int attempts, String error, LocalDateTime failedAt) {
+}
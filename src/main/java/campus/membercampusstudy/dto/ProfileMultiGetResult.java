@@ -0,0 +1,25 @@
+package campus.membercampusstudy.dto;
+
+import campus.membercampusstudy.entity.Profile;
+
+/**
+ * 프로필 다건 조회 항목별 결과
+ * <p>
+ * 회원 다건 조회({@link MultiGetResult})와 같은 모양이지만 프로필 필드로 응답합니다.
+ *
+ * @param memberId 요청한 회원 ID
+ * @param found 프로필 존재 여부
+ * @param profile 조회된 프로필 (없으면 null)
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public record ProfileMultiGetResult(Long memberId, boolean found, Profile profile) {
+
+    public static ProfileMultiGetResult found(Long memberId, Profile profile) {
+        return new ProfileMultiGetResult(memberId, true, profile);
+    }
+
+    public static ProfileMultiGetResult missing(Long memberId) {
+        return new ProfileMultiGetResult(memberId, false, null);
+    }
+}
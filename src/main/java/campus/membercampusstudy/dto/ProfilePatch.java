@@ -0,0 +1,45 @@
+package campus.membercampusstudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로필 부분 수정 요청
+ * <p>
+ * null이 아닌 필드만 수정합니다 (필드를 생략하거나 null로 보내면 기존 값 유지).
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilePatch {
+
+    private String nickname;
+
+    private String name;
+
+    private String profileImageUrl;
+
+    private String postalCode;
+
+    private String address;
+
+    private String addressDetail;
+
+    private String mobilePhone;
+
+    private String memo;
+
+    /**
+     * 수정할 필드가 하나도 없는지 확인합니다.
+     */
+    public boolean isEmpty() {
+        return nickname == null && name == null && profileImageUrl == null && postalCode == null
+                && address == null && addressDetail == null && mobilePhone == null && memo == null;
+    }
+}
@@ -1,11 +1,17 @@
 package campus.membercampusstudy.entity;
 
+import campus.membercampusstudy.cache.SecondLevelCache;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,13 +19,19 @@ import java.time.LocalDateTime;
 /**
  * 회원 엔티티
  * <p>
- * 테이블: {@code member} - JPA와 MyBatis 공용
+ * 테이블: {@code member} - JPA와 MyBatis 공용<br>
+ * 수정 시 변경된 컬럼만 UPDATE ({@code @DynamicUpdate})<br>
+ * 2차 캐시: ID로 엔티티, 자연 키인 이메일로 ID를 캐시 (변경 가능한 자연 키)
  * 
  * @author XIYO
  * @since 2025-08-02
  */
 @Entity
 @Table(name = "member")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCache.MEMBER)
+@NaturalIdCache(region = SecondLevelCache.MEMBER_EMAIL)
 @Data
 @Builder
 @NoArgsConstructor
@@ -30,6 +42,7 @@ public class Member {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false, length = 100)
     private String email;
     
@@ -1,11 +1,17 @@
 package campus.membercampusstudy.entity;
 
+import campus.membercampusstudy.cache.SecondLevelCache;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -14,13 +20,19 @@ import java.time.LocalDateTime;
  * 회원 프로필 엔티티
  * <p>
  * 테이블: {@code profile} - JPA와 MyBatis 공용<br>
- * Member와 1:1 관계
+ * Member와 1:1 관계<br>
+ * 수정 시 변경된 컬럼만 UPDATE ({@code @DynamicUpdate})<br>
+ * 2차 캐시: ID로 엔티티, 자연 키인 회원 ID로 프로필 ID를 캐시
  * 
  * @author XIYO
  * @since 2025-08-02
  */
 @Entity
 @Table(name = "profile")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCache.PROFILE)
+@NaturalIdCache(region = SecondLevelCache.PROFILE_MEMBER_ID)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -30,6 +42,7 @@ public class Profile {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @NaturalId
     @Column(name = "member_id", nullable = false, unique = true)
     private Long memberId;
     
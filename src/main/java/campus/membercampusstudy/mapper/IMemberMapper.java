@@ -1,10 +1,14 @@
 package campus.membercampusstudy.mapper;
 
+import campus.membercampusstudy.dto.MemberWithProfile;
 import campus.membercampusstudy.entity.Member;
 import campus.membercampusstudy.repository.IMember;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 회원 매퍼 인터페이스
@@ -31,6 +35,16 @@ public interface IMemberMapper extends IMember {
      */
     List<Member> findAllMembers();
     
+    /**
+     * 모든 회원을 id 순으로 커서 조회합니다. (MyBatis 전용)
+     * <p>
+     * 결과를 List로 모으지 않고 한 행씩 읽으므로 대량 내보내기에 사용합니다.
+     * 트랜잭션(열린 SqlSession) 안에서 사용하고 반드시 닫아야 합니다.
+     * 
+     * @return id 오름차순 회원 커서
+     */
+    Cursor<Member> scanAllMembers();
+    
     /**
      * ID로 특정 회원을 조회합니다. (MyBatis 전용)
      * 
@@ -47,6 +61,14 @@ public interface IMemberMapper extends IMember {
      */
     Member findMemberByEmail(String email);
     
+    /**
+     * ID로 회원과 프로필을 조인 조회합니다. (MyBatis 전용)
+     * 
+     * @param id 회원 ID
+     * @return 회원 + 프로필 (프로필이 없으면 profile은 null), 회원이 없으면 null
+     */
+    MemberWithProfile findMemberWithProfileById(Long id);
+    
     /**
      * 특정 이메일을 가진 회원의 수를 조회합니다. (MyBatis 전용)
      * 
@@ -55,6 +77,16 @@ public interface IMemberMapper extends IMember {
      */
     int countByEmail(String email);
     
+    /**
+     * 주어진 이메일 중 이미 등록된 이메일을 조회합니다. (MyBatis 전용)
+     * <p>
+     * 일괄 등록 시 행마다 중복 확인을 하지 않고 청크당 한 번의 IN 조회로 확인합니다.
+     * 
+     * @param emails 확인할 이메일 목록 (비어 있으면 안 됨)
+     * @return 이미 등록된 이메일 목록
+     */
+    List<String> findExistingEmails(Collection<String> emails);
+    
     /**
      * 회원 정보를 업데이트합니다. (MyBatis 전용)
      * 
@@ -64,13 +96,48 @@ public interface IMemberMapper extends IMember {
     
     /**
      * 회원을 삭제합니다. (MyBatis 전용)
+     * <p>
+     * 프로필은 외래키 {@code ON DELETE CASCADE}로 함께 삭제됩니다.
      * 
      * @param id 삭제할 회원 ID
+     * @return 삭제된 회원 수 (없는 ID면 0)
      */
-    void deleteMember(Long id);
+    int deleteMember(Long id);
     
     // MyBatis는 enum을 String으로 처리하므로 String 타입 메서드도 추가
     List<Member> findByGender(@Param("gender") String gender);
     
     // IMember 인터페이스 기본 구현은 어댑터 패턴으로 MyBatis 메서드를 래핑
+    
+    /**
+     * 이메일로 회원을 조회합니다 (IMember 인터페이스 구현).
+     */
+    @Override
+    default Optional<Member> findByEmail(String email) {
+        return Optional.ofNullable(findMemberByEmail(email));
+    }
+    
+    /**
+     * 이메일로 회원 존재 여부를 확인합니다 (IMember 인터페이스 구현).
+     */
+    @Override
+    default boolean existsByEmail(String email) {
+        return countByEmail(email) > 0;
+    }
+    
+    /**
+     * 회원과 프로필을 조인 조회합니다 (IMember 인터페이스 구현).
+     */
+    @Override
+    default Optional<MemberWithProfile> findMemberWithProfile(Long id) {
+        return Optional.ofNullable(findMemberWithProfileById(id));
+    }
+    
+    /**
+     * 성별로 회원을 검색합니다 (IMember 인터페이스 구현).
+     */
+    @Override
+    default List<Member> findByGender(Member.Gender gender) {
+        return findByGender(gender != null ? gender.name() : null);
+    }
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package campus.membercampusstudy.mapper;
 
 import campus.membercampusstudy.entity.Profile;
 import campus.membercampusstudy.repository.IProfile;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 회원 프로필 매퍼 인터페이스
@@ -23,6 +25,16 @@ public interface IProfileMapper extends IProfile {
      */
     void insertProfile(Profile profile);
     
+    /**
+     * 회원 ID 기준으로 프로필을 등록하거나 수정합니다. (MyBatis 전용)
+     * <p>
+     * 결과 행을 돌려받지 않으므로 BATCH executor에서 JDBC 배치로 묶입니다.
+     * 
+     * @param profile 저장할 프로필 정보 ({@code memberId} 필수)
+     * @return 영향받은 행 수
+     */
+    int mergeProfile(Profile profile);
+    
     /**
      * 모든 프로필을 조회합니다. (MyBatis 전용)
      * 
@@ -30,6 +42,15 @@ public interface IProfileMapper extends IProfile {
      */
     List<Profile> findAllProfiles();
     
+    /**
+     * 모든 프로필을 member_id 순으로 커서 조회합니다. (MyBatis 전용)
+     * <p>
+     * 트랜잭션(열린 SqlSession) 안에서 사용하고 반드시 닫아야 합니다.
+     * 
+     * @return member_id 오름차순 프로필 커서
+     */
+    Cursor<Profile> scanAllProfiles();
+    
     /**
      * ID로 특정 프로필을 조회합니다. (MyBatis 전용)
      * 
@@ -100,4 +121,20 @@ public interface IProfileMapper extends IProfile {
     List<Profile> findProfilesByPostalCode(String postalCode);
     
     // IProfile 인터페이스 기본 구현은 어댑터 패턴으로 MyBatis 메서드를 래핑
+    
+    /**
+     * 회원 ID로 프로필을 조회합니다 (IProfile 인터페이스 구현).
+     */
+    @Override
+    default Optional<Profile> findByMemberId(Long memberId) {
+        return Optional.ofNullable(findProfileByMemberId(memberId));
+    }
+    
+    /**
+     * 회원 ID로 프로필을 삭제합니다 (IProfile 인터페이스 구현).
+     */
+    @Override
+    default void deleteByMemberId(Long memberId) {
+        deleteProfileByMemberId(memberId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package campus.membercampusstudy.mapper;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * MyBatis BATCH executor 실행기
+ * <p>
+ * {@link ExecutorType#BATCH} SqlSession으로 같은 매퍼 구문을 모아 JDBC 배치 한 번으로 전송합니다.
+ * 청크마다 새 트랜잭션에서 실행되므로 한 청크가 실패해도 이전 청크는 커밋된 상태로 남습니다.
+ * <p>
+ * 매퍼는 {@link IMemberMapper}처럼 공통 인터페이스로 지정하며, 현재 프로필에서 등록된
+ * 구현 매퍼(학습용 또는 Ref)를 찾아 사용합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Component
+public class MapperBatchExecutor {
+
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Class<?>, Class<?>> mapperTypes = new ConcurrentHashMap<>();
+
+    public MapperBatchExecutor(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager) {
+        this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출 측 트랜잭션의 SIMPLE 세션과 섞이지 않도록 항상 새 트랜잭션에서 실행
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 청크 하나를 JDBC 배치로 실행합니다.
+     * <p>
+     * {@code useGeneratedKeys}가 설정된 INSERT는 배치 flush 후 각 항목에 생성된 키가 채워집니다.
+     *
+     * @param mapperContract 매퍼 공통 인터페이스 (예: {@code IMemberMapper.class})
+     * @param chunk 실행할 항목들
+     * @param statement 항목 하나에 대해 호출할 매퍼 메서드
+     * @return 항목별 영향 행 수 (청크 순서와 동일)
+     * @throws org.springframework.dao.DataAccessException 배치 실행 실패 시 (청크 전체 롤백)
+     */
+    public <M, T> int[] executeChunk(Class<M> mapperContract, List<T> chunk, BiConsumer<M, T> statement) {
+        M mapper = batchSqlSessionTemplate.getMapper(resolveMapperType(mapperContract));
+        return transactionTemplate.execute(status -> {
+            chunk.forEach(item -> statement.accept(mapper, item));
+            return updateCounts(batchSqlSessionTemplate.flushStatements(), chunk.size());
+        });
+    }
+
+    private int[] updateCounts(List<BatchResult> results, int expected) {
+        int[] counts = new int[expected];
+        int index = 0;
+        for (BatchResult result : results) {
+            for (int count : result.getUpdateCounts()) {
+                if (index < expected) {
+                    counts[index++] = count;
+                }
+            }
+        }
+        return counts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M> Class<? extends M> resolveMapperType(Class<M> contract) {
+        return (Class<? extends M>) mapperTypes.computeIfAbsent(contract, key ->
+                batchSqlSessionTemplate.getConfiguration().getMapperRegistry().getMappers().stream()
+                        .filter(key::isAssignableFrom)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("등록된 매퍼가 없습니다: " + key.getName())));
+    }
+}
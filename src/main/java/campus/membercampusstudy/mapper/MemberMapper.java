@@ -1,10 +1,19 @@
 package campus.membercampusstudy.mapper;
 
+import campus.membercampusstudy.dto.MemberField;
+import campus.membercampusstudy.dto.MemberPatch;
+import campus.membercampusstudy.dto.MemberSearchCondition;
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.dto.PageVersion;
 import campus.membercampusstudy.entity.Member;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * MyBatis 학습용 회원 매퍼 인터페이스
@@ -61,6 +70,21 @@ public interface MemberMapper extends IMemberMapper {
      */
     List<Member> findAllMembers();
     
+    /**
+     * 모든 회원을 id 순으로 커서 조회합니다.
+     * <p>
+     * TODO: {@code @Select}와 {@code @Options} 어노테이션으로 커서 조회 SQL 작성
+     * <ul>
+     *   <li>목적: {@code Cursor} 반환 타입으로 대량 데이터를 한 행씩 읽는 방법 학습</li>
+     *   <li>성공 조건: 모든 회원이 id 오름차순으로 커서를 통해 반환됨</li>
+     *   <li>힌트: {@code SELECT * FROM member ORDER BY id}, {@code @Options(fetchSize = 500)} 사용</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @return id 오름차순 회원 커서
+     */
+    Cursor<Member> scanAllMembers();
+    
     /**
      * ID로 특정 회원을 조회합니다.
      * <p>
@@ -77,6 +101,22 @@ public interface MemberMapper extends IMemberMapper {
      */
     Member findMemberById(@Param("id") Long id);
     
+    /**
+     * 여러 회원을 한 문장으로 조회합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션과 {@code <script>}/{@code <foreach>}로 IN 조건 조회 SQL 작성
+     * <ul>
+     *   <li>목적: 단건 조회를 반복하지 않는 다건 조회(multi-get) 학습</li>
+     *   <li>성공 조건: 목록 중 존재하는 회원만 반환됨 (순서 무관)</li>
+     *   <li>힌트: {@code WHERE id IN <foreach collection="ids" ...>}와 {@code @ResultMap("memberResult")} 사용</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param ids 조회할 회원 ID 목록
+     * @return 조회된 회원 목록
+     */
+    List<Member> findMembersByIds(@Param("ids") Collection<Long> ids);
+    
     /**
      * 이메일로 특정 회원을 조회합니다.
      * <p>
@@ -109,6 +149,22 @@ public interface MemberMapper extends IMemberMapper {
      */
     int countByEmail(@Param("email") String email);
     
+    /**
+     * 주어진 이메일 중 이미 등록된 이메일을 조회합니다.
+     * <p>
+     * TODO: {@code <script>}와 {@code <foreach>}로 IN 조건 동적 SQL 작성
+     * <ul>
+     *   <li>목적: 컬렉션 파라미터를 IN 절로 펼치는 동적 SQL 학습</li>
+     *   <li>성공 조건: 전달한 이메일 중 DB에 존재하는 이메일만 반환됨</li>
+     *   <li>힌트: {@code <foreach collection="emails" item="email" open="(" separator="," close=")">} 사용</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param emails 확인할 이메일 목록
+     * @return 이미 등록된 이메일 목록
+     */
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     /**
      * 이름으로 회원을 검색합니다 (부분일치).
      * <p>
@@ -157,7 +213,121 @@ public interface MemberMapper extends IMemberMapper {
      * @return 검색된 회원 목록
      */
     List<Member> findByGender(@Param("gender") String gender);
+
+    /**
+     * ID 기준 키셋(커서) 페이지를 조회합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션으로 키셋 페이지 조회 SQL 작성
+     * <ul>
+     *   <li>목적: OFFSET 없는 커서 기반 페이지네이션 학습</li>
+     *   <li>성공 조건: {@code afterId}보다 큰 ID의 회원이 ID 오름차순으로 최대 {@code limit}건 반환됨</li>
+     *   <li>힌트: {@code WHERE id > #{afterId} ORDER BY id LIMIT #{limit}} 사용</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return ID 오름차순 회원 목록
+     */
+    List<Member> findMembersAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
     
+    /**
+     * 지정한 필드만 키셋 페이지로 조회합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션과 {@code <foreach>}로 SELECT 목록이 바뀌는 동적 SQL 작성
+     * <ul>
+     *   <li>목적: 필요한 컬럼만 조회해 행 생성 비용과 응답 크기를 줄이는 프로젝션 학습</li>
+     *   <li>성공 조건: 요청한 필드만 필드 별칭을 키로 담긴 Map 목록이 ID 오름차순으로 반환됨</li>
+     *   <li>힌트: {@code ${field.column} AS "${field.alias}"} - 별칭에 점이 있으면 MyBatis가 중첩 Map으로 담음, {@code ${}}는 화이트리스트({@link MemberField}) 값에만 사용,
+     *       프로필 필드가 있으면 {@code <if test="@campus.membercampusstudy.dto.MemberField@includesProfile(fields)">}로 LEFT JOIN</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param fields 조회할 필드
+     * @param limit 최대 조회 건수
+     * @return 필드 별칭을 키로 하는 행 목록
+     */
+    List<Map<String, Object>> findMemberFieldsAfter(@Param("afterId") Long afterId, @Param("fields") List<MemberField> fields,
+                                                    @Param("limit") int limit);
+    
+    /**
+     * 조건에 맞는 회원 ID를 키셋 페이지로 조회합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션과 {@code <script>}/{@code <if>}로 선택 조건 SQL 작성
+     * <ul>
+     *   <li>목적: null인 조건은 WHERE에서 빠지는 동적 SQL 학습</li>
+     *   <li>성공 조건: 지정한 조건에 맞고 {@code afterId}보다 큰 회원 ID가 오름차순으로 최대 {@code limit}건 반환됨</li>
+     *   <li>힌트: {@code <if test="minAge != null">AND age &gt;= #{minAge}</if>} 형태로 조건 추가</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param minAge 최소 나이 (null이면 제한 없음)
+     * @param maxAge 최대 나이 (null이면 제한 없음)
+     * @param gender 성별 (null이면 제한 없음)
+     * @param limit 최대 조회 건수
+     * @return ID 오름차순 회원 ID 목록
+     */
+    List<Long> findMemberIdsAfter(@Param("afterId") Long afterId, @Param("minAge") Integer minAge,
+                                  @Param("maxAge") Integer maxAge, @Param("gender") Member.Gender gender,
+                                  @Param("limit") int limit);
+
+    /**
+     * ID로 회원과 프로필을 조인 조회합니다.
+     * <p>
+     * TODO: {@code @Select} + 중첩 {@code @Results} 매핑으로 LEFT JOIN 조회 SQL 작성
+     * <ul>
+     *   <li>목적: 조인 결과를 두 객체(Member, Profile)로 나눠 담는 중첩 매핑 학습</li>
+     *   <li>성공 조건: 쿼리 한 번으로 회원과 프로필이 함께 반환되고, 프로필이 없으면 profile이 null</li>
+     *   <li>힌트: 프로필 컬럼에 {@code p_} 접두사 별칭을 붙이고 {@code @One(resultMap = ..., columnPrefix = "p_")} 사용</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param id 회원 ID
+     * @return 회원 + 프로필, 회원이 없으면 null
+     */
+    MemberWithProfile findMemberWithProfileById(@Param("id") Long id);
+
+    /**
+     * 회원과 프로필을 ID 기준 키셋 페이지로 조인 조회합니다.
+     * <p>
+     * TODO: {@code @Select} + 중첩 {@code @Results} 매핑으로 LEFT JOIN 키셋 페이지 SQL 작성
+     * <ul>
+     *   <li>목적: 목록 조회에서 N+1 쿼리 없이 연관 데이터를 함께 가져오기</li>
+     *   <li>성공 조건: {@code afterId}보다 큰 ID의 회원이 프로필과 함께 ID 오름차순으로 최대 {@code limit}건 반환됨</li>
+     *   <li>힌트: {@code findMemberWithProfileById}의 매핑에 {@code WHERE m.id > #{afterId} ORDER BY m.id LIMIT #{limit}} 적용</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return 회원 id 오름차순 회원 + 프로필 목록
+     */
+    List<MemberWithProfile> findMembersWithProfileAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 복합 조건으로 회원을 프로필과 함께 검색합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션과 {@code <where>}/{@code <if>}로 동적 검색 SQL 작성
+     * <ul>
+     *   <li>목적: 조건 조합마다 메서드를 만들지 않고 지정된 조건만 WHERE에 넣는 동적 SQL 학습</li>
+     *   <li>성공 조건: 지정한 조건을 모두 만족하는 회원이 프로필과 함께 ID 오름차순으로 최대 {@code limit}건 반환됨</li>
+     *   <li>힌트: {@code findMembersWithProfileAfter}의 조인과 {@code @ResultMap("memberWithProfileResult")}에
+     *       {@code <if test="condition.name != null">AND m.name LIKE ...</if>} 형태의 조건 추가</li>
+     *   <li>힌트: 입력값의 {@code %}, {@code _}는 {@code <bind>}와 {@code MemberSearchCondition.escapeLike}로 이스케이프하고
+     *       {@code ESCAPE '\'}를 붙여야 {@code email=%} 같은 검색이 전체 스캔이 되지 않음</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param condition 검색 조건
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return 회원 + 프로필 목록
+     */
+    List<MemberWithProfile> searchMembers(@Param("condition") MemberSearchCondition condition,
+                                          @Param("afterId") Long afterId, @Param("limit") int limit);
+
     /**
      * 회원 정보를 업데이트합니다.
      * <p>
@@ -173,6 +343,23 @@ public interface MemberMapper extends IMemberMapper {
      */
     void updateMember(Member member);
     
+    /**
+     * 회원의 지정 필드만 수정합니다.
+     * <p>
+     * TODO: {@code @Update} 어노테이션과 {@code <script>}/{@code <set>}/{@code <if>}로 동적 UPDATE SQL 작성
+     * <ul>
+     *   <li>목적: 전달된 컬럼만 SET 절에 넣는 동적 SQL 학습 ({@code <set>}이 마지막 쉼표 처리)</li>
+     *   <li>성공 조건: null이 아닌 필드만 수정되고 수정된 행 수가 반환됨 (없는 ID면 0)</li>
+     *   <li>힌트: {@code <if test="patch.name != null">name = #{patch.name},</if>} 형태로 컬럼 추가</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param id 회원 ID
+     * @param patch 수정할 필드
+     * @return 수정된 행 수
+     */
+    int patchMember(@Param("id") Long id, @Param("patch") MemberPatch patch);
+    
     /**
      * 회원을 삭제합니다.
      * <p>
@@ -185,6 +372,74 @@ public interface MemberMapper extends IMemberMapper {
      * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
      * 
      * @param id 삭제할 회원 ID
+     * @return 삭제된 회원 수
+     */
+    int deleteMember(@Param("id") Long id);
+    
+    /**
+     * 여러 회원을 한 문장으로 삭제합니다.
+     * <p>
+     * TODO: {@code @Delete} 어노테이션과 {@code <script>}/{@code <foreach>}로 IN 조건 삭제 SQL 작성
+     * <ul>
+     *   <li>목적: 행마다 DELETE를 반복하지 않는 집합 기반 삭제와 외래키 CASCADE 학습</li>
+     *   <li>성공 조건: 목록의 회원과 그 프로필이 함께 삭제되고 삭제된 회원 수가 반환됨</li>
+     *   <li>힌트: {@code DELETE FROM member WHERE id IN <foreach collection="ids" ...>} 사용</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param ids 삭제할 회원 ID 목록
+     * @return 삭제된 회원 수
+     */
+    int deleteMembersByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 회원의 최종 수정 시각만 조회합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션으로 {@code updated_at} 한 컬럼만 조회하는 SQL 작성
+     * <ul>
+     *   <li>목적: 조건부 GET(ETag/Last-Modified)에서 엔티티를 읽지 않고 변경 여부만 확인</li>
+     *   <li>성공 조건: 회원이 있으면 {@code updated_at}, 없으면 null 반환</li>
+     *   <li>힌트: {@code SELECT updated_at FROM member WHERE id = #{id}}</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param id 회원 ID
+     * @return 최종 수정 시각
+     */
+    LocalDateTime findMemberUpdatedAt(@Param("id") Long id);
+
+    /**
+     * 회원 키셋 페이지의 버전(행 수, 마지막 ID, 최신 수정 시각)을 집계합니다.
+     * <p>
+     * TODO: {@code @Select}와 {@code @ConstructorArgs}로 집계 결과를 {@link PageVersion} 레코드에 매핑
+     * <ul>
+     *   <li>목적: 목록 본문을 읽지 않고 페이지 변경 여부를 판단하는 집계 쿼리 학습</li>
+     *   <li>성공 조건: {@code findMembersAfter}와 같은 범위의 행 수, 최대 ID, 최대 {@code updated_at} 반환</li>
+     *   <li>힌트: {@code FROM (SELECT id, updated_at FROM member WHERE id > ... ORDER BY id LIMIT ...) page}
+     *       파생 테이블 위에서 {@code COUNT}/{@code MAX}</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return 페이지 버전
+     */
+    PageVersion findMemberPageVersion(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 회원 + 프로필 키셋 페이지의 버전을 집계합니다.
+     * <p>
+     * TODO: {@code findMemberPageVersion}의 파생 테이블에 {@code profile}을 LEFT JOIN 해서 집계
+     * <ul>
+     *   <li>목적: 두 테이블의 수정 시각을 함께 반영하는 페이지 버전 계산</li>
+     *   <li>성공 조건: 행 수는 회원 수 + 프로필 수, 수정 시각은 회원/프로필 중 가장 늦은 값</li>
+     *   <li>힌트: {@code COUNT(m.id) + COUNT(p.id)}, {@code MAX(GREATEST(m.updated_at, COALESCE(p.updated_at, m.updated_at)))}</li>
+     * </ul>
+     * 참고: {@code MemberMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return 페이지 버전
      */
-    void deleteMember(@Param("id") Long id);
-}
\ No newline at end of file
+    PageVersion findMemberWithProfilePageVersion(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
@@ -1,10 +1,22 @@
 package campus.membercampusstudy.mapper;
 
+import campus.membercampusstudy.dto.MemberField;
+import campus.membercampusstudy.dto.MemberPatch;
+import campus.membercampusstudy.dto.MemberSearchCondition;
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.dto.PageVersion;
 import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.support.NameNgrams;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 import org.springframework.context.annotation.Profile;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 회원 매퍼 인터페이스
@@ -31,7 +43,7 @@ public interface MemberMapperRef extends IMemberMapper {
      * 전체 회원 조회
      */
     @Select("SELECT * FROM member")
-    @Results({
+    @Results(id = "memberResult", value = {
             @Result(property = "id", column = "id"),
             @Result(property = "email", column = "email"),
             @Result(property = "name", column = "name"),
@@ -43,6 +55,23 @@ public interface MemberMapperRef extends IMemberMapper {
     })
     List<Member> findAllMembers();
     
+    /**
+     * 전체 회원 커서 조회 (id 순, 내보내기용)
+     */
+    @Select("SELECT * FROM member ORDER BY id")
+    @Options(fetchSize = 500, resultSetType = ResultSetType.FORWARD_ONLY)
+    @Results({
+            @Result(property = "id", column = "id"),
+            @Result(property = "email", column = "email"),
+            @Result(property = "name", column = "name"),
+            @Result(property = "phone", column = "phone"),
+            @Result(property = "age", column = "age"),
+            @Result(property = "gender", column = "gender"),
+            @Result(property = "createdAt", column = "created_at"),
+            @Result(property = "updatedAt", column = "updated_at")
+    })
+    Cursor<Member> scanAllMembers();
+    
     /**
      * ID로 회원 조회
      */
@@ -59,6 +88,18 @@ public interface MemberMapperRef extends IMemberMapper {
     })
     Member findMemberById(@Param("id") Long id);
     
+    /**
+     * ID 목록으로 회원 일괄 조회
+     */
+    @Select("""
+            <script>
+            SELECT * FROM member WHERE id IN
+            <foreach collection="ids" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    @ResultMap("memberResult")
+    List<Member> findMembersByIds(@Param("ids") Collection<Long> ids);
+    
     /**
      * 이메일로 회원 조회
      */
@@ -81,10 +122,62 @@ public interface MemberMapperRef extends IMemberMapper {
     @Select("SELECT COUNT(*) FROM member WHERE email = #{email}")
     int countByEmail(@Param("email") String email);
     
+    /**
+     * 등록된 이메일 일괄 확인
+     */
+    @Select("""
+            <script>
+            SELECT email FROM member WHERE email IN
+            <foreach collection="emails" item="email" open="(" separator="," close=")">#{email}</foreach>
+            </script>
+            """)
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     /**
      * 이름으로 검색 (부분일치)
+     * <p>
+     * {@code member_name_ngram} 색인으로 후보를 좁히고, 색인을 쓸 수 없는 검색어는 LIKE 전체 검색을 사용합니다.
+     */
+    @Override
+    default List<Member> findByNameContaining(String name) {
+        if (!NameNgrams.isIndexable(name)) {
+            return scanByNameContaining(name);
+        }
+        Set<String> grams = NameNgrams.queryGrams(name);
+        return findByNameGrams(name, grams, grams.size());
+    }
+    
+    /**
+     * 이름으로 검색 - n-gram 색인 사용 (모든 gram을 가진 후보를 LIKE로 최종 확인)
+     */
+    @Select("""
+            <script>
+            SELECT m.* FROM member m
+            WHERE m.id IN (
+                SELECT g.member_id FROM member_name_ngram g
+                WHERE g.gram IN
+                <foreach collection="grams" item="gram" open="(" separator="," close=")">#{gram}</foreach>
+                GROUP BY g.member_id
+                HAVING COUNT(*) = #{gramCount})
+            AND m.name LIKE CONCAT('%', #{name}, '%')
+            ORDER BY m.id
+            </script>
+            """)
+    @ResultMap("memberResult")
+    List<Member> findByNameGrams(@Param("name") String name, @Param("grams") Collection<String> grams,
+                                 @Param("gramCount") int gramCount);
+    
+    /**
+     * 이름으로 검색 - LIKE 전체 검색 (색인을 쓸 수 없는 검색어용)
      */
     @Select("SELECT * FROM member WHERE name LIKE CONCAT('%', #{name}, '%')")
+    @ResultMap("memberResult")
+    List<Member> scanByNameContaining(@Param("name") String name);
+    
+    /**
+     * 나이 범위로 검색
+     */
+    @Select("SELECT * FROM member WHERE age BETWEEN #{minAge} AND #{maxAge}")
     @Results({
             @Result(property = "id", column = "id"),
             @Result(property = "email", column = "email"),
@@ -95,12 +188,12 @@ public interface MemberMapperRef extends IMemberMapper {
             @Result(property = "createdAt", column = "created_at"),
             @Result(property = "updatedAt", column = "updated_at")
     })
-    List<Member> findByNameContaining(@Param("name") String name);
+    List<Member> findByAgeBetween(@Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge);
     
     /**
-     * 나이 범위로 검색
+     * 성별로 검색
      */
-    @Select("SELECT * FROM member WHERE age BETWEEN #{minAge} AND #{maxAge}")
+    @Select("SELECT * FROM member WHERE gender = #{gender}")
     @Results({
             @Result(property = "id", column = "id"),
             @Result(property = "email", column = "email"),
@@ -111,12 +204,12 @@ public interface MemberMapperRef extends IMemberMapper {
             @Result(property = "createdAt", column = "created_at"),
             @Result(property = "updatedAt", column = "updated_at")
     })
-    List<Member> findByAgeBetween(@Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge);
-    
+    List<Member> findByGender(@Param("gender") String gender);
+
     /**
-     * 성별로 검색
+     * 키셋 페이지 조회 (id 커서)
      */
-    @Select("SELECT * FROM member WHERE gender = #{gender}")
+    @Select("SELECT * FROM member WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
     @Results({
             @Result(property = "id", column = "id"),
             @Result(property = "email", column = "email"),
@@ -127,8 +220,126 @@ public interface MemberMapperRef extends IMemberMapper {
             @Result(property = "createdAt", column = "created_at"),
             @Result(property = "updatedAt", column = "updated_at")
     })
-    List<Member> findByGender(@Param("gender") String gender);
-    
+    List<Member> findMembersAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 필드 선택 키셋 페이지 조회 (컬럼 식은 MemberField 화이트리스트 값만 사용)
+     */
+    @Select("""
+            <script>
+            SELECT <foreach collection="fields" item="field" separator=", ">${field.column} AS "${field.alias}"</foreach>
+            FROM member m
+            <if test="@campus.membercampusstudy.dto.MemberField@includesProfile(fields)">
+                LEFT JOIN profile p ON p.member_id = m.id
+            </if>
+            WHERE m.id > #{afterId}
+            ORDER BY m.id
+            LIMIT #{limit}
+            </script>
+            """)
+    List<Map<String, Object>> findMemberFieldsAfter(@Param("afterId") Long afterId, @Param("fields") List<MemberField> fields,
+                                                    @Param("limit") int limit);
+
+    /**
+     * 조건별 회원 ID 키셋 페이지 조회 (null 조건은 생략)
+     */
+    @Select("""
+            <script>
+            SELECT id FROM member
+            WHERE id > #{afterId}
+            <if test="minAge != null">AND age &gt;= #{minAge}</if>
+            <if test="maxAge != null">AND age &lt;= #{maxAge}</if>
+            <if test="gender != null">AND gender = #{gender}</if>
+            ORDER BY id
+            LIMIT #{limit}
+            </script>
+            """)
+    List<Long> findMemberIdsAfter(@Param("afterId") Long afterId, @Param("minAge") Integer minAge,
+                                  @Param("maxAge") Integer maxAge, @Param("gender") Member.Gender gender,
+                                  @Param("limit") int limit);
+
+    /**
+     * 회원 + 프로필 조인 조회 (프로필 컬럼은 p_ 접두사로 구분)
+     */
+    @Select("""
+            SELECT m.*,
+                   p.id AS p_id, p.member_id AS p_member_id, p.nickname AS p_nickname, p.name AS p_name,
+                   p.profile_image_url AS p_profile_image_url, p.postal_code AS p_postal_code,
+                   p.address AS p_address, p.address_detail AS p_address_detail,
+                   p.mobile_phone AS p_mobile_phone, p.memo AS p_memo,
+                   p.created_at AS p_created_at, p.updated_at AS p_updated_at
+            FROM member m
+            LEFT JOIN profile p ON p.member_id = m.id
+            WHERE m.id = #{id}
+            """)
+    @Results(id = "memberWithProfileResult", value = {
+            @Result(property = "member", javaType = Member.class, one = @One(resultMap = "memberResult")),
+            @Result(property = "profile", javaType = campus.membercampusstudy.entity.Profile.class,
+                    one = @One(resultMap = "campus.membercampusstudy.mapper.ProfileMapperRef.profileResult", columnPrefix = "p_"))
+    })
+    MemberWithProfile findMemberWithProfileById(@Param("id") Long id);
+
+    /**
+     * 회원 + 프로필 키셋 페이지 조회 (페이지 전체를 조인 한 번으로 조회)
+     */
+    @Select("""
+            SELECT m.*,
+                   p.id AS p_id, p.member_id AS p_member_id, p.nickname AS p_nickname, p.name AS p_name,
+                   p.profile_image_url AS p_profile_image_url, p.postal_code AS p_postal_code,
+                   p.address AS p_address, p.address_detail AS p_address_detail,
+                   p.mobile_phone AS p_mobile_phone, p.memo AS p_memo,
+                   p.created_at AS p_created_at, p.updated_at AS p_updated_at
+            FROM member m
+            LEFT JOIN profile p ON p.member_id = m.id
+            WHERE m.id > #{afterId}
+            ORDER BY m.id
+            LIMIT #{limit}
+            """)
+    @ResultMap("memberWithProfileResult")
+    List<MemberWithProfile> findMembersWithProfileAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 회원 복합 조건 검색 (지정된 조건만 WHERE에 추가, 프로필 LEFT JOIN)
+     * <p>
+     * LIKE 값은 {@code <bind>}로 와일드카드를 이스케이프한 패턴을 만들어 {@code ESCAPE '\'}와 함께 사용합니다.
+     */
+    @Select("""
+            <script>
+            SELECT m.*,
+                   p.id AS p_id, p.member_id AS p_member_id, p.nickname AS p_nickname, p.name AS p_name,
+                   p.profile_image_url AS p_profile_image_url, p.postal_code AS p_postal_code,
+                   p.address AS p_address, p.address_detail AS p_address_detail,
+                   p.mobile_phone AS p_mobile_phone, p.memo AS p_memo,
+                   p.created_at AS p_created_at, p.updated_at AS p_updated_at
+            FROM member m
+            LEFT JOIN profile p ON p.member_id = m.id
+            <where>
+                m.id > #{afterId}
+                <if test="condition.name != null">
+                    <bind name="namePattern" value="'%' + @campus.membercampusstudy.dto.MemberSearchCondition@escapeLike(condition.name) + '%'"/>
+                    AND m.name LIKE #{namePattern} ESCAPE '\\'
+                </if>
+                <if test="condition.email != null">
+                    <bind name="emailPattern" value="@campus.membercampusstudy.dto.MemberSearchCondition@escapeLike(condition.email) + '%'"/>
+                    AND m.email LIKE #{emailPattern} ESCAPE '\\'
+                </if>
+                <if test="condition.minAge != null">AND m.age &gt;= #{condition.minAge}</if>
+                <if test="condition.maxAge != null">AND m.age &lt;= #{condition.maxAge}</if>
+                <if test="condition.gender != null">AND m.gender = #{condition.gender}</if>
+                <if test="condition.nickname != null">
+                    <bind name="nicknamePattern" value="'%' + @campus.membercampusstudy.dto.MemberSearchCondition@escapeLike(condition.nickname) + '%'"/>
+                    AND p.nickname LIKE #{nicknamePattern} ESCAPE '\\'
+                </if>
+                <if test="condition.postalCode != null">AND p.postal_code = #{condition.postalCode}</if>
+            </where>
+            ORDER BY m.id
+            LIMIT #{limit}
+            </script>
+            """)
+    @ResultMap("memberWithProfileResult")
+    List<MemberWithProfile> searchMembers(@Param("condition") MemberSearchCondition condition,
+                                          @Param("afterId") Long afterId, @Param("limit") int limit);
+
     /**
      * 회원 정보 수정
      */
@@ -139,9 +350,75 @@ public interface MemberMapperRef extends IMemberMapper {
             """)
     void updateMember(Member member);
     
+    /**
+     * 회원 부분 수정 (전달된 컬럼만 SET)
+     */
+    @Update("""
+            <script>
+            UPDATE member
+            <set>
+                <if test="patch.email != null">email = #{patch.email},</if>
+                <if test="patch.name != null">name = #{patch.name},</if>
+                <if test="patch.phone != null">phone = #{patch.phone},</if>
+                <if test="patch.age != null">age = #{patch.age},</if>
+                <if test="patch.gender != null">gender = #{patch.gender},</if>
+                updated_at = CURRENT_TIMESTAMP
+            </set>
+            WHERE id = #{id}
+            </script>
+            """)
+    int patchMember(@Param("id") Long id, @Param("patch") MemberPatch patch);
+    
     /**
      * 회원 삭제
      */
     @Delete("DELETE FROM member WHERE id = #{id}")
-    void deleteMember(@Param("id") Long id);
-}
\ No newline at end of file
+    int deleteMember(@Param("id") Long id);
+    
+    /**
+     * 회원 일괄 삭제 (프로필은 외래키 CASCADE로 삭제)
+     */
+    @Delete("""
+            <script>
+            DELETE FROM member WHERE id IN
+            <foreach collection="ids" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    int deleteMembersByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 회원 최종 수정 시각 조회 (조건부 GET 검증용)
+     */
+    @Select("SELECT updated_at FROM member WHERE id = #{id}")
+    LocalDateTime findMemberUpdatedAt(@Param("id") Long id);
+
+    /**
+     * 회원 키셋 페이지 버전 집계 (같은 범위의 id, updated_at만 읽음)
+     */
+    @Select("""
+            SELECT COUNT(*) AS row_count, MAX(page.id) AS last_id, MAX(page.updated_at) AS last_modified
+            FROM (SELECT id, updated_at FROM member WHERE id > #{afterId} ORDER BY id LIMIT #{limit}) page
+            """)
+    @ConstructorArgs({
+            @Arg(column = "row_count", javaType = long.class),
+            @Arg(column = "last_id", javaType = Long.class),
+            @Arg(column = "last_modified", javaType = LocalDateTime.class)
+    })
+    PageVersion findMemberPageVersion(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 회원 + 프로필 키셋 페이지 버전 집계 (행 수에 프로필 행 포함, 수정 시각은 둘 중 늦은 값)
+     */
+    @Select("""
+            SELECT COUNT(m.id) + COUNT(p.id) AS row_count, MAX(m.id) AS last_id,
+                   MAX(GREATEST(m.updated_at, COALESCE(p.updated_at, m.updated_at))) AS last_modified
+            FROM (SELECT id, updated_at FROM member WHERE id > #{afterId} ORDER BY id LIMIT #{limit}) m
+            LEFT JOIN profile p ON p.member_id = m.id
+            """)
+    @ConstructorArgs({
+            @Arg(column = "row_count", javaType = long.class),
+            @Arg(column = "last_id", javaType = Long.class),
+            @Arg(column = "last_modified", javaType = LocalDateTime.class)
+    })
+    PageVersion findMemberWithProfilePageVersion(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
@@ -1,9 +1,13 @@
 package campus.membercampusstudy.mapper;
 
+import campus.membercampusstudy.dto.ProfilePatch;
 import campus.membercampusstudy.entity.Profile;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -46,6 +50,39 @@ public interface ProfileMapper extends IProfileMapper {
      */
     void insertProfile(Profile profile);
     
+    /**
+     * 회원 ID 기준으로 프로필을 등록하거나 수정합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션으로 H2 {@code MERGE INTO ... KEY (member_id)} 문을 감싼 SQL 작성
+     * <ul>
+     *   <li>목적: 조회 후 INSERT/UPDATE 분기 대신 문장 하나로 upsert 처리 학습</li>
+     *   <li>성공 조건: 프로필이 없으면 등록, 있으면 같은 ID로 수정되고 저장된 행이 반환됨</li>
+     *   <li>힌트: {@code SELECT * FROM FINAL TABLE (MERGE INTO ...)}로 저장된 행을 받고,
+     *       {@code @Options(flushCache = Options.FlushCachePolicy.TRUE)}로 로컬 캐시 비우기</li>
+     * </ul>
+     * 참고: {@code ProfileMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param profile 저장할 프로필 정보
+     * @return 저장된 프로필
+     */
+    Profile upsertProfile(Profile profile);
+    
+    /**
+     * 회원 ID 기준으로 프로필을 등록하거나 수정합니다 (결과 행 없음).
+     * <p>
+     * TODO: {@code @Update} 어노테이션으로 H2 {@code MERGE INTO ... KEY (member_id)} SQL 작성
+     * <ul>
+     *   <li>목적: BATCH executor로 여러 회원의 프로필을 JDBC 배치 한 번에 upsert</li>
+     *   <li>성공 조건: 프로필이 없으면 등록, 있으면 수정되고 영향 행 수 1 반환</li>
+     *   <li>힌트: {@code upsertProfile}과 같은 MERGE 문이지만 {@code FINAL TABLE} 조회 없이 실행해야 배치에 쌓임</li>
+     * </ul>
+     * 참고: {@code ProfileMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param profile 저장할 프로필 정보
+     * @return 영향받은 행 수
+     */
+    int mergeProfile(Profile profile);
+    
     /**
      * 모든 프로필을 조회합니다.
      * <p>
@@ -61,6 +98,21 @@ public interface ProfileMapper extends IProfileMapper {
      */
     List<Profile> findAllProfiles();
     
+    /**
+     * 모든 프로필을 member_id 순으로 커서 조회합니다.
+     * <p>
+     * TODO: {@code @Select}, {@code @Options}, {@code @Results} 어노테이션으로 커서 조회 SQL 작성
+     * <ul>
+     *   <li>목적: {@code Cursor} 반환 타입으로 대량 데이터를 한 행씩 읽는 방법 학습</li>
+     *   <li>성공 조건: 모든 프로필이 member_id 오름차순으로 커서를 통해 반환됨</li>
+     *   <li>힌트: {@code SELECT * FROM profile ORDER BY member_id}, {@code @Options(fetchSize = 500)} 사용</li>
+     * </ul>
+     * 참고: {@code ProfileMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @return member_id 오름차순 프로필 커서
+     */
+    Cursor<Profile> scanAllProfiles();
+    
     /**
      * ID로 특정 프로필을 조회합니다.
      * <p>
@@ -93,6 +145,22 @@ public interface ProfileMapper extends IProfileMapper {
      */
     Profile findProfileByMemberId(@Param("memberId") Long memberId);
     
+    /**
+     * 여러 회원의 프로필을 한 문장으로 조회합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션과 {@code <script>}/{@code <foreach>}로 IN 조건 조회 SQL 작성
+     * <ul>
+     *   <li>목적: 회원 수만큼 단건 조회를 반복하지 않는 인덱스 IN 조회 학습</li>
+     *   <li>성공 조건: 목록 중 프로필이 있는 회원의 프로필만 반환됨 (순서 무관)</li>
+     *   <li>힌트: {@code WHERE member_id IN <foreach collection="memberIds" ...>}와 {@code @ResultMap("profileResult")} 사용</li>
+     * </ul>
+     * 참고: {@code ProfileMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param memberIds 조회할 회원 ID 목록
+     * @return 조회된 프로필 목록
+     */
+    List<Profile> findProfilesByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+    
     /**
      * 특정 회원 ID를 가진 프로필의 수를 조회합니다.
      * <p>
@@ -172,6 +240,23 @@ public interface ProfileMapper extends IProfileMapper {
      */
     void updateProfile(Profile profile);
     
+    /**
+     * 회원 프로필의 지정 필드만 수정합니다.
+     * <p>
+     * TODO: {@code @Update} 어노테이션과 {@code <script>}/{@code <set>}/{@code <if>}로 동적 UPDATE SQL 작성
+     * <ul>
+     *   <li>목적: 바뀌지 않은 컬럼(특히 긴 {@code memo})을 다시 쓰지 않는 부분 수정 학습</li>
+     *   <li>성공 조건: null이 아닌 필드만 수정되고 수정된 행 수가 반환됨 (프로필이 없으면 0)</li>
+     *   <li>힌트: {@code WHERE member_id = #{memberId}}, 마지막에 {@code updated_at = CURRENT_TIMESTAMP}</li>
+     * </ul>
+     * 참고: {@code ProfileMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param memberId 회원 ID
+     * @param patch 수정할 필드
+     * @return 수정된 행 수
+     */
+    int patchProfile(@Param("memberId") Long memberId, @Param("patch") ProfilePatch patch);
+    
     /**
      * 프로필을 삭제합니다.
      * <p>
@@ -201,4 +286,20 @@ public interface ProfileMapper extends IProfileMapper {
      * @param memberId 삭제할 회원 ID
      */
     void deleteProfileByMemberId(@Param("memberId") Long memberId);
-}
\ No newline at end of file
+    
+    /**
+     * 회원 프로필의 최종 수정 시각만 조회합니다.
+     * <p>
+     * TODO: {@code @Select} 어노테이션으로 {@code updated_at} 한 컬럼만 조회하는 SQL 작성
+     * <ul>
+     *   <li>목적: 조건부 GET(ETag/Last-Modified)에서 프로필을 읽지 않고 변경 여부만 확인</li>
+     *   <li>성공 조건: 프로필이 있으면 {@code updated_at}, 없으면 null 반환</li>
+     *   <li>힌트: {@code SELECT updated_at FROM profile WHERE member_id = #{memberId}}</li>
+     * </ul>
+     * 참고: {@code ProfileMapperRef.java}에서 완성된 쿼리를 확인할 수 있습니다.
+     * 
+     * @param memberId 회원 ID
+     * @return 최종 수정 시각
+     */
+    LocalDateTime findProfileUpdatedAt(@Param("memberId") Long memberId);
+}
@@ -1,8 +1,13 @@
 package campus.membercampusstudy.mapper;
 
+import campus.membercampusstudy.dto.ProfilePatch;
 import campus.membercampusstudy.entity.Profile;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -26,11 +31,34 @@ public interface ProfileMapperRef extends IProfileMapper {
     @Options(useGeneratedKeys = true, keyProperty = "id", keyColumn = "id")
     void insertProfile(Profile profile);
     
+    /**
+     * 프로필 등록/수정 (member_id 기준 MERGE, 저장된 행을 FINAL TABLE로 반환)
+     */
+    @Select("""
+            SELECT * FROM FINAL TABLE (
+                MERGE INTO profile (member_id, nickname, name, profile_image_url, postal_code, address, address_detail, mobile_phone, memo, updated_at)
+                KEY (member_id)
+                VALUES (#{memberId}, #{nickname}, #{name}, #{profileImageUrl}, #{postalCode}, #{address}, #{addressDetail}, #{mobilePhone}, #{memo}, CURRENT_TIMESTAMP))
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE, useCache = false)
+    @ResultMap("profileResult")
+    Profile upsertProfile(Profile profile);
+    
+    /**
+     * 프로필 등록/수정 (member_id 기준 MERGE, 배치 실행용)
+     */
+    @Update("""
+            MERGE INTO profile (member_id, nickname, name, profile_image_url, postal_code, address, address_detail, mobile_phone, memo, updated_at)
+            KEY (member_id)
+            VALUES (#{memberId}, #{nickname}, #{name}, #{profileImageUrl}, #{postalCode}, #{address}, #{addressDetail}, #{mobilePhone}, #{memo}, CURRENT_TIMESTAMP)
+            """)
+    int mergeProfile(Profile profile);
+    
     /**
      * 전체 프로필 조회
      */
     @Select("SELECT * FROM profile")
-    @Results({
+    @Results(id = "profileResult", value = {
             @Result(property = "id", column = "id"),
             @Result(property = "memberId", column = "member_id"),
             @Result(property = "nickname", column = "nickname"),
@@ -46,6 +74,27 @@ public interface ProfileMapperRef extends IProfileMapper {
     })
     List<Profile> findAllProfiles();
     
+    /**
+     * 전체 프로필 커서 조회 (member_id 순, 내보내기용)
+     */
+    @Select("SELECT * FROM profile ORDER BY member_id")
+    @Options(fetchSize = 500, resultSetType = ResultSetType.FORWARD_ONLY)
+    @Results({
+            @Result(property = "id", column = "id"),
+            @Result(property = "memberId", column = "member_id"),
+            @Result(property = "nickname", column = "nickname"),
+            @Result(property = "name", column = "name"),
+            @Result(property = "profileImageUrl", column = "profile_image_url"),
+            @Result(property = "postalCode", column = "postal_code"),
+            @Result(property = "address", column = "address"),
+            @Result(property = "addressDetail", column = "address_detail"),
+            @Result(property = "mobilePhone", column = "mobile_phone"),
+            @Result(property = "memo", column = "memo"),
+            @Result(property = "createdAt", column = "created_at"),
+            @Result(property = "updatedAt", column = "updated_at")
+    })
+    Cursor<Profile> scanAllProfiles();
+    
     /**
      * ID로 프로필 조회
      */
@@ -86,6 +135,18 @@ public interface ProfileMapperRef extends IProfileMapper {
     })
     Profile findProfileByMemberId(@Param("memberId") Long memberId);
     
+    /**
+     * 회원 ID 목록으로 프로필 일괄 조회
+     */
+    @Select("""
+            <script>
+            SELECT * FROM profile WHERE member_id IN
+            <foreach collection="memberIds" item="memberId" open="(" separator="," close=")">#{memberId}</foreach>
+            </script>
+            """)
+    @ResultMap("profileResult")
+    List<Profile> findProfilesByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+    
     /**
      * 닉네임으로 프로필 조회
      */
@@ -204,6 +265,28 @@ public interface ProfileMapperRef extends IProfileMapper {
             """)
     void updateProfile(Profile profile);
     
+    /**
+     * 프로필 부분 수정 (전달된 컬럼만 SET)
+     */
+    @Update("""
+            <script>
+            UPDATE profile
+            <set>
+                <if test="patch.nickname != null">nickname = #{patch.nickname},</if>
+                <if test="patch.name != null">name = #{patch.name},</if>
+                <if test="patch.profileImageUrl != null">profile_image_url = #{patch.profileImageUrl},</if>
+                <if test="patch.postalCode != null">postal_code = #{patch.postalCode},</if>
+                <if test="patch.address != null">address = #{patch.address},</if>
+                <if test="patch.addressDetail != null">address_detail = #{patch.addressDetail},</if>
+                <if test="patch.mobilePhone != null">mobile_phone = #{patch.mobilePhone},</if>
+                <if test="patch.memo != null">memo = #{patch.memo},</if>
+                updated_at = CURRENT_TIMESTAMP
+            </set>
+            WHERE member_id = #{memberId}
+            </script>
+            """)
+    int patchProfile(@Param("memberId") Long memberId, @Param("patch") ProfilePatch patch);
+    
     /**
      * 프로필 삭제
      */
@@ -308,4 +391,10 @@ public interface ProfileMapperRef extends IProfileMapper {
             @Result(property = "updatedAt", column = "updated_at")
     })
     List<Profile> findProfilesByPostalCode(@Param("postalCode") String postalCode);
-}
\ No newline at end of file
+    
+    /**
+     * 프로필 최종 수정 시각 조회 (조건부 GET 검증용)
+     */
+    @Select("SELECT updated_at FROM profile WHERE member_id = #{memberId}")
+    LocalDateTime findProfileUpdatedAt(@Param("memberId") Long memberId);
+}
@@ -1,8 +1,16 @@
 package campus.membercampusstudy.repository;
 
+import campus.membercampusstudy.dto.MemberField;
+import campus.membercampusstudy.dto.MemberPatch;
+import campus.membercampusstudy.dto.MemberSearchCondition;
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.dto.PageVersion;
 import campus.membercampusstudy.entity.Member;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -58,4 +66,138 @@ public interface IMember {
      * @return 검색된 회원 목록
      */
     List<Member> findByGender(Member.Gender gender);
-}
\ No newline at end of file
+
+    /**
+     * ID 기준 키셋(커서) 페이지를 조회합니다.
+     * <p>
+     * {@code id > afterId} 범위를 id 오름차순으로 최대 {@code limit}건 조회하므로
+     * 페이지 깊이와 관계없이 PK 인덱스 범위 스캔 한 번으로 처리됩니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return id 오름차순 회원 목록
+     */
+    List<Member> findMembersAfter(Long afterId, int limit);
+
+    /**
+     * 회원과 프로필을 한 번의 조인 쿼리로 조회합니다.
+     * <p>
+     * {@code member LEFT JOIN profile}이므로 프로필이 없는 회원도 조회되며 이때 프로필은 null입니다.
+     *
+     * @param id 회원 ID
+     * @return 회원 + 프로필 (Optional)
+     */
+    Optional<MemberWithProfile> findMemberWithProfile(Long id);
+
+    /**
+     * 회원과 프로필을 ID 기준 키셋 페이지로 조회합니다.
+     * <p>
+     * 페이지 전체를 조인 쿼리 한 번으로 가져오므로 회원 수만큼 프로필 쿼리가 추가되지 않습니다 (N+1 없음).
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return 회원 id 오름차순 회원 + 프로필 목록
+     */
+    List<MemberWithProfile> findMembersWithProfileAfter(Long afterId, int limit);
+
+    /**
+     * 조건에 맞는 회원 ID를 키셋 페이지로 조회합니다.
+     * <p>
+     * null인 조건은 적용하지 않습니다. 일괄 삭제처럼 ID만 필요한 작업에서 엔티티 전체를 읽지 않도록 ID만 조회합니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param minAge 최소 나이 (포함, null이면 제한 없음)
+     * @param maxAge 최대 나이 (포함, null이면 제한 없음)
+     * @param gender 성별 (null이면 제한 없음)
+     * @param limit 최대 조회 건수
+     * @return id 오름차순 회원 ID 목록
+     */
+    List<Long> findMemberIdsAfter(Long afterId, Integer minAge, Integer maxAge, Member.Gender gender, int limit);
+
+    /**
+     * 주어진 ID의 회원을 한 문장({@code SELECT ... WHERE id IN (...)})으로 조회합니다.
+     * <p>
+     * 결과 순서는 보장하지 않으며 존재하지 않는 ID는 결과에서 빠집니다.
+     *
+     * @param ids 조회할 회원 ID (비어 있으면 안 됨)
+     * @return 조회된 회원 목록
+     */
+    List<Member> findMembersByIds(Collection<Long> ids);
+
+    /**
+     * 주어진 ID의 회원을 한 문장({@code DELETE ... WHERE id IN (...)})으로 삭제합니다.
+     * <p>
+     * 프로필과 이름 색인은 외래키 {@code ON DELETE CASCADE}로 함께 삭제됩니다.
+     * 존재하지 않는 ID는 무시되므로 반환값으로 실제 삭제 건수를 확인합니다.
+     *
+     * @param ids 삭제할 회원 ID (비어 있으면 안 됨)
+     * @return 삭제된 회원 수
+     */
+    int deleteMembersByIds(Collection<Long> ids);
+
+    /**
+     * 회원의 지정 필드만 수정합니다 (조회 없이 UPDATE 한 문장).
+     * <p>
+     * SET 절에는 {@code patch}에서 null이 아닌 필드와 {@code updated_at}만 포함됩니다.
+     *
+     * @param id 회원 ID
+     * @param patch 수정할 필드 (비어 있으면 안 됨)
+     * @return 수정된 행 수 (회원이 없으면 0)
+     */
+    int patchMember(Long id, MemberPatch patch);
+
+    /**
+     * 지정한 필드만 ID 기준 키셋 페이지로 조회합니다 ({@code ?fields=} 목록 조회).
+     * <p>
+     * SELECT 목록에 요청한 컬럼만 넣어 조회하며, 프로필 필드가 있을 때만 {@code profile}을 LEFT JOIN 합니다.
+     * 값이 null인 필드는 행에 없을 수 있으므로 응답은 {@link MemberField#toResponse}로 만듭니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param fields 조회할 필드 ({@link MemberField#parse(String)} 결과, {@code id} 포함)
+     * @param limit 최대 조회 건수
+     * @return 필드 별칭({@link MemberField#getAlias()})을 키로 하는 행 목록 (id 오름차순)
+     */
+    List<Map<String, Object>> findMemberFieldsAfter(Long afterId, List<MemberField> fields, int limit);
+
+    /**
+     * 복합 조건으로 회원을 프로필과 함께 키셋 페이지로 검색합니다.
+     * <p>
+     * 지정된 조건만 담은 {@code member LEFT JOIN profile} 쿼리 한 번으로 처리합니다.
+     *
+     * @param condition 검색 조건 ({@link MemberSearchCondition#normalize()} 적용 후)
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return 회원 id 오름차순 회원 + 프로필 목록
+     */
+    List<MemberWithProfile> searchMembers(MemberSearchCondition condition, Long afterId, int limit);
+
+    /**
+     * 회원의 {@code updated_at}만 조회합니다 (조건부 GET 검증용).
+     *
+     * @param id 회원 ID
+     * @return 최종 수정 시각, 회원이 없으면 null
+     */
+    LocalDateTime findMemberUpdatedAt(Long id);
+
+    /**
+     * {@link #findMembersAfter} 페이지의 버전만 집계합니다 (조건부 GET 검증용).
+     * <p>
+     * 같은 키셋 범위의 {@code id}, {@code updated_at}만 읽어 행 수, 마지막 ID, 최신 수정 시각을 구합니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수 (목록 조회와 같은 값)
+     * @return 페이지 버전
+     */
+    PageVersion findMemberPageVersion(Long afterId, int limit);
+
+    /**
+     * {@link #findMembersWithProfileAfter} 페이지의 버전만 집계합니다 (조건부 GET 검증용).
+     * <p>
+     * 행 수에는 프로필 행 수가 더해지고, 최신 수정 시각은 회원과 프로필 중 늦은 값입니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수 (목록 조회와 같은 값)
+     * @return 페이지 버전
+     */
+    PageVersion findMemberWithProfilePageVersion(Long afterId, int limit);
+}
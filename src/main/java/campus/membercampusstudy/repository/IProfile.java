@@ -1,7 +1,10 @@
 package campus.membercampusstudy.repository;
 
+import campus.membercampusstudy.dto.ProfilePatch;
 import campus.membercampusstudy.entity.Profile;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,16 @@ public interface IProfile {
      */
     Optional<Profile> findByMemberId(Long memberId);
     
+    /**
+     * 여러 회원의 프로필을 한 문장({@code WHERE member_id IN (...)})으로 조회합니다.
+     * <p>
+     * {@code idx_profile_member_id} 인덱스로 처리되며, 결과 순서는 보장하지 않고 프로필이 없는 회원은 결과에서 빠집니다.
+     * 
+     * @param memberIds 회원 ID 목록 (비어 있으면 안 됨)
+     * @return 조회된 프로필 목록
+     */
+    List<Profile> findProfilesByMemberIds(Collection<Long> memberIds);
+    
     /**
      * 회원 ID로 프로필 존재 여부를 확인합니다.
      * 
@@ -41,6 +54,19 @@ public interface IProfile {
      */
     void deleteByMemberId(Long memberId);
     
+    /**
+     * 회원 ID 기준으로 프로필을 등록하거나 수정합니다 (단일 MERGE 문).
+     * <p>
+     * 회원의 프로필이 없으면 등록하고, 있으면 {@code id}와 {@code created_at}을 유지한 채 나머지 컬럼을 덮어씁니다.
+     * 회원이 없으면 외래키 위반으로 {@link org.springframework.dao.DataIntegrityViolationException}이 발생하고,
+     * 같은 회원의 최초 등록이 동시에 겹치면 한쪽이 {@link org.springframework.dao.ConcurrencyFailureException}으로 실패합니다
+     * (다시 실행하면 수정으로 처리됨).
+     * 
+     * @param profile 저장할 프로필 정보 ({@code memberId} 필수)
+     * @return 저장된 프로필 (ID, 생성/수정 시각 포함)
+     */
+    Profile upsertProfile(Profile profile);
+    
     /**
      * 닉네임으로 프로필을 검색합니다 (부분일치).
      * 
@@ -64,4 +90,23 @@ public interface IProfile {
      * @return 검색된 프로필 목록
      */
     List<Profile> findByPostalCode(String postalCode);
-}
\ No newline at end of file
+    
+    /**
+     * 회원 프로필의 지정 필드만 수정합니다 (조회 없이 UPDATE 한 문장).
+     * <p>
+     * SET 절에는 {@code patch}에서 null이 아닌 필드와 {@code updated_at}만 포함됩니다.
+     * 
+     * @param memberId 회원 ID
+     * @param patch 수정할 필드 (비어 있으면 안 됨)
+     * @return 수정된 행 수 (프로필이 없으면 0)
+     */
+    int patchProfile(Long memberId, ProfilePatch patch);
+    
+    /**
+     * 회원 프로필의 {@code updated_at}만 조회합니다 (조건부 GET 검증용).
+     * 
+     * @param memberId 회원 ID
+     * @return 최종 수정 시각, 프로필이 없으면 null
+     */
+    LocalDateTime findProfileUpdatedAt(Long memberId);
+}
@@ -0,0 +1,24 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.entity.Member;
+
+import java.util.Optional;
+
+/**
+ * 회원 자연 키 조회 리포지토리 조각 (Spring Data 커스텀 구현)
+ * <p>
+ * 파생 쿼리는 매번 SQL을 실행하므로, {@link MemberNaturalIdFragmentImpl}에서 Hibernate 자연 키 API로 조회해
+ * 자연 키 캐시(이메일 -> ID)와 엔티티 2차 캐시를 거치게 합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public interface MemberNaturalIdFragment {
+
+    /**
+     * 이메일로 회원을 조회합니다.
+     *
+     * @see IMember#findByEmail(String)
+     */
+    Optional<Member> findByEmail(String email);
+}
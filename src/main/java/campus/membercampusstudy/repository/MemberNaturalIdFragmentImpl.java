@@ -0,0 +1,49 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.cache.SecondLevelCache;
+import campus.membercampusstudy.entity.Member;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * {@link MemberNaturalIdFragment} 구현 - Hibernate 자연 키 조회
+ * <p>
+ * Hibernate를 거치지 않은 이메일 변경이나 삭제 후에는 이전 이메일의 자연 키 항목을 찾을 수 없어 영역을 비우지 않으므로,
+ * 조회한 회원의 이메일이 요청과 다르거나 회원이 없으면 {@link SecondLevelCache#evictMemberEmail}로
+ * 캐시된 항목이었는지 확인하고, 그랬다면 그 항목만 제거한 뒤 JPQL로 다시 조회합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@RequiredArgsConstructor
+public class MemberNaturalIdFragmentImpl implements MemberNaturalIdFragment {
+
+    private final EntityManager entityManager;
+    private final SecondLevelCache secondLevelCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Member> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        Session session = entityManager.unwrap(Session.class);
+        Optional<Member> member = session.bySimpleNaturalId(Member.class).loadOptional(email);
+        if (member.filter(found -> email.equals(found.getEmail())).isPresent()) {
+            return member;
+        }
+        if (secondLevelCache.evictMemberEmail(session.unwrap(SharedSessionContractImplementor.class), email)) {
+            // 세션에 남은 이전 자연 키 해석을 거치지 않도록 쿼리로 조회
+            return entityManager.createQuery("select m from Member m where m.email = :email", Member.class)
+                    .setParameter("email", email)
+                    .getResultStream()
+                    .findFirst();
+        }
+        return member.filter(found -> email.equals(found.getEmail()));
+    }
+}
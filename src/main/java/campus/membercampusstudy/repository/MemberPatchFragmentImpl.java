@@ -0,0 +1,53 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.MemberPatch;
+import campus.membercampusstudy.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link MemberPatchFragment} 구현 - Criteria API 벌크 UPDATE
+ * <p>
+ * 엔티티를 읽지 않고 {@code UPDATE member SET (전달된 컬럼), updated_at = ? WHERE id = ?} 한 문장을 실행합니다.
+ * 벌크 UPDATE는 {@code @UpdateTimestamp}를 거치지 않으므로 {@code updatedAt}을 직접 설정합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@RequiredArgsConstructor
+public class MemberPatchFragmentImpl implements MemberPatchFragment {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patchMember(Long id, MemberPatch patch) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Member> update = cb.createCriteriaUpdate(Member.class);
+        Root<Member> member = update.from(Member.class);
+
+        if (patch.getEmail() != null) {
+            update.set(member.get("email"), patch.getEmail());
+        }
+        if (patch.getName() != null) {
+            update.set(member.get("name"), patch.getName());
+        }
+        if (patch.getPhone() != null) {
+            update.set(member.get("phone"), patch.getPhone());
+        }
+        if (patch.getAge() != null) {
+            update.set(member.get("age"), patch.getAge());
+        }
+        if (patch.getGender() != null) {
+            update.set(member.get("gender"), patch.getGender());
+        }
+        update.set(member.get("updatedAt"), cb.localDateTime());
+        update.where(cb.equal(member.get("id"), id));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,28 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.MemberField;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 필드 선택 조회 리포지토리 조각 (Spring Data 커스텀 구현)
+ * <p>
+ * 요청마다 SELECT 목록이 달라지는 조회는 고정 JPQL로 표현할 수 없어
+ * {@link MemberProjectionFragmentImpl}에서 Tuple 쿼리로 구성합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public interface MemberProjectionFragment {
+
+    /**
+     * 지정한 필드만 키셋 페이지로 조회합니다.
+     *
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param fields 조회할 필드 ({@link MemberField#parse(String)} 결과)
+     * @param limit 최대 조회 건수
+     * @return 필드 별칭({@link MemberField#getAlias()})을 키로 하는 행 목록 (id 오름차순)
+     */
+    List<Map<String, Object>> findMemberFieldsAfter(Long afterId, List<MemberField> fields, int limit);
+}
@@ -0,0 +1,53 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.MemberField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link MemberProjectionFragment} 구현 - JPQL Tuple 프로젝션
+ * <p>
+ * 요청한 속성만 SELECT 목록에 넣어 엔티티를 만들지 않고 값만 읽습니다.
+ * 프로필 필드가 있을 때만 {@code Profile}을 LEFT JOIN 합니다.
+ * JPQL 조각은 모두 {@link MemberField}의 고정 값이므로 요청 문자열이 쿼리에 들어가지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@RequiredArgsConstructor
+public class MemberProjectionFragmentImpl implements MemberProjectionFragment {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findMemberFieldsAfter(Long afterId, List<MemberField> fields, int limit) {
+        String jpql = "select " + fields.stream().map(MemberField::getAttribute).collect(Collectors.joining(", "))
+                + " from Member m"
+                + (MemberField.includesProfile(fields) ? " left join Profile p on p.memberId = m.id" : "")
+                + " where m.id > :afterId order by m.id";
+
+        List<Tuple> tuples = entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                row.put(fields.get(i).getAlias(), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
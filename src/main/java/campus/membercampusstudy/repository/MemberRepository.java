@@ -1,11 +1,28 @@
 package campus.membercampusstudy.repository;
 
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.cache.SecondLevelCache;
 import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.support.NameNgrams;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * JPA 회원 리포지토리 (학습용 - 구현 필요)
@@ -26,18 +43,150 @@ import java.util.Optional;
  * @since 2025-08-02
  */
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long>, IMember {
+public interface MemberRepository extends JpaRepository<Member, Long>, IMember, MemberPatchFragment, MemberProjectionFragment,
+        MemberSearchFragment, MemberVersionFragment, MemberNaturalIdFragment {
     
-    // 기본 메서드들 (빌드를 위해 필수)
-    Optional<Member> findByEmail(String email);
+    // 기본 메서드들 (빌드를 위해 필수) - findByEmail은 자연 키 캐시를 거치도록 MemberNaturalIdFragment에서 구현
     boolean existsByEmail(String email);
     
     // 추가 검색 메서드들 (JPA가 자동 구현)
-    List<Member> findByNameContaining(String name);
+    List<Member> findAllByNameContaining(String name);
     List<Member> findByAgeBetween(Integer minAge, Integer maxAge);
+
+    // 성별 조회는 쿼리 캐시 사용 (member 테이블 변경 시 Hibernate가 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCache.MEMBER_BY_GENDER)})
     List<Member> findByGender(Member.Gender gender);
+
     List<Member> findByNameContainingAndGender(String name, Member.Gender gender);
     List<Member> findByAgeGreaterThanEqual(Integer age);
     List<Member> findByAgeLessThanEqual(Integer age);
-    
+
+    /**
+     * 이름 부분일치 검색 (IMember 인터페이스 구현)
+     * <p>
+     * {@code member_name_ngram} 색인으로 후보를 좁힌 뒤 LIKE로 확인합니다.
+     * 색인으로 처리할 수 없는 검색어(빈 값, 와일드카드 포함)는 기존 LIKE 전체 검색을 사용합니다.
+     */
+    default List<Member> findByNameContaining(String name) {
+        if (!NameNgrams.isIndexable(name)) {
+            return findAllByNameContaining(name);
+        }
+        Set<String> grams = NameNgrams.queryGrams(name);
+        return findByNameGrams(name, grams, grams.size());
+    }
+
+    // n-gram 색인 후보 중 모든 gram을 가진 회원만 남기고 LIKE로 최종 확인
+    @Query(value = """
+            SELECT m.* FROM member m
+            WHERE m.id IN (
+                SELECT g.member_id FROM member_name_ngram g
+                WHERE g.gram IN (:grams)
+                GROUP BY g.member_id
+                HAVING COUNT(*) = :gramCount)
+            AND m.name LIKE CONCAT('%', :name, '%')
+            ORDER BY m.id
+            """, nativeQuery = true)
+    List<Member> findByNameGrams(@Param("name") String name, @Param("grams") Collection<String> grams,
+                                 @Param("gramCount") int gramCount);
+
+    // 키셋 페이지네이션 (id > :id ORDER BY id LIMIT :limit)
+    List<Member> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * ID 기준 키셋 페이지 조회 (IMember 인터페이스 구현)
+     */
+    default List<Member> findMembersAfter(Long afterId, int limit) {
+        return findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    /**
+     * 회원 최종 수정 시각 조회 (IMember 인터페이스 구현)
+     */
+    @Query("select m.updatedAt from Member m where m.id = :id")
+    LocalDateTime findMemberUpdatedAt(@Param("id") Long id);
+
+    /**
+     * 회원 + 프로필 조인 조회 (IMember 인터페이스 구현)
+     * <p>
+     * JPQL 생성자 표현식으로 두 엔티티를 한 번의 LEFT JOIN 쿼리로 가져옵니다.
+     */
+    @Query("""
+            select new campus.membercampusstudy.dto.MemberWithProfile(m, p)
+            from Member m left join Profile p on p.memberId = m.id
+            where m.id = :id
+            """)
+    Optional<MemberWithProfile> findMemberWithProfile(@Param("id") Long id);
+
+    // 회원 + 프로필 키셋 페이지 (Pageable은 LIMIT 적용용, COUNT 쿼리 없음)
+    @Query("""
+            select new campus.membercampusstudy.dto.MemberWithProfile(m, p)
+            from Member m left join Profile p on p.memberId = m.id
+            where m.id > :afterId
+            order by m.id
+            """)
+    List<MemberWithProfile> findMemberWithProfilePage(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 회원 + 프로필 키셋 페이지 조회 (IMember 인터페이스 구현)
+     */
+    default List<MemberWithProfile> findMembersWithProfileAfter(Long afterId, int limit) {
+        return findMemberWithProfilePage(afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * ID 목록으로 회원 일괄 조회 (IMember 인터페이스 구현)
+     */
+    default List<Member> findMembersByIds(Collection<Long> ids) {
+        return findAllById(ids);
+    }
+
+    // 조건별 회원 ID 키셋 페이지 (null 조건은 무시, Pageable은 LIMIT 적용용)
+    @Query("""
+            select m.id from Member m
+            where m.id > :afterId
+              and (:minAge is null or m.age >= :minAge)
+              and (:maxAge is null or m.age <= :maxAge)
+              and (:gender is null or m.gender = :gender)
+            order by m.id
+            """)
+    List<Long> findMemberIdPage(@Param("afterId") Long afterId, @Param("minAge") Integer minAge,
+                                @Param("maxAge") Integer maxAge, @Param("gender") Member.Gender gender,
+                                Pageable pageable);
+
+    /**
+     * 조건별 회원 ID 키셋 페이지 조회 (IMember 인터페이스 구현)
+     */
+    default List<Long> findMemberIdsAfter(Long afterId, Integer minAge, Integer maxAge, Member.Gender gender, int limit) {
+        return findMemberIdPage(afterId, minAge, maxAge, gender, PageRequest.of(0, limit));
+    }
+
+    /**
+     * ID 목록으로 회원 일괄 삭제 (IMember 인터페이스 구현)
+     * <p>
+     * 엔티티를 읽지 않는 JPQL 벌크 DELETE 한 문장으로 처리하며, 프로필은 DB 외래키 CASCADE로 삭제됩니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Member m where m.id in :ids")
+    int deleteMembersByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 회원 스트림 조회 (id 순, 내보내기용)
+     * <p>
+     * JDBC fetch size 단위로 읽어 오므로 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Member> streamAllByOrderByIdAsc();
+
+    /**
+     * 전체 회원 이메일 스트림 조회 (이메일 필터 생성용)
+     * <p>
+     * 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.email from Member m")
+    Stream<String> streamAllEmails();
+
 }
\ No newline at end of file
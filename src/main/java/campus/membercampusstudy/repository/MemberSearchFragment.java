@@ -0,0 +1,28 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.MemberSearchCondition;
+import campus.membercampusstudy.dto.MemberWithProfile;
+
+import java.util.List;
+
+/**
+ * 회원 복합 조건 검색 리포지토리 조각 (Spring Data 커스텀 구현)
+ * <p>
+ * 조건 조합마다 파생 쿼리 메서드를 늘리지 않고 {@link MemberSearchFragmentImpl}에서
+ * Criteria API로 지정된 조건만 담은 쿼리 하나를 구성합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public interface MemberSearchFragment {
+
+    /**
+     * 조건에 맞는 회원을 프로필과 함께 키셋 페이지로 조회합니다.
+     *
+     * @param condition 검색 조건
+     * @param afterId 이전 페이지의 마지막 회원 ID (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return 회원 id 오름차순 회원 + 프로필 목록
+     */
+    List<MemberWithProfile> searchMembers(MemberSearchCondition condition, Long afterId, int limit);
+}
@@ -0,0 +1,78 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.MemberSearchCondition;
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static campus.membercampusstudy.dto.MemberSearchCondition.LIKE_ESCAPE;
+import static campus.membercampusstudy.dto.MemberSearchCondition.escapeLike;
+
+/**
+ * {@link MemberSearchFragment} 구현 - Criteria API 동적 쿼리
+ * <p>
+ * {@code Member}와 {@code Profile} 사이에 연관관계 매핑이 없으므로 Hibernate 엔티티 조인
+ * ({@code left join Profile p on p.memberId = m.id})으로 두 엔티티를 함께 조회합니다.
+ * 지정된 조건만 WHERE에 추가하고 {@code id > afterId ORDER BY id}로 페이지를 나눕니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@RequiredArgsConstructor
+public class MemberSearchFragmentImpl implements MemberSearchFragment {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberWithProfile> searchMembers(MemberSearchCondition condition, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MemberWithProfile> query = cb.createQuery(MemberWithProfile.class);
+        JpaRoot<Member> member = (JpaRoot<Member>) query.from(Member.class);
+        var profile = member.join(Profile.class, SqmJoinType.LEFT);
+        profile.on(cb.equal(profile.get("memberId"), member.get("id")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThan(member.get("id"), afterId));
+        if (condition.getName() != null) {
+            predicates.add(cb.like(member.get("name"), "%" + escapeLike(condition.getName()) + "%", LIKE_ESCAPE));
+        }
+        if (condition.getEmail() != null) {
+            predicates.add(cb.like(member.get("email"), escapeLike(condition.getEmail()) + "%", LIKE_ESCAPE));
+        }
+        if (condition.getMinAge() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(member.get("age"), condition.getMinAge()));
+        }
+        if (condition.getMaxAge() != null) {
+            predicates.add(cb.lessThanOrEqualTo(member.get("age"), condition.getMaxAge()));
+        }
+        if (condition.getGender() != null) {
+            predicates.add(cb.equal(member.get("gender"), condition.getGender()));
+        }
+        if (condition.getNickname() != null) {
+            predicates.add(cb.like(profile.get("nickname"), "%" + escapeLike(condition.getNickname()) + "%", LIKE_ESCAPE));
+        }
+        if (condition.getPostalCode() != null) {
+            predicates.add(cb.equal(profile.get("postalCode"), condition.getPostalCode()));
+        }
+
+        query.select(cb.construct(MemberWithProfile.class, member, profile))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(member.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,28 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.PageVersion;
+
+/**
+ * 회원 페이지 버전 집계 리포지토리 조각 (Spring Data 커스텀 구현)
+ * <p>
+ * LIMIT을 적용한 키셋 범위 위에서 집계해야 하므로 {@link MemberVersionFragmentImpl}에서 네이티브 쿼리로 실행합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public interface MemberVersionFragment {
+
+    /**
+     * 회원 키셋 페이지의 버전을 집계합니다.
+     *
+     * @see IMember#findMemberPageVersion(Long, int)
+     */
+    PageVersion findMemberPageVersion(Long afterId, int limit);
+
+    /**
+     * 회원 + 프로필 키셋 페이지의 버전을 집계합니다.
+     *
+     * @see IMember#findMemberWithProfilePageVersion(Long, int)
+     */
+    PageVersion findMemberWithProfilePageVersion(Long afterId, int limit);
+}
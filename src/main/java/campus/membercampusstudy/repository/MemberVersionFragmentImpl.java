@@ -0,0 +1,60 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.PageVersion;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * {@link MemberVersionFragment} 구현 - 네이티브 집계 쿼리
+ * <p>
+ * JPQL은 FROM 절 서브쿼리에 LIMIT을 줄 수 없으므로, 목록 조회와 같은 키셋 범위를 파생 테이블로 잘라
+ * {@code COUNT}/{@code MAX}만 계산합니다. 엔티티는 만들지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@RequiredArgsConstructor
+public class MemberVersionFragmentImpl implements MemberVersionFragment {
+
+    private static final String MEMBER_PAGE_VERSION = """
+            SELECT COUNT(*), MAX(page.id), MAX(page.updated_at)
+            FROM (SELECT id, updated_at FROM member WHERE id > :afterId ORDER BY id LIMIT :limit) page
+            """;
+
+    private static final String MEMBER_WITH_PROFILE_PAGE_VERSION = """
+            SELECT COUNT(m.id) + COUNT(p.id), MAX(m.id),
+                   MAX(GREATEST(m.updated_at, COALESCE(p.updated_at, m.updated_at)))
+            FROM (SELECT id, updated_at FROM member WHERE id > :afterId ORDER BY id LIMIT :limit) m
+            LEFT JOIN profile p ON p.member_id = m.id
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageVersion findMemberPageVersion(Long afterId, int limit) {
+        return aggregate(MEMBER_PAGE_VERSION, afterId, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageVersion findMemberWithProfilePageVersion(Long afterId, int limit) {
+        return aggregate(MEMBER_WITH_PROFILE_PAGE_VERSION, afterId, limit);
+    }
+
+    private PageVersion aggregate(String sql, Long afterId, int limit) {
+        Object[] row = (Object[]) entityManager.createNativeQuery(sql)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .getSingleResult();
+        Object lastModified = row[2];
+        return new PageVersion(
+                ((Number) row[0]).longValue(),
+                row[1] == null ? null : ((Number) row[1]).longValue(),
+                lastModified instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) lastModified);
+    }
+}
@@ -0,0 +1,30 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.entity.Profile;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * {@link ProfileNaturalIdFragment} 구현 - Hibernate 자연 키 조회
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@RequiredArgsConstructor
+public class ProfileNaturalIdFragmentImpl implements ProfileNaturalIdFragment {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Profile> findByMemberId(Long memberId) {
+        if (memberId == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Profile.class).loadOptional(memberId);
+    }
+}
@@ -0,0 +1,24 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.ProfilePatch;
+
+/**
+ * 프로필 부분 수정 리포지토리 조각 (Spring Data 커스텀 구현)
+ * <p>
+ * 전달된 필드만 SET 절에 담는 UPDATE는 파생 쿼리나 고정 JPQL로 표현할 수 없어
+ * {@link ProfilePatchFragmentImpl}에서 Criteria API로 구성합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public interface ProfilePatchFragment {
+
+    /**
+     * 회원 프로필의 지정 필드만 UPDATE 한 문장으로 수정합니다.
+     *
+     * @param memberId 회원 ID
+     * @param patch 수정할 필드 (null 필드는 유지, 비어 있으면 안 됨)
+     * @return 수정된 행 수 (프로필이 없으면 0)
+     */
+    int patchProfile(Long memberId, ProfilePatch patch);
+}
@@ -0,0 +1,52 @@
+package campus.membercampusstudy.repository;
+
+import campus.membercampusstudy.dto.ProfilePatch;
+import campus.membercampusstudy.entity.Profile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link ProfilePatchFragment} 구현 - Criteria API 벌크 UPDATE
+ * <p>
+ * 엔티티를 읽지 않고 {@code UPDATE profile SET (전달된 컬럼), updated_at = ? WHERE member_id = ?} 한 문장을 실행합니다.
+ * {@code memo}처럼 큰 컬럼도 전달하지 않으면 다시 쓰지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@RequiredArgsConstructor
+public class ProfilePatchFragmentImpl implements ProfilePatchFragment {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patchProfile(Long memberId, ProfilePatch patch) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Profile> update = cb.createCriteriaUpdate(Profile.class);
+        Root<Profile> profile = update.from(Profile.class);
+
+        setIfPresent(update, profile, "nickname", patch.getNickname());
+        setIfPresent(update, profile, "name", patch.getName());
+        setIfPresent(update, profile, "profileImageUrl", patch.getProfileImageUrl());
+        setIfPresent(update, profile, "postalCode", patch.getPostalCode());
+        setIfPresent(update, profile, "address", patch.getAddress());
+        setIfPresent(update, profile, "addressDetail", patch.getAddressDetail());
+        setIfPresent(update, profile, "mobilePhone", patch.getMobilePhone());
+        setIfPresent(update, profile, "memo", patch.getMemo());
+        update.set(profile.get("updatedAt"), cb.localDateTime());
+        update.where(cb.equal(profile.get("memberId"), memberId));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static void setIfPresent(CriteriaUpdate<Profile> update, Root<Profile> profile, String attribute, String value) {
+        if (value != null) {
+            update.set(profile.<String>get(attribute), value);
+        }
+    }
+}
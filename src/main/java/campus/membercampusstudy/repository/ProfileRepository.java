@@ -1,11 +1,21 @@
 package campus.membercampusstudy.repository;
 
+import campus.membercampusstudy.cache.SecondLevelCache;
 import campus.membercampusstudy.entity.Profile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JPA 회원 프로필 리포지토리 (완성 구현체)
@@ -18,12 +28,20 @@ import java.util.Optional;
  * @since 2025-08-02
  */
 @Repository
-public interface ProfileRepository extends JpaRepository<Profile, Long>, IProfile {
+public interface ProfileRepository extends JpaRepository<Profile, Long>, IProfile, ProfilePatchFragment,
+        ProfileNaturalIdFragment {
     
     /**
-     * 회원 ID로 프로필 조회
+     * 회원 ID 목록으로 프로필 일괄 조회
      */
-    Optional<Profile> findByMemberId(Long memberId);
+    List<Profile> findByMemberIdIn(Collection<Long> memberIds);
+    
+    /**
+     * 회원 ID 목록으로 프로필 일괄 조회 (IProfile 인터페이스 구현)
+     */
+    default List<Profile> findProfilesByMemberIds(Collection<Long> memberIds) {
+        return findByMemberIdIn(memberIds);
+    }
     
     /**
      * 회원 ID로 프로필 존재 여부 확인
@@ -51,8 +69,11 @@ public interface ProfileRepository extends JpaRepository<Profile, Long>, IProfil
     List<Profile> findByNameContaining(String name);
     
     /**
-     * 우편번호로 프로필 검색
+     * 우편번호로 프로필 검색 (쿼리 캐시 사용, profile 테이블 변경 시 Hibernate가 무효화)
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCache.PROFILE_BY_POSTAL_CODE)})
     List<Profile> findByPostalCode(String postalCode);
     
     /**
@@ -89,4 +110,35 @@ public interface ProfileRepository extends JpaRepository<Profile, Long>, IProfil
      * 회원 ID로 프로필 삭제 (IProfile 인터페이스 구현)
      */
     void deleteByMemberId(Long memberId);
+    
+    /**
+     * 프로필 최종 수정 시각 조회 (IProfile 인터페이스 구현)
+     */
+    @Query("select p.updatedAt from Profile p where p.memberId = :memberId")
+    LocalDateTime findProfileUpdatedAt(@Param("memberId") Long memberId);
+    
+    /**
+     * 회원 ID 기준 프로필 등록/수정 (IProfile 인터페이스 구현)
+     * <p>
+     * H2 {@code MERGE INTO ... KEY (member_id)} 한 문장으로 처리하고 저장된 행을 {@code FINAL TABLE}로 돌려받습니다.
+     * SELECT 형태의 네이티브 쿼리라 읽기 전용 기본 트랜잭션 대신 쓰기 트랜잭션을 지정합니다.
+     */
+    @Transactional
+    @Query(value = """
+            SELECT * FROM FINAL TABLE (
+                MERGE INTO profile (member_id, nickname, name, profile_image_url, postal_code, address, address_detail, mobile_phone, memo, updated_at)
+                KEY (member_id)
+                VALUES (:#{#profile.memberId}, :#{#profile.nickname}, :#{#profile.name}, :#{#profile.profileImageUrl},
+                        :#{#profile.postalCode}, :#{#profile.address}, :#{#profile.addressDetail},
+                        :#{#profile.mobilePhone}, :#{#profile.memo}, CURRENT_TIMESTAMP))
+            """, nativeQuery = true)
+    Profile upsertProfile(@Param("profile") Profile profile);
+    
+    /**
+     * 전체 프로필 스트림 조회 (member_id 순, 내보내기용)
+     * <p>
+     * JDBC fetch size 단위로 읽어 오므로 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Profile> streamAllByOrderByMemberIdAsc();
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package campus.membercampusstudy.support;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간 기반 적응형 동시 실행 한도 (AIMD)
+ * <p>
+ * 동시에 실행 중인 호출 수가 한도에 도달하면 {@link #tryAcquire()}가 즉시 false를 반환하고,
+ * 완료된 호출의 지연 시간으로 한도를 조정합니다.
+ * <ul>
+ *   <li>정상: 한도의 절반 이상을 쓰고 있으면 한도 × 1회 완료마다 1씩 증가 (가산 증가)</li>
+ *   <li>과부하: 지연이 기준 지연 × {@code tolerance} 또는 {@code latencyCeiling}을 넘거나 호출이 과부하로 실패하면
+ *       {@code backoffRatio}를 곱해 감소 (승산 감소)</li>
+ * </ul>
+ * 기준 지연은 전체 지연의 지수 이동 평균이며, 감소는 직전 감소 이후 시작된 호출에만 반응하므로
+ * 감소 전에 들어온 느린 호출들이 한도를 연속으로 깎지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final long latencyCeilingNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double baselineNanos;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    /**
+     * @param initialLimit 시작 한도
+     * @param tolerance 기준 지연 대비 허용 배수 (예: 2.0이면 평소의 두 배를 넘을 때 감소)
+     * @param latencyCeiling 기준 지연과 관계없이 과부하로 보는 지연
+     * @param backoffRatio 감소 시 곱하는 비율 (0~1)
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    Duration latencyCeiling, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("한도 범위가 올바르지 않습니다: " + minLimit + "~" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.latencyCeilingNanos = latencyCeiling.toNanos();
+        this.estimatedLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 실행 슬롯을 얻습니다. 성공하면 반드시 {@link #release}를 호출해야 합니다.
+     *
+     * @return 한도에 도달했으면 false (대기하지 않음)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 슬롯을 반환하고 지연 시간으로 한도를 조정합니다.
+     *
+     * @param startNanos {@link #tryAcquire()} 직후의 {@code System.nanoTime()}
+     * @param overloaded 과부하로 인한 실패 여부 (커넥션 획득 실패, 쿼리 타임아웃 등)
+     */
+    public void release(long startNanos, boolean overloaded) {
+        long now = System.nanoTime();
+        long latency = now - startNanos;
+        int concurrent = inFlight.getAndDecrement();
+        lock.lock();
+        try {
+            boolean slow = latency > latencyCeilingNanos
+                    || (baselineNanos > 0 && latency > baselineNanos * tolerance);
+            if (overloaded || slow) {
+                if (startNanos - lastDecreaseNanos > 0) {
+                    estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+                    lastDecreaseNanos = now;
+                }
+            } else if (concurrent * 2 >= estimatedLimit) {
+                estimatedLimit = Math.min(maxLimit, estimatedLimit + 1 / estimatedLimit);
+            }
+            baselineNanos = baselineNanos == 0
+                    ? latency
+                    : baselineNanos + (Math.min(latency, latencyCeilingNanos) - baselineNanos) * BASELINE_SMOOTHING;
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
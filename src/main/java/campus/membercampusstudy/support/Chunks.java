@@ -0,0 +1,36 @@
+package campus.membercampusstudy.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리스트를 고정 크기 청크로 나누는 유틸리티
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public final class Chunks {
+
+    private Chunks() {
+    }
+
+    /**
+     * 리스트를 최대 {@code size}개씩 나눕니다.
+     * <p>
+     * 반환되는 청크는 원본 리스트의 뷰(subList)이므로 원본을 수정하지 않는 동안만 사용해야 합니다.
+     *
+     * @param items 나눌 리스트
+     * @param size 청크 크기 (1 이상)
+     * @return 청크 목록 (원본이 비어 있으면 빈 목록)
+     */
+    public static <T> List<List<T>> of(List<T> items, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("청크 크기는 1 이상이어야 합니다: " + size);
+        }
+        List<List<T>> chunks = new ArrayList<>((items.size() + size - 1) / size);
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,41 @@
+package campus.membercampusstudy.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * HTTP 요청 동시 처리 한도 초과 예외
+ * <p>
+ * Spring MVC가 {@code 503 Service Unavailable}과 {@code Retry-After} 헤더로 응답합니다.
+ * 과부하 상황에서 대량으로 발생하므로 스택 트레이스를 만들지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class ConcurrencyLimitExceededException extends ResponseStatusException {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * @param kind 한도 종류 (read 또는 write)
+     * @param retryAfter 재시도까지 권장 대기 시간 (초 단위로 올림, 최소 1초)
+     */
+    public ConcurrencyLimitExceededException(String kind, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, kind + " 동시 처리 한도 초과");
+        long seconds = Math.max(1, retryAfter.plusMillis(999).toSeconds());
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,137 @@
+package campus.membercampusstudy.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.time.Duration;
+
+/**
+ * HTTP 요청 동시 처리 한도 인터셉터
+ * <p>
+ * 요청 하나가 핸들러 실행 동안 슬롯 하나를 사용하며, 조회와 쓰기 요청은 각각의
+ * {@link AdaptiveConcurrencyLimit}로 제한합니다. GET/HEAD/OPTIONS와 {@link ReadOnlyRequest}가 붙은 핸들러는 조회,
+ * 나머지는 쓰기입니다 ({@link ReadYourWritesInterceptor}와 같은 기준).
+ * 한 요청이 Repository/Mapper를 여러 번 호출해도 한 번만 제한하므로, 요청 중간에 거절되어
+ * 일부만 처리된 쓰기나 이미 응답을 쓰기 시작한 뒤의 503이 생기지 않습니다.
+ * 내보내기나 일괄 처리처럼 원래 오래 걸리는 {@link LongRunningRequest} 핸들러는 제한하지 않으며,
+ * 그 지연 시간도 한도 조정에 반영하지 않습니다.
+ * <p>
+ * 한도에 도달하면 기다리지 않고 {@link ConcurrencyLimitExceededException}(503 + {@code Retry-After})을 던지므로,
+ * DB가 느려져도 요청이 커넥션 풀 앞에 쌓여 전부 타임아웃되는 대신 초과분만 빠르게 거절됩니다.
+ * 스케줄러/write-behind 같은 백그라운드 작업은 HTTP 요청이 아니므로 제한하지 않습니다.
+ * 비동기 요청은 핸들러가 반환할 때 슬롯을 반환합니다.
+ * <p>
+ * 메트릭: {@value #METRIC_NAME}.limit, {@value #METRIC_NAME}.in-flight (게이지),
+ * {@value #METRIC_NAME}.rejected (카운터) - 모두 {@code kind=read|write} 태그
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor, SmartInitializingSingleton {
+
+    public static final String METRIC_NAME = "data.access.concurrency";
+
+    private static final String SLOT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".SLOT";
+
+    private final AdaptiveConcurrencyLimit readLimit;
+    private final AdaptiveConcurrencyLimit writeLimit;
+    private final Duration retryAfter;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private Counter readRejected;
+    private Counter writeRejected;
+
+    /**
+     * @param retryAfter 거절 응답의 {@code Retry-After}
+     */
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimit readLimit, AdaptiveConcurrencyLimit writeLimit,
+                                       Duration retryAfter, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.retryAfter = retryAfter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        readRejected = register(registry, "read", readLimit);
+        writeRejected = register(registry, "write", writeLimit);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 요청의 재디스패치는 처음 디스패치에서 이미 제한함
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(LongRunningRequest.class)) {
+            return true;
+        }
+        boolean read = !ReadYourWritesInterceptor.isWrite(request, handler);
+        AdaptiveConcurrencyLimit limit = read ? readLimit : writeLimit;
+        if (!limit.tryAcquire()) {
+            Counter rejected = read ? readRejected : writeRejected;
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new ConcurrencyLimitExceededException(read ? "read" : "write", retryAfter);
+        }
+        request.setAttribute(SLOT_ATTRIBUTE, new Slot(limit, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request, null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request, ex != null ? ex : (Throwable) request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE));
+    }
+
+    private static void release(HttpServletRequest request, Throwable ex) {
+        if (!(request.getAttribute(SLOT_ATTRIBUTE) instanceof Slot slot)) {
+            return;
+        }
+        request.removeAttribute(SLOT_ATTRIBUTE);
+        // 쿼리 타임아웃, 락 대기 초과, 커넥션 획득 실패는 과부하 신호
+        boolean overloaded = ex instanceof TransientDataAccessException || ex instanceof DataAccessResourceFailureException;
+        slot.limit().release(slot.startNanos(), overloaded);
+    }
+
+    private static Counter register(MeterRegistry registry, String kind, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder(METRIC_NAME + ".limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("현재 동시 처리 한도")
+                .tag("kind", kind)
+                .register(registry);
+        Gauge.builder(METRIC_NAME + ".in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("처리 중인 HTTP 요청 수")
+                .tag("kind", kind)
+                .register(registry);
+        return Counter.builder(METRIC_NAME + ".rejected")
+                .description("동시 처리 한도 초과로 503 응답한 요청 수")
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    private record Slot(AdaptiveConcurrencyLimit limit, long startNanos) {
+    }
+}
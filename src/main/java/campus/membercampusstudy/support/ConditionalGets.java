@@ -0,0 +1,133 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.cache.JsonDocument;
+import campus.membercampusstudy.dto.PageVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * {@code updated_at} 기반 조건부 GET(ETag / Last-Modified) 도우미
+ * <p>
+ * 컨트롤러는 다음 순서로 사용합니다.
+ * <ol>
+ *   <li>{@link #isConditional(WebRequest)}가 true일 때만 {@code updated_at} 전용 쿼리로 버전을 조회</li>
+ *   <li>{@link #checkNotModified}가 true면 {@code null}을 반환 - Spring이 본문 없이 304로 응답</li>
+ *   <li>변경되었으면 직렬화된 JSON 문서를 조회하고 {@link #json}으로 같은 규칙의 ETag/Last-Modified를 붙여 응답</li>
+ * </ol>
+ * 조건부 헤더가 없는 요청은 버전 쿼리 없이 기존 조회 그대로 처리됩니다.
+ * <p>
+ * 목록 페이지는 {@link #isPageConditional}, {@link #checkPageNotModified}, {@link #page}를 사용해 ETag만 주고받습니다.
+ * 페이지에서 행이 삭제되어도 남은 행의 최신 {@code updated_at}은 그대로일 수 있어
+ * {@code If-Modified-Since}만으로는 변경을 알 수 없기 때문입니다.
+ * <p>
+ * ETag는 리소스 종류, ID, {@code updated_at}(마이크로초)로 만든 강한 ETag이며,
+ * Last-Modified는 초 단위이므로 같은 초 안의 변경은 ETag로만 구분됩니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public final class ConditionalGets {
+
+    private ConditionalGets() {
+    }
+
+    /**
+     * 요청에 {@code If-None-Match} 또는 {@code If-Modified-Since}가 있는지 확인합니다.
+     */
+    public static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * 목록 페이지 요청에 {@code If-None-Match}가 있는지 확인합니다.
+     * <p>
+     * 페이지는 Last-Modified를 내보내지 않으므로 {@code If-Modified-Since}만 있는 요청은 조건부로 보지 않습니다.
+     */
+    public static boolean isPageConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    public static String memberEtag(Long id, LocalDateTime updatedAt) {
+        return etag("m", id, updatedAt);
+    }
+
+    public static String profileEtag(Long memberId, LocalDateTime updatedAt) {
+        return etag("p", memberId, updatedAt);
+    }
+
+    /**
+     * @param kind 페이지 종류 (예: {@code members}, {@code members-full})
+     * @param after 요청한 커서
+     * @param limit 페이지 크기
+     */
+    public static String pageEtag(String kind, Long after, int limit, PageVersion version) {
+        return "\"" + kind + "-" + after + "-" + limit + "-" + version.rowCount() + "-" + version.lastId()
+                + "-" + micros(version.lastModified()) + "\"";
+    }
+
+    /**
+     * 조건부 요청이 현재 버전과 일치하는지 확인합니다.
+     * <p>
+     * 일치하면 응답 상태가 304로 설정되므로 호출 측은 본문 없이 {@code null}을 반환해야 합니다.
+     *
+     * @param lastModified 최종 수정 시각 (null이면 ETag만 비교)
+     */
+    public static boolean checkNotModified(WebRequest request, String etag, LocalDateTime lastModified) {
+        return lastModified == null
+                ? request.checkNotModified(etag)
+                : request.checkNotModified(etag, epochMillis(lastModified));
+    }
+
+    /**
+     * 목록 페이지 조건부 요청을 행 수와 마지막 ID가 포함된 페이지 ETag로만 확인합니다.
+     */
+    public static boolean checkPageNotModified(WebRequest request, String pageEtag) {
+        return request.checkNotModified(pageEtag);
+    }
+
+    /**
+     * 페이지 ETag만 붙인 목록 200 응답을 만듭니다 (Last-Modified 없음).
+     */
+    public static <T> ResponseEntity<T> page(T body, String pageEtag) {
+        return ResponseEntity.ok().eTag(pageEtag).body(body);
+    }
+
+    /**
+     * 미리 직렬화한 JSON을 본문으로 하는 200 응답을 만듭니다.
+     *
+     * @param etag ETag (null이면 검증 헤더 없이 응답)
+     */
+    public static ResponseEntity<byte[]> json(JsonDocument document, String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (etag != null) {
+            builder.eTag(etag);
+            if (document.updatedAt() != null) {
+                builder.lastModified(epochMillis(document.updatedAt()));
+            }
+        }
+        return builder.body(document.body());
+    }
+
+    private static String etag(String kind, Long id, LocalDateTime updatedAt) {
+        return "\"" + kind + id + "-" + micros(updatedAt) + "\"";
+    }
+
+    private static long micros(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    // updated_at은 DB 세션 시간대의 TIMESTAMP이므로 JVM 기본 시간대로 해석
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
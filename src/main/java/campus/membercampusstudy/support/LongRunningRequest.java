@@ -0,0 +1,24 @@
+package campus.membercampusstudy.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 처리 시간이 원래 긴 핸들러 표시
+ * <p>
+ * 전체 내보내기({@code GET /export}), 일괄 삭제({@code POST /bulk-delete}), 일괄 등록({@code POST /batch})처럼
+ * 데이터 양에 비례해 오래 걸리는 핸들러에 붙이면 {@link ConcurrencyLimitInterceptor}가 제한하지 않습니다.
+ * 이런 요청의 지연 시간은 과부하 신호가 아니므로 한도 조정에 반영하면 한도가 계속 줄고,
+ * 처리 내내 슬롯을 잡아 짧은 요청의 자리를 차지합니다. 대신 청크/페치 크기로 한 번에 DB에 주는 부담을 제한합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LongRunningRequest {
+}
@@ -0,0 +1,100 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.cache.MemberLookupCache;
+import campus.membercampusstudy.cache.ProfileWriteBehindBuffer;
+import campus.membercampusstudy.dto.BulkDeleteRequest;
+import campus.membercampusstudy.dto.BulkDeleteResult;
+import campus.membercampusstudy.repository.IMember;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 회원 일괄 삭제
+ * <p>
+ * 대상 ID를 청크로 나눠 청크마다 {@code DELETE FROM member WHERE id IN (...)} 한 문장을 실행합니다.
+ * 프로필과 이름 색인은 외래키 {@code ON DELETE CASCADE}로 함께 삭제되므로 별도로 지우지 않고,
+ * 존재 여부도 미리 확인하지 않고 영향 행 수로 결과를 집계합니다.
+ * 청크를 삭제한 뒤에는 조회 캐시를 무효화하고, 삭제된 회원의 기록 대기 중인 프로필 저장(write-behind)을 버립니다.
+ * <ul>
+ *   <li>ID 목록 방식: 중복을 제거한 요청 ID를 그대로 청크로 나눔</li>
+ *   <li>조건 방식: 조건에 맞는 ID를 키셋 페이지로 청크 크기만큼 조회한 뒤 삭제하기를 반복</li>
+ * </ul>
+ * 청크마다 별도 트랜잭션이므로 한 번의 삭제가 긴 잠금을 잡지 않으며, 도중에 실패하면 앞선 청크의 삭제는 유지됩니다
+ * (같은 요청을 다시 보내면 남은 회원만 삭제됨).
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberBulkDeleter {
+
+    private final MemberLookupCache memberLookupCache;
+    private final ProfileWriteBehindBuffer profileWriteBehind;
+
+    /**
+     * 요청한 회원을 청크 단위로 삭제합니다.
+     *
+     * @param members 사용할 백엔드 (JPA Repository 또는 MyBatis Mapper)
+     * @param request 삭제 요청 ({@link BulkDeleteRequest#isValid()}가 true여야 함)
+     * @param chunkSize 청크 크기 (1 이상)
+     * @return 삭제 결과
+     */
+    public BulkDeleteResult delete(IMember members, BulkDeleteRequest request, int chunkSize) {
+        if (!request.isValid()) {
+            throw new IllegalArgumentException("ids와 삭제 조건 중 한 가지만 지정해야 합니다");
+        }
+        return request.hasIds()
+                ? deleteByIds(members, request.ids(), chunkSize)
+                : deleteByCriteria(members, request, chunkSize);
+    }
+
+    private BulkDeleteResult deleteByIds(IMember members, List<Long> ids, int chunkSize) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinctIds.remove(null);
+        long deleted = 0;
+        int chunks = 0;
+        for (List<Long> chunk : Chunks.of(distinctIds, chunkSize)) {
+            deleted += deleteChunk(members, chunk);
+            chunks++;
+        }
+        log.info("회원 일괄 삭제 (ID 목록) - 요청: {}건, 삭제: {}건, 청크: {}개", distinctIds.size(), deleted, chunks);
+        return new BulkDeleteResult(distinctIds.size(), deleted, chunks);
+    }
+
+    private BulkDeleteResult deleteByCriteria(IMember members, BulkDeleteRequest request, int chunkSize) {
+        long matched = 0;
+        long deleted = 0;
+        int chunks = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> chunk = members.findMemberIdsAfter(afterId, request.minAge(), request.maxAge(), request.gender(), chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            matched += chunk.size();
+            deleted += deleteChunk(members, chunk);
+            chunks++;
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        log.info("회원 일괄 삭제 (조건) - 나이: {}~{}, 성별: {}, 대상: {}건, 삭제: {}건, 청크: {}개",
+                request.minAge(), request.maxAge(), request.gender(), matched, deleted, chunks);
+        return new BulkDeleteResult(matched, deleted, chunks);
+    }
+
+    private int deleteChunk(IMember members, List<Long> ids) {
+        int deleted = members.deleteMembersByIds(ids);
+        memberLookupCache.evictMembers(ids);
+        profileWriteBehind.discard(ids);
+        return deleted;
+    }
+}
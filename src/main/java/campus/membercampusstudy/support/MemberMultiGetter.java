@@ -0,0 +1,109 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.cache.ProfileWriteBehindBuffer;
+import campus.membercampusstudy.dto.MultiGetResult;
+import campus.membercampusstudy.dto.ProfileMultiGetResult;
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.repository.IMember;
+import campus.membercampusstudy.repository.IProfile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 회원/프로필 다건 조회 (multi-get)
+ * <p>
+ * 중복을 제거한 요청 ID를 청크({@code member.batch.chunk-size})로 나눠 청크마다
+ * {@code SELECT ... WHERE id IN (...)}(프로필은 {@code member_id IN (...)}) 한 문장을 실행하고, 결과를 요청 순서대로 맞춥니다.
+ * 없는 항목은 {@code found=false}로 표시되며, 같은 ID를 여러 번 요청하면 그 위치마다 같은 결과가 들어갑니다.
+ * 프로필은 아직 기록되지 않은 write-behind 저장이 있으면 그 값을 우선합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class MemberMultiGetter {
+
+    private final ProfileWriteBehindBuffer profileWriteBehind;
+    private final int maxIds;
+    private final int chunkSize;
+
+    public MemberMultiGetter(ProfileWriteBehindBuffer profileWriteBehind,
+                             @Value("${member.mget.max-ids:5000}") int maxIds,
+                             @Value("${member.batch.chunk-size:500}") int chunkSize) {
+        this.profileWriteBehind = profileWriteBehind;
+        this.maxIds = maxIds;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 처리할 수 있는 요청인지 확인합니다 (1건 이상, {@code member.mget.max-ids} 이하).
+     */
+    public boolean accepts(List<Long> ids) {
+        return ids != null && !ids.isEmpty() && ids.size() <= maxIds;
+    }
+
+    /**
+     * 요청한 회원을 청크 단위로 조회합니다.
+     *
+     * @param members 사용할 백엔드 (JPA Repository 또는 MyBatis Mapper)
+     * @param ids 조회할 회원 ID ({@link #accepts(List)}가 true여야 함)
+     * @return 요청 순서와 같은 항목별 결과
+     */
+    public List<MultiGetResult> getMembers(IMember members, List<Long> ids) {
+        return get(ids, members::findMembersByIds, Member::getId, id -> null,
+                (id, member) -> member != null ? MultiGetResult.found(id, member) : MultiGetResult.missing(id));
+    }
+
+    /**
+     * 요청한 회원들의 프로필을 청크 단위로 조회합니다.
+     *
+     * @param profiles 사용할 백엔드 (JPA Repository 또는 MyBatis Mapper)
+     * @param memberIds 조회할 회원 ID ({@link #accepts(List)}가 true여야 함)
+     * @return 요청 순서와 같은 항목별 결과 (프로필이 없는 회원은 {@code found=false})
+     */
+    public List<ProfileMultiGetResult> getProfiles(IProfile profiles, List<Long> memberIds) {
+        return get(memberIds, profiles::findProfilesByMemberIds, Profile::getMemberId, profileWriteBehind::pending,
+                (memberId, profile) -> profile != null
+                        ? ProfileMultiGetResult.found(memberId, profile)
+                        : ProfileMultiGetResult.missing(memberId));
+    }
+
+    /**
+     * @param result 요청 ID와 조회 결과(없으면 null)로 항목 결과를 만드는 함수
+     */
+    private <T, R> List<R> get(List<Long> ids, Function<List<Long>, List<T>> loader, Function<T, Long> idOf,
+                               Function<Long, T> pending, BiFunction<Long, T, R> result) {
+        if (!accepts(ids)) {
+            throw new IllegalArgumentException("ids는 1건 이상 " + maxIds + "건 이하여야 합니다");
+        }
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinctIds.remove(null);
+        Map<Long, T> found = HashMap.newHashMap(distinctIds.size());
+        for (List<Long> chunk : Chunks.of(distinctIds, chunkSize)) {
+            for (T document : loader.apply(chunk)) {
+                found.put(idOf.apply(document), document);
+            }
+        }
+        List<R> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T document = id != null ? pending.apply(id) : null;
+            if (document == null && id != null) {
+                document = found.get(id);
+            }
+            results.add(result.apply(id, document));
+        }
+        log.debug("다건 조회 - 요청: {}건, 조회: {}건", ids.size(), found.size());
+        return results;
+    }
+}
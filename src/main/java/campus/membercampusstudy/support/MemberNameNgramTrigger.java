@@ -0,0 +1,81 @@
+package campus.membercampusstudy.support;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * {@code member_name_ngram} 색인 유지 H2 트리거
+ * <p>
+ * {@code member} 행이 등록되거나 이름이 바뀌면 같은 트랜잭션 안에서 n-gram 행을 다시 만듭니다.
+ * JPA, MyBatis, {@code data.sql}, 직접 실행한 SQL 모두 같은 경로로 색인되며,
+ * 회원 삭제 시에는 외래키 {@code ON DELETE CASCADE}로 색인 행이 함께 삭제됩니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see NameNgrams
+ */
+public class MemberNameNgramTrigger implements Trigger {
+
+    private int idIndex = -1;
+    private int nameIndex = -1;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) throws SQLException {
+        try (ResultSet columns = conn.getMetaData().getColumns(null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                String column = columns.getString("COLUMN_NAME");
+                int index = columns.getInt("ORDINAL_POSITION") - 1;
+                if ("ID".equalsIgnoreCase(column)) {
+                    idIndex = index;
+                } else if ("NAME".equalsIgnoreCase(column)) {
+                    nameIndex = index;
+                }
+            }
+        }
+        if (idIndex < 0 || nameIndex < 0) {
+            throw new SQLException("member_name_ngram 트리거: " + tableName + " 테이블에 id/name 컬럼이 없습니다");
+        }
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (newRow == null) {
+            return;
+        }
+        if (oldRow != null) {
+            if (Objects.equals(oldRow[nameIndex], newRow[nameIndex])) {
+                return;
+            }
+            try (PreparedStatement delete = conn.prepareStatement("DELETE FROM member_name_ngram WHERE member_id = ?")) {
+                delete.setObject(1, oldRow[idIndex]);
+                delete.executeUpdate();
+            }
+        }
+        Object name = newRow[nameIndex];
+        if (name == null) {
+            return;
+        }
+        try (PreparedStatement insert = conn.prepareStatement("INSERT INTO member_name_ngram (gram, member_id) VALUES (?, ?)")) {
+            for (String gram : NameNgrams.indexGrams(name.toString())) {
+                insert.setString(1, gram);
+                insert.setObject(2, newRow[idIndex]);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void remove() {
+    }
+}
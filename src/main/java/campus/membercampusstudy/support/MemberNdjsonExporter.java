@@ -0,0 +1,77 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * 회원 + 프로필 NDJSON 내보내기
+ * <p>
+ * id 순으로 정렬된 회원 이터레이터와 member_id 순으로 정렬된 프로필 이터레이터를
+ * 머지 조인하여 한 줄에 하나의 {@link MemberWithProfile} JSON을 출력합니다.
+ * 두 이터레이터 모두 DB 커서이므로 한 번에 한 행만 메모리에 유지됩니다.
+ * <p>
+ * {@code flushEvery}건마다 출력 스트림을 flush하며, 클라이언트가 느리면 서블릿 출력 스트림의
+ * 블로킹 쓰기가 커서 읽기를 멈추게 하여 자연스럽게 백프레셔가 걸립니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Component
+public class MemberNdjsonExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectWriter writer;
+    private final int flushEvery;
+
+    public MemberNdjsonExporter(ObjectMapper objectMapper,
+                                @Value("${member.export.flush-every:500}") int flushEvery) {
+        this.writer = objectMapper.writerFor(MemberWithProfile.class);
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    /**
+     * 회원과 프로필을 머지 조인하여 NDJSON으로 출력합니다.
+     *
+     * @param members id 오름차순 회원 이터레이터
+     * @param profiles member_id 오름차순 프로필 이터레이터
+     * @param out 출력 스트림 (닫지 않음)
+     * @param onFlush flush 직후 실행할 작업 (예: JPA 영속성 컨텍스트 비우기)
+     * @return 출력한 회원 수
+     * @throws IOException 출력 실패 (클라이언트 연결 종료 등)
+     */
+    public long export(Iterator<Member> members, Iterator<Profile> profiles,
+                       OutputStream out, Runnable onFlush) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        Profile profile = profiles.hasNext() ? profiles.next() : null;
+        long count = 0;
+
+        while (members.hasNext()) {
+            Member member = members.next();
+            while (profile != null && profile.getMemberId() < member.getId()) {
+                profile = profiles.hasNext() ? profiles.next() : null;
+            }
+            Profile matched = profile != null && profile.getMemberId().equals(member.getId()) ? profile : null;
+
+            buffered.write(writer.writeValueAsBytes(new MemberWithProfile(member, matched)));
+            buffered.write('\n');
+
+            if (++count % flushEvery == 0) {
+                buffered.flush();
+                onFlush.run();
+            }
+        }
+        buffered.flush();
+        return count;
+    }
+}
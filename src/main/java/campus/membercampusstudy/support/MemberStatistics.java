@@ -0,0 +1,166 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.dto.MemberStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원 통계 조회와 재집계
+ * <p>
+ * {@code member_stats}는 {@link MemberStatsTrigger}가 쓰기와 같은 트랜잭션에서 증분 유지하므로
+ * 조회는 회원 수와 무관하게 요약 행(구간 x 슬롯)만 읽습니다.
+ * <p>
+ * 트리거가 없는 경로(트리거 생성 전 적재, 수동 보정 등)로 생긴 오차는
+ * 주기적 재집계({@code member.stats.reconcile-interval})가 바로잡습니다.
+ * 실제 건수와 요약 값을 한 SQL 문으로 함께 읽어 같은 시점의 차이를 구하고, 그 차이만큼 슬롯 0에 더하므로
+ * 재집계 중 일어난 쓰기와 겹쳐도 값이 틀어지지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see MemberStatsBuckets
+ */
+@Slf4j
+@Component
+public class MemberStatistics {
+
+    private static final String SNAPSHOT_SQL =
+            "SELECT dimension, bucket, SUM(member_count) FROM member_stats GROUP BY dimension, bucket";
+
+    /** 원본 값별 실제 건수(source)와 요약 값(stats)을 한 문장으로 조회 */
+    private static final String RECONCILE_SQL = """
+            SELECT 'source', 'total', NULL, COUNT(*) FROM member
+            UNION ALL SELECT 'source', 'gender', gender, COUNT(*) FROM member GROUP BY gender
+            UNION ALL SELECT 'source', 'age', CAST(age AS VARCHAR), COUNT(*) FROM member GROUP BY age
+            UNION ALL SELECT 'source', 'postal', LEFT(postal_code, 2), COUNT(*) FROM profile GROUP BY LEFT(postal_code, 2)
+            UNION ALL SELECT 'stats', dimension, bucket, SUM(member_count) FROM member_stats GROUP BY dimension, bucket
+            """;
+
+    private static final String CORRECT_SQL =
+            "UPDATE member_stats SET member_count = member_count + ? WHERE dimension = ? AND bucket = ? AND slot = 0";
+    private static final String INSERT_SQL =
+            "INSERT INTO member_stats (dimension, bucket, slot, member_count) VALUES (?, ?, 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    public MemberStatistics(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 현재 통계를 조회합니다.
+     */
+    public MemberStatsResponse snapshot() {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        jdbcTemplate.query(SNAPSHOT_SQL, (RowCallbackHandler) rs -> {
+            counts.computeIfAbsent(rs.getString(1), key -> new HashMap<>()).put(rs.getString(2), rs.getLong(3));
+        });
+        Map<String, Long> postal = new TreeMap<>();
+        counts.getOrDefault(MemberStatsBuckets.POSTAL, Map.of()).forEach((bucket, count) -> {
+            if (count != 0) {
+                postal.put(bucket, count);
+            }
+        });
+        return new MemberStatsResponse(
+                counts.getOrDefault(MemberStatsBuckets.TOTAL, Map.of()).getOrDefault(MemberStatsBuckets.ALL, 0L),
+                ordered(counts.get(MemberStatsBuckets.GENDER), MemberStatsBuckets.GENDERS),
+                ordered(counts.get(MemberStatsBuckets.AGE), MemberStatsBuckets.AGES),
+                postal);
+    }
+
+    private static Map<String, Long> ordered(Map<String, Long> counts, List<String> buckets) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (String bucket : buckets) {
+            result.put(bucket, counts == null ? 0L : counts.getOrDefault(bucket, 0L));
+        }
+        return result;
+    }
+
+    /**
+     * 원본 테이블로 다시 집계해 요약 값과의 차이를 보정합니다.
+     * <p>
+     * 이미 재집계 중이면 건너뜁니다.
+     *
+     * @return 보정한 구간 수, 건너뛰거나 실패하면 -1
+     */
+    @Scheduled(fixedDelayString = "${member.stats.reconcile-interval:10m}",
+               initialDelayString = "${member.stats.reconcile-interval:10m}")
+    public int reconcile() {
+        if (!reconcileLock.tryLock()) {
+            log.debug("회원 통계 재집계가 이미 진행 중");
+            return -1;
+        }
+        try {
+            Integer corrected = transactionTemplate.execute(status -> correct(drift()));
+            if (corrected != null && corrected > 0) {
+                log.warn("회원 통계 재집계 - {}개 구간 보정", corrected);
+            } else {
+                log.debug("회원 통계 재집계 - 오차 없음");
+            }
+            return corrected == null ? 0 : corrected;
+        } catch (DataAccessException e) {
+            log.warn("회원 통계 재집계 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            return -1;
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /** dimension -> bucket -> (실제 건수 - 요약 값) */
+    private Map<String, Map<String, Long>> drift() {
+        Map<String, Map<String, Long>> drift = new HashMap<>();
+        jdbcTemplate.query(RECONCILE_SQL, (RowCallbackHandler) rs -> {
+            String dimension = rs.getString(2);
+            String value = rs.getString(3);
+            long count = rs.getLong(4);
+            Map<String, Long> buckets = drift.computeIfAbsent(dimension, key -> new HashMap<>());
+            if ("stats".equals(rs.getString(1))) {
+                buckets.merge(value, -count, Long::sum);
+            } else {
+                buckets.merge(bucket(dimension, value), count, Long::sum);
+            }
+        });
+        return drift;
+    }
+
+    private static String bucket(String dimension, String value) {
+        return switch (dimension) {
+            case MemberStatsBuckets.TOTAL -> MemberStatsBuckets.ALL;
+            case MemberStatsBuckets.GENDER -> MemberStatsBuckets.gender(value);
+            case MemberStatsBuckets.AGE -> MemberStatsBuckets.age(value == null ? null : Integer.valueOf(value));
+            default -> MemberStatsBuckets.postal(value);
+        };
+    }
+
+    private int correct(Map<String, Map<String, Long>> drift) {
+        List<Object[]> corrections = new ArrayList<>();
+        drift.forEach((dimension, buckets) -> buckets.forEach((bucket, delta) -> {
+            if (delta != 0) {
+                corrections.add(new Object[]{delta, dimension, bucket});
+            }
+        }));
+        for (Object[] correction : corrections) {
+            log.debug("회원 통계 보정 - {}/{}: {}", correction[1], correction[2], correction[0]);
+            if (jdbcTemplate.update(CORRECT_SQL, correction) == 0) {
+                jdbcTemplate.update(INSERT_SQL, correction[1], correction[2], correction[0]);
+            }
+        }
+        return corrections.size();
+    }
+}
@@ -0,0 +1,91 @@
+package campus.membercampusstudy.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 통계({@code member_stats}) 구간 정의
+ * <p>
+ * 트리거의 증감과 재집계가 같은 구간 규칙을 쓰도록 한곳에 모았습니다.
+ * 구간 목록이 바뀌면 {@code schema.sql}의 초기 행도 함께 맞춰야 합니다.
+ * <ul>
+ *   <li>{@code total} - 전체 회원 수 (구간 {@code ALL})</li>
+ *   <li>{@code gender} - 성별 ({@code MALE}, {@code FEMALE}, {@code OTHER}, 미입력은 {@code UNKNOWN})</li>
+ *   <li>{@code age} - 10년 단위 ({@code 0-9} ~ {@code 90-99}, {@code 100+}, 미입력/음수는 {@code UNKNOWN})</li>
+ *   <li>{@code postal} - 프로필 우편번호 앞 2자리 ({@code 00} ~ {@code 99}, 숫자가 아니거나 미입력은 {@code OTHER})</li>
+ * </ul>
+ * 각 구간은 {@link #SLOTS}개 슬롯 행으로 나뉘며, 구간 값은 슬롯 합계입니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public final class MemberStatsBuckets {
+
+    public static final String TOTAL = "total";
+    public static final String GENDER = "gender";
+    public static final String AGE = "age";
+    public static final String POSTAL = "postal";
+
+    public static final String ALL = "ALL";
+    public static final String UNKNOWN = "UNKNOWN";
+    public static final String OTHER = "OTHER";
+
+    /** 구간별 슬롯 수 - 동시 쓰기가 같은 행 잠금을 기다리지 않도록 분산 */
+    public static final int SLOTS = 16;
+
+    public static final List<String> GENDERS = List.of("MALE", "FEMALE", "OTHER", UNKNOWN);
+    public static final List<String> AGES = ageBuckets();
+
+    private MemberStatsBuckets() {
+    }
+
+    private static List<String> ageBuckets() {
+        List<String> buckets = new ArrayList<>();
+        for (int from = 0; from < 100; from += 10) {
+            buckets.add(from + "-" + (from + 9));
+        }
+        buckets.add("100+");
+        buckets.add(UNKNOWN);
+        return List.copyOf(buckets);
+    }
+
+    public static String gender(Object gender) {
+        return gender == null ? UNKNOWN : gender.toString();
+    }
+
+    public static String age(Object age) {
+        if (!(age instanceof Number number) || number.intValue() < 0) {
+            return UNKNOWN;
+        }
+        int value = number.intValue();
+        if (value >= 100) {
+            return "100+";
+        }
+        int from = value / 10 * 10;
+        return from + "-" + (from + 9);
+    }
+
+    public static String postal(Object postalCode) {
+        if (postalCode == null) {
+            return OTHER;
+        }
+        String code = postalCode.toString();
+        if (code.length() < 2 || !isAsciiDigit(code.charAt(0)) || !isAsciiDigit(code.charAt(1))) {
+            return OTHER;
+        }
+        return code.substring(0, 2);
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 현재 스레드의 슬롯 번호
+     * <p>
+     * 한 트랜잭션은 보통 한 스레드에서 실행되므로 구간마다 한 슬롯 행만 잠급니다.
+     */
+    public static int currentSlot() {
+        return (int) (Thread.currentThread().threadId() % SLOTS);
+    }
+}
@@ -0,0 +1,122 @@
+package campus.membercampusstudy.support;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * {@code member_stats} 증분 유지 H2 트리거
+ * <p>
+ * {@code member}에 걸면 전체/성별/나이 구간을, {@code profile}에 걸면 우편번호 구간을 같은 트랜잭션 안에서 증감합니다.
+ * 등록은 +1, 삭제는 -1, 수정은 구간이 바뀐 경우에만 이전 구간 -1 / 새 구간 +1 입니다.
+ * JPA, MyBatis, 일괄 등록/삭제, 부분 수정, {@code data.sql} 모두 같은 경로로 반영되며,
+ * 회원 삭제 시 외래키 {@code ON DELETE CASCADE}로 지워지는 프로필도 트리거가 실행됩니다.
+ * <p>
+ * 증감 대상 행은 {@link MemberStatsBuckets#currentSlot()} 슬롯으로, 동시 쓰기는 서로 다른 슬롯 행을 잠급니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see MemberStatsBuckets
+ */
+public class MemberStatsTrigger implements Trigger {
+
+    private static final String INCREMENT =
+            "UPDATE member_stats SET member_count = member_count + ? WHERE dimension = ? AND bucket = ? AND slot = ?";
+    private static final String INSERT =
+            "INSERT INTO member_stats (dimension, bucket, slot, member_count) VALUES (?, ?, ?, ?)";
+
+    private boolean memberTable;
+    private int genderIndex = -1;
+    private int ageIndex = -1;
+    private int postalCodeIndex = -1;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) throws SQLException {
+        memberTable = "MEMBER".equalsIgnoreCase(tableName);
+        try (ResultSet columns = conn.getMetaData().getColumns(null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                String column = columns.getString("COLUMN_NAME");
+                int index = columns.getInt("ORDINAL_POSITION") - 1;
+                if ("GENDER".equalsIgnoreCase(column)) {
+                    genderIndex = index;
+                } else if ("AGE".equalsIgnoreCase(column)) {
+                    ageIndex = index;
+                } else if ("POSTAL_CODE".equalsIgnoreCase(column)) {
+                    postalCodeIndex = index;
+                }
+            }
+        }
+        if (memberTable ? genderIndex < 0 || ageIndex < 0 : postalCodeIndex < 0) {
+            throw new SQLException("member_stats 트리거: " + tableName + " 테이블에 통계 대상 컬럼이 없습니다");
+        }
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        int slot = MemberStatsBuckets.currentSlot();
+        if (memberTable) {
+            if (oldRow == null || newRow == null) {
+                Object[] row = newRow != null ? newRow : oldRow;
+                int delta = newRow != null ? 1 : -1;
+                add(conn, MemberStatsBuckets.TOTAL, MemberStatsBuckets.ALL, slot, delta);
+                add(conn, MemberStatsBuckets.GENDER, MemberStatsBuckets.gender(row[genderIndex]), slot, delta);
+                add(conn, MemberStatsBuckets.AGE, MemberStatsBuckets.age(row[ageIndex]), slot, delta);
+                return;
+            }
+            move(conn, MemberStatsBuckets.GENDER,
+                    MemberStatsBuckets.gender(oldRow[genderIndex]), MemberStatsBuckets.gender(newRow[genderIndex]), slot);
+            move(conn, MemberStatsBuckets.AGE,
+                    MemberStatsBuckets.age(oldRow[ageIndex]), MemberStatsBuckets.age(newRow[ageIndex]), slot);
+        } else {
+            String before = oldRow == null ? null : MemberStatsBuckets.postal(oldRow[postalCodeIndex]);
+            String after = newRow == null ? null : MemberStatsBuckets.postal(newRow[postalCodeIndex]);
+            move(conn, MemberStatsBuckets.POSTAL, before, after, slot);
+        }
+    }
+
+    /** 구간이 바뀐 경우에만 이전 구간 -1, 새 구간 +1 (null은 해당 쪽 없음) */
+    private static void move(Connection conn, String dimension, String before, String after, int slot) throws SQLException {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null) {
+            add(conn, dimension, before, slot, -1);
+        }
+        if (after != null) {
+            add(conn, dimension, after, slot, 1);
+        }
+    }
+
+    private static void add(Connection conn, String dimension, String bucket, int slot, long delta) throws SQLException {
+        try (PreparedStatement update = conn.prepareStatement(INCREMENT)) {
+            update.setLong(1, delta);
+            update.setString(2, dimension);
+            update.setString(3, bucket);
+            update.setInt(4, slot);
+            if (update.executeUpdate() > 0) {
+                return;
+            }
+        }
+        // schema.sql에서 모든 구간을 미리 만들어 두므로 구간 정의가 바뀐 경우에만 도달
+        try (PreparedStatement insert = conn.prepareStatement(INSERT)) {
+            insert.setString(1, dimension);
+            insert.setString(2, bucket);
+            insert.setInt(3, slot);
+            insert.setLong(4, delta);
+            insert.executeUpdate();
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void remove() {
+    }
+}
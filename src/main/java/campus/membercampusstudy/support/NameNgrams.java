@@ -0,0 +1,80 @@
+package campus.membercampusstudy.support;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 회원 이름 n-gram 생성 유틸리티
+ * <p>
+ * {@code member_name_ngram} 색인에는 이름의 모든 1글자(unigram)와 연속 2글자(bigram)를 저장합니다.
+ * 한글 이름은 2~4글자가 대부분이라 bigram이면 충분히 선택적이고, 1글자 검색(예: 성)은 unigram으로 처리합니다.
+ * <ul>
+ *   <li>색인: {@link #indexGrams(String)} - unigram + bigram</li>
+ *   <li>검색: {@link #queryGrams(String)} - 1글자면 unigram, 2글자 이상이면 bigram 전체</li>
+ * </ul>
+ * 모든 gram을 포함해도 연속 부분 문자열이 아닐 수 있으므로(예: "가나 나다"와 "가나다")
+ * 검색 쿼리는 후보를 좁힌 뒤 원래의 LIKE 조건으로 한 번 더 확인합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public final class NameNgrams {
+
+    private NameNgrams() {
+    }
+
+    /**
+     * 색인에 저장할 gram 목록 (중복 제거)
+     *
+     * @param name 회원 이름
+     * @return unigram + bigram, 이름이 비어 있으면 빈 집합
+     */
+    public static Set<String> indexGrams(String name) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (name == null) {
+            return grams;
+        }
+        int[] codePoints = name.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어로 조회할 gram 목록 (중복 제거)
+     * <p>
+     * 후보 회원은 이 gram을 모두 가진 회원입니다.
+     *
+     * @param term 검색어 ({@link #isIndexable(String)}이 true여야 함)
+     * @return 1글자면 unigram 하나, 2글자 이상이면 bigram 전체
+     */
+    public static Set<String> queryGrams(String term) {
+        int[] codePoints = term.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        if (codePoints.length == 1) {
+            grams.add(term);
+            return grams;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인으로 검색할 수 있는 검색어인지 확인합니다.
+     * <p>
+     * 빈 검색어와 LIKE 와일드카드/이스케이프 문자({@code % _ \})가 포함된 검색어는
+     * 기존 LIKE 검색과 결과가 달라지므로 색인을 사용하지 않습니다.
+     */
+    public static boolean isIndexable(String term) {
+        if (term == null || term.isEmpty()) {
+            return false;
+        }
+        return term.indexOf('%') < 0 && term.indexOf('_') < 0 && term.indexOf('\\') < 0;
+    }
+}
@@ -0,0 +1,82 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.repository.IProfile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+import java.util.function.Predicate;
+
+/**
+ * 프로필 MERGE 등록/수정 도우미 (JPA/MyBatis 컨트롤러 공통)
+ * <p>
+ * 같은 회원의 최초 등록이 동시에 겹치면 MERGE가 둘 다 "행 없음"으로 판단해 INSERT를 시도하고,
+ * 진 쪽은 {@code member_id} 유니크 위반이나 잠금 경합으로 실패합니다.
+ * 이때 한 번 다시 실행하면 이미 등록된 행이므로 수정으로 처리됩니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Slf4j
+public final class ProfileUpserts {
+
+    // 유니크/기본키 위반 SQLSTATE (H2, 표준)
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private ProfileUpserts() {
+    }
+
+    /**
+     * 프로필을 MERGE 한 문장으로 등록/수정합니다.
+     *
+     * @param profiles JPA Repository 또는 MyBatis Mapper
+     * @param profile 저장할 프로필 ({@code memberId} 설정 필요)
+     * @param memberExists 무결성 위반 시 외래키 위반(회원 없음)과 구분하기 위한 회원 존재 확인
+     * @return 저장된 프로필, 회원이 없으면 null
+     */
+    public static Profile upsert(IProfile profiles, Profile profile, Predicate<Long> memberExists) {
+        try {
+            return upsertWithRetry(profiles, profile);
+        } catch (DataIntegrityViolationException e) {
+            // 외래키 위반이면 회원 없음, 그 밖의 무결성 오류는 그대로 전파
+            if (memberExists.test(profile.getMemberId())) {
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    private static Profile upsertWithRetry(IProfile profiles, Profile profile) {
+        try {
+            return profiles.upsertProfile(profile);
+        } catch (ConcurrencyFailureException e) {
+            log.debug("프로필 동시 등록 경합 - 재시도: {}", profile.getMemberId());
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateKey(e)) {
+                throw e;
+            }
+            log.debug("프로필 동시 최초 등록 - 수정으로 재시도: {}", profile.getMemberId());
+        }
+        return profiles.upsertProfile(profile);
+    }
+
+    /**
+     * 유니크/기본키 위반인지 확인합니다.
+     * <p>
+     * JDBC 예외 변환은 {@link DuplicateKeyException}을 쓰지만 JPA 경로는 일반 무결성 예외로 올 수 있어 SQLSTATE도 확인합니다.
+     */
+    static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package campus.membercampusstudy.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 쓰기 HTTP 메서드로 받지만 데이터를 바꾸지 않는 핸들러 표시
+ * <p>
+ * ID 목록을 본문으로 받는 다건 조회({@code POST /_mget})처럼 조회만 하는 핸들러에 붙이면
+ * {@link ReadYourWritesInterceptor}가 쓰기로 보지 않아 주 DB 고정 쿠키를 내려주지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadOnlyRequest {
+}
@@ -0,0 +1,94 @@
+package campus.membercampusstudy.support;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 복제 지연 동안 자신의 쓰기를 읽도록 주 DB에 고정하는 인터셉터
+ * <p>
+ * 쓰기 요청(GET/HEAD/OPTIONS 외, {@link ReadOnlyRequest}가 붙은 핸들러 제외)에는 {@value #COOKIE_NAME} 쿠키로 "이 시각까지 주 DB에서 읽기"를 내려주고,
+ * 이후 요청이 그 시각 전이면 해당 요청 동안 {@link #isPinnedToPrimary()}가 true가 되어
+ * {@link ReplicaRoutingDataSource}가 읽기 전용 트랜잭션도 주 풀로 보냅니다.
+ * 고정 시간은 복제본의 최대 지연({@code member.datasource.replica.read-your-writes-window})에 맞춥니다.
+ * <p>
+ * 조회용 POST 같은 예외를 핸들러 선언으로 판단해야 하므로 필터가 아닌 인터셉터로 핸들러가 정해진 뒤 실행합니다.
+ * 커넥션은 핸들러 안의 첫 SQL에서 얻으므로 고정 여부는 그 전에 정해집니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    public static final String COOKIE_NAME = "read-primary-until";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final Duration window;
+
+    public ReadYourWritesInterceptor(Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * 현재 요청이 주 DB에서 읽어야 하는지 확인합니다.
+     */
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.currentTimeMillis();
+        boolean pinned;
+        if (isWrite(request, handler)) {
+            // 응답이 커밋되기 전에 쿠키를 내려야 하므로 처리 전에 설정 (실패한 쓰기도 잠시 주 DB에서 읽을 뿐)
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+            response.addCookie(cookie);
+            pinned = true;
+        } else {
+            pinned = pinnedUntil(request) > now;
+        }
+        PINNED.set(pinned);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        PINNED.remove();
+    }
+
+    // ConcurrencyLimitInterceptor도 같은 기준으로 조회/쓰기 요청을 나눔
+    static boolean isWrite(HttpServletRequest request, Object handler) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return false;
+        }
+        return !(handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(ReadOnlyRequest.class));
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
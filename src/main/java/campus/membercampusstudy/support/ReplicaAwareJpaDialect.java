@@ -0,0 +1,34 @@
+package campus.membercampusstudy.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * 주 DB에 고정된 요청의 읽기 전용 트랜잭션이 Hibernate 2차 캐시를 읽지 않도록 하는 JPA 방언
+ * <p>
+ * 2차 캐시는 복제본에서 읽은 행으로도 채워지므로, 쓰기 직후 다른 요청이 지연된 복제본에서 읽은 이전 행이
+ * 캐시에 다시 들어갈 수 있습니다. 방금 쓴 클라이언트({@link ReadYourWritesInterceptor#isPinnedToPrimary()})의
+ * 읽기 전용 트랜잭션은 {@link CacheMode#REFRESH}로 캐시를 읽지 않고 주 DB에서 읽은 값으로 캐시를 갱신합니다.
+ * 그 밖의 트랜잭션은 {@link CacheMode#NORMAL}입니다.
+ * <p>
+ * open-in-view로 요청 동안 같은 세션을 쓰므로 트랜잭션을 시작할 때마다 캐시 모드를 다시 지정합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        entityManager.unwrap(Session.class).setCacheMode(
+                definition.isReadOnly() && ReadYourWritesInterceptor.isPinnedToPrimary() ? CacheMode.REFRESH : CacheMode.NORMAL);
+        return transactionData;
+    }
+}
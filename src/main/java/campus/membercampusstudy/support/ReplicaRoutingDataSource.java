@@ -0,0 +1,36 @@
+package campus.membercampusstudy.support;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 DataSource
+ * <p>
+ * {@code @Transactional(readOnly = true)} 안의 커넥션은 복제본 풀, 그 밖(쓰기 트랜잭션, 트랜잭션 없는 호출)은 주 풀에서 가져옵니다.
+ * 방금 쓰기를 한 클라이언트의 요청({@link ReadYourWritesInterceptor#isPinnedToPrimary()})은 읽기 전용이어도 주 풀을 사용합니다.
+ * <p>
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 등록되지 않으므로,
+ * 실제 커넥션을 첫 SQL 실행까지 미루는 {@code LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target { PRIMARY, REPLICA }
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesInterceptor.isPinnedToPrimary() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
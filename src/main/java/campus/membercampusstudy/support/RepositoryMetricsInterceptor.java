@@ -0,0 +1,88 @@
+package campus.membercampusstudy.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터 접근 메서드 호출 시간 측정 인터셉터
+ * <p>
+ * 호출마다 {@value #METRIC_NAME} 타이머에 기록하며 태그는 다음과 같습니다.
+ * <ul>
+ *   <li>{@code backend} - jpa 또는 mybatis</li>
+ *   <li>{@code repository} - Repository/Mapper 인터페이스 이름 (예: MemberRepository, MemberMapperRef)</li>
+ *   <li>{@code method} - 메서드 이름</li>
+ *   <li>{@code outcome} - SUCCESS 또는 ERROR</li>
+ * </ul>
+ * 타이머는 메서드별로 한 번만 만들어 캐시하므로 호출 경로에는 맵 조회와 {@code System.nanoTime()} 두 번만 추가됩니다.
+ * {@code Stream}/{@code Cursor}를 반환하는 메서드는 쿼리 실행(열기)까지만 측정되고 소비 시간은 포함되지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    public static final String METRIC_NAME = "data.access";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String backend;
+    private final String repository;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String backend, String repository) {
+        this.meterRegistry = meterRegistry;
+        this.backend = backend;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            record(invocation.getMethod(), true, start);
+            return result;
+        } catch (Throwable ex) {
+            record(invocation.getMethod(), false, start);
+            throw ex;
+        }
+    }
+
+    private void record(Method method, boolean success, long start) {
+        long elapsed = System.nanoTime() - start;
+        MethodTimers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            methodTimers = timers.computeIfAbsent(method, key -> new MethodTimers(
+                    timer(registry, key, "SUCCESS"), timer(registry, key, "ERROR")));
+        }
+        (success ? methodTimers.success() : methodTimers.error()).record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(MeterRegistry registry, Method method, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Repository/Mapper 메서드 호출 시간")
+                .tag("backend", backend)
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+
+    private record MethodTimers(Timer success, Timer error) {
+    }
+}
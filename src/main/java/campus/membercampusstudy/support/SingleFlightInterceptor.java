@@ -0,0 +1,167 @@
+package campus.membercampusstudy.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.BaseStream;
+
+/**
+ * 동일 조회 병합(single-flight) 인터셉터
+ * <p>
+ * 같은 메서드와 같은 인자의 조회가 동시에 들어오면 먼저 들어온 호출 하나만 DB를 조회하고,
+ * 나머지는 그 결과(또는 예외)를 함께 받습니다. 조회가 끝나면 바로 비우므로 결과를 캐시하지는 않습니다.
+ * <p>
+ * 다음 조건을 모두 만족하는 호출만 병합합니다.
+ * <ul>
+ *   <li>이름이 {@code find}/{@code exists}/{@code count}로 시작하는 단건 조회
+ *       (컬렉션, {@code Stream}/{@code Cursor}처럼 호출자가 소비하거나 수정할 수 있는 결과는 제외)</li>
+ *   <li>JPA Repository는 값 결과(숫자, 문자열, 날짜, enum, 이런 값만 담은 record)를 돌려주는 조회만 -
+ *       엔티티는 조회한 호출자의 영속성 컨텍스트에 속하므로 다른 호출자와 공유하지 않음.
+ *       MyBatis 매퍼는 호출마다 새 객체를 만들므로 단건 결과를 그대로 공유</li>
+ *   <li>읽기 전용 트랜잭션 안의 호출 - 쓰기 경로가 조회한 결과를 수정해도 다른 호출자와 공유되지 않도록</li>
+ *   <li>방금 쓰기를 한 클라이언트가 아닌 호출 ({@link ReadYourWritesInterceptor}) - 쓰기 이전에 시작된 조회를 받지 않도록</li>
+ * </ul>
+ * 먼저 들어온 호출을 {@code member.single-flight.max-wait}보다 오래 기다리면 병합을 포기하고 직접 조회합니다.
+ * <p>
+ * 병합된(DB를 조회하지 않은) 호출은 {@value #METRIC_NAME} 카운터에 {@code backend}/{@code repository}/{@code method}
+ * 태그로 기록됩니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    public static final String METRIC_NAME = "data.access.coalesced";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String backend;
+    private final String repository;
+    private final boolean managedEntities;
+    private final long maxWaitNanos;
+    private final Map<Method, Boolean> coalescable = new ConcurrentHashMap<>();
+    private final Map<Method, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<Call, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param managedEntities 엔티티 결과가 영속성 컨텍스트에 속하는 백엔드인지 (JPA) - true면 값 결과만 병합
+     * @param maxWait 먼저 들어온 호출을 기다리는 최대 시간
+     */
+    public SingleFlightInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String backend, String repository,
+                                   boolean managedEntities, Duration maxWait) {
+        this.meterRegistry = meterRegistry;
+        this.backend = backend;
+        this.repository = repository;
+        this.managedEntities = managedEntities;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (!coalescable.computeIfAbsent(method, this::isCoalescable)
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesInterceptor.isPinnedToPrimary()) {
+            return invocation.proceed();
+        }
+        Call call = new Call(method, Arrays.asList(invocation.getArguments().clone()));
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(call, flight);
+        if (leader != null) {
+            Object result;
+            try {
+                // 시간 초과는 다른 대기자에게 전파되지 않도록 복사본에만 적용
+                result = leader.copy().orTimeout(maxWaitNanos, TimeUnit.NANOSECONDS).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException && !leader.isDone()) {
+                    return invocation.proceed();
+                }
+                count(method);
+                throw e.getCause() != null ? e.getCause() : e;
+            }
+            count(method);
+            return result;
+        }
+        try {
+            Object result = invocation.proceed();
+            flight.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(call, flight);
+        }
+    }
+
+    private boolean isCoalescable(Method method) {
+        return isSingleLookup(method) && (!managedEntities || isValue(method.getReturnType()));
+    }
+
+    private static boolean isSingleLookup(Method method) {
+        String name = method.getName();
+        if (!name.startsWith("find") && !name.startsWith("exists") && !name.startsWith("count")) {
+            return false;
+        }
+        Class<?> type = method.getReturnType();
+        return type != void.class && !type.isArray()
+                && !Iterable.class.isAssignableFrom(type)
+                && !Iterator.class.isAssignableFrom(type)
+                && !BaseStream.class.isAssignableFrom(type)
+                && !Map.class.isAssignableFrom(type)
+                && !AutoCloseable.class.isAssignableFrom(type);
+    }
+
+    private static boolean isValue(Class<?> type) {
+        if (ClassUtils.isPrimitiveOrWrapper(type) || CharSequence.class.isAssignableFrom(type)
+                || Temporal.class.isAssignableFrom(type) || type.isEnum()) {
+            return true;
+        }
+        if (!type.isRecord()) {
+            return false;
+        }
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (!isValue(component.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void count(Method method) {
+        Counter counter = counters.get(method);
+        if (counter == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            counter = counters.computeIfAbsent(method, key -> Counter.builder(METRIC_NAME)
+                    .description("진행 중인 같은 조회에 병합되어 DB를 조회하지 않은 호출 수")
+                    .tag("backend", backend)
+                    .tag("repository", repository)
+                    .tag("method", key.getName())
+                    .register(registry));
+        }
+        counter.increment();
+    }
+
+    private record Call(Method method, List<Object> arguments) {
+    }
+}
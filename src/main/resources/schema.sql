@@ -2,6 +2,8 @@
 -- JPA와 MyBatis가 공통으로 사용하는 테이블 정의
 
 -- 기존 테이블 삭제 (개발용)
+DROP TABLE IF EXISTS member_stats;
+DROP TABLE IF EXISTS member_name_ngram CASCADE;
 DROP TABLE IF EXISTS profile CASCADE;
 DROP TABLE IF EXISTS member CASCADE;
 
@@ -34,7 +36,55 @@ CREATE TABLE profile (
     FOREIGN KEY (member_id) REFERENCES member(id) ON DELETE CASCADE
 );
 
+-- 회원 이름 n-gram 색인 테이블 (이름 부분일치 검색용, member 트리거로 유지)
+-- gram: 이름의 1글자(unigram)와 연속 2글자(bigram)
+CREATE TABLE member_name_ngram (
+    gram VARCHAR(8) NOT NULL,
+    member_id BIGINT NOT NULL,
+    PRIMARY KEY (gram, member_id),
+    FOREIGN KEY (member_id) REFERENCES member(id) ON DELETE CASCADE
+);
+
+CREATE TRIGGER trg_member_name_ngram AFTER INSERT, UPDATE ON member FOR EACH ROW CALL 'campus.membercampusstudy.support.MemberNameNgramTrigger';
+
+-- 회원 통계 요약 테이블 (member/profile 트리거로 증분 유지, 주기적 재집계로 보정)
+-- dimension: total / gender / age / postal, bucket: 구간 (MemberStatsBuckets 참고)
+-- slot: 동시 쓰기 분산용 슬롯 (0 ~ 15), 구간 값은 슬롯 합계
+CREATE TABLE member_stats (
+    dimension VARCHAR(10) NOT NULL,
+    bucket VARCHAR(10) NOT NULL,
+    slot INTEGER NOT NULL,
+    member_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (dimension, bucket, slot)
+);
+
+-- 모든 구간 x 슬롯 행을 미리 생성 (트리거는 UPDATE만 실행)
+INSERT INTO member_stats (dimension, bucket, slot, member_count)
+SELECT b.dimension, b.bucket, s.X, 0
+FROM (
+    SELECT * FROM (VALUES
+        ('total', 'ALL'),
+        ('gender', 'MALE'), ('gender', 'FEMALE'), ('gender', 'OTHER'), ('gender', 'UNKNOWN'),
+        ('age', '0-9'), ('age', '10-19'), ('age', '20-29'), ('age', '30-39'), ('age', '40-49'),
+        ('age', '50-59'), ('age', '60-69'), ('age', '70-79'), ('age', '80-89'), ('age', '90-99'),
+        ('age', '100+'), ('age', 'UNKNOWN'),
+        ('postal', 'OTHER')
+    ) AS v(dimension, bucket)
+    UNION ALL
+    SELECT 'postal', LPAD(CAST(X AS VARCHAR), 2, '0') FROM SYSTEM_RANGE(0, 99)
+) b
+CROSS JOIN SYSTEM_RANGE(0, 15) s;
+
+CREATE TRIGGER trg_member_stats AFTER INSERT, UPDATE, DELETE ON member FOR EACH ROW CALL 'campus.membercampusstudy.support.MemberStatsTrigger';
+CREATE TRIGGER trg_profile_stats AFTER INSERT, UPDATE, DELETE ON profile FOR EACH ROW CALL 'campus.membercampusstudy.support.MemberStatsTrigger';
+
 -- 인덱스 생성
 CREATE INDEX idx_member_email ON member(email);
 CREATE INDEX idx_profile_member_id ON profile(member_id);
-CREATE INDEX idx_profile_nickname ON profile(nickname);
\ No newline at end of file
+CREATE INDEX idx_profile_nickname ON profile(nickname);
+CREATE INDEX idx_member_name_ngram_member_id ON member_name_ngram(member_id);
+-- 복합 조건 검색(/search)용 인덱스
+-- 성별 + 나이 범위는 (gender, age), 나이 범위만 지정하면 (age), 우편번호는 조인 키까지 포함한 (postal_code, member_id)
+CREATE INDEX idx_member_gender_age ON member(gender, age);
+CREATE INDEX idx_member_age ON member(age);
+CREATE INDEX idx_profile_postal_code_member_id ON profile(postal_code, member_id);
@@ -0,0 +1,194 @@
+package campus.membercampusstudy.cache;
+
+import campus.membercampusstudy.dto.PendingProfile;
+import campus.membercampusstudy.dto.ProfileDeadLetter;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.mapper.MapperBatchExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 프로필 저장 write-behind 버퍼 테스트
+ * <p>
+ * 배치 실행기를 기록만 남기는 가짜로 바꾸고, 주기 기록({@code flushPending})을 직접 호출해
+ * 어떤 저장이 몇 번에 나눠 기록되는지 확인합니다. 주기 스레드는 시작하지 않습니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see ProfileWriteBehindBuffer
+ */
+class ProfileWriteBehindBufferTest {
+
+    private final MapperBatchExecutor batchExecutor = mock(MapperBatchExecutor.class);
+    private final MemberLookupCache memberLookupCache = mock(MemberLookupCache.class);
+    private final List<List<Profile>> batches = new ArrayList<>();
+
+    // 회원 ID별로 기록 시 던질 예외 (null이면 성공)
+    private Function<Long, RuntimeException> failure = memberId -> null;
+
+    @Test
+    @DisplayName("같은 회원의 저장 여러 번 - 최신 저장만 한 번 기록")
+    void offer_sameMember_latestStateWins() {
+        ProfileWriteBehindBuffer buffer = newBuffer(500, 5);
+
+        buffer.offer(profile(1L, "첫번째"));
+        buffer.offer(profile(1L, "두번째"));
+        buffer.offer(profile(1L, "세번째"));
+        buffer.offer(profile(2L, "다른회원"));
+        buffer.flushPending();
+
+        // 성공 조건: 배치 1번에 회원별 1건, 회원 1은 마지막 닉네임
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).extracting(Profile::getMemberId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(batches.getFirst()).filteredOn(profile -> profile.getMemberId() == 1L)
+                .extracting(Profile::getNickname).containsExactly("세번째");
+    }
+
+    @Test
+    @DisplayName("기록 전 조회 - 대기 중인 저장이 보이고, 기록 후에는 캐시를 무효화하고 버퍼에서 빠짐")
+    void pendingAndAccepted_visibleUntilFlush() {
+        ProfileWriteBehindBuffer buffer = newBuffer(500, 5);
+
+        PendingProfile offered = buffer.offer(profile(1L, "대기"));
+
+        assertThat(offered.status()).isEqualTo(PendingProfile.STATUS);
+        assertThat(buffer.pending(1L).getNickname()).isEqualTo("대기");
+        assertThat(buffer.accepted(1L)).isEqualTo(offered);
+        assertThat(batches).isEmpty();
+
+        buffer.flushPending();
+
+        assertThat(buffer.pending(1L)).isNull();
+        assertThat(buffer.accepted(1L)).isNull();
+        verify(memberLookupCache).evictProfile(1L);
+    }
+
+    @Test
+    @DisplayName("대기 건수가 배치 크기에 도달 - 저장 요청 스레드에서 바로 기록")
+    void offer_batchSizeReached_flushesImmediately() {
+        ProfileWriteBehindBuffer buffer = newBuffer(3, 5);
+
+        buffer.offer(profile(1L, "하나"));
+        buffer.offer(profile(2L, "둘"));
+        assertThat(batches).isEmpty();
+
+        buffer.offer(profile(3L, "셋"));
+
+        // 성공 조건: 주기 기록 없이 3건이 한 배치로 기록됨
+        assertThat(batches).hasSize(1);
+        assertThat(batches.getFirst()).hasSize(3);
+        assertThat(buffer.pending(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("일시적 오류 - 그 항목만 다음 기록에 재시도하고 최대 시도 횟수에 도달하면 실패 목록으로 이동")
+    void transientFailure_retriedThenDeadLettered() {
+        ProfileWriteBehindBuffer buffer = newBuffer(500, 3);
+        failure = memberId -> memberId == 1L ? new TransientDataAccessResourceException("잠금 대기 초과") : null;
+
+        buffer.offer(profile(1L, "실패"));
+        buffer.offer(profile(2L, "성공"));
+        buffer.flushPending();
+
+        // 성공 조건: 배치 실패 후 항목별 재기록으로 회원 2는 기록, 회원 1은 버퍼에 남음
+        assertThat(buffer.pending(2L)).isNull();
+        assertThat(buffer.pending(1L)).isNotNull();
+        assertThat(buffer.deadLetters()).isEmpty();
+
+        buffer.flushPending();
+        assertThat(buffer.pending(1L)).isNotNull();
+
+        buffer.flushPending();
+        assertThat(buffer.pending(1L)).isNull();
+        assertThat(buffer.deadLetters()).singleElement().satisfies(deadLetter -> {
+            assertThat(deadLetter.profile().memberId()).isEqualTo(1L);
+            assertThat(deadLetter.attempts()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("재시도해도 소용없는 오류 - 바로 실패 목록으로 이동")
+    void nonTransientFailure_deadLetteredImmediately() {
+        ProfileWriteBehindBuffer buffer = newBuffer(500, 3);
+        failure = memberId -> new DataIntegrityViolationException("외래키 위반");
+
+        buffer.offer(profile(1L, "삭제된회원"));
+        buffer.flushPending();
+
+        assertThat(buffer.pending(1L)).isNull();
+        assertThat(buffer.deadLetters()).extracting(ProfileDeadLetter::attempts).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("회원 삭제 - 버린 저장은 기록하지 않음")
+    void discard_pendingSaveNotWritten() {
+        ProfileWriteBehindBuffer buffer = newBuffer(500, 5);
+        buffer.offer(profile(1L, "단건삭제"));
+        buffer.offer(profile(2L, "일괄삭제"));
+        buffer.offer(profile(3L, "유지"));
+
+        buffer.discard(1L);
+        buffer.discard(List.of(2L));
+        buffer.flushPending();
+
+        // 성공 조건: 회원 3만 기록
+        assertThat(buffer.pending(1L)).isNull();
+        assertThat(buffer.pending(2L)).isNull();
+        assertThat(batches).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(Profile::getMemberId).containsExactly(3L));
+    }
+
+    @Test
+    @DisplayName("종료 - 남은 저장을 모두 기록하고 이후 저장은 버퍼를 거치지 않음")
+    void close_flushesRemainingAndStopsBuffering() throws InterruptedException {
+        ProfileWriteBehindBuffer buffer = newBuffer(500, 5);
+        buffer.offer(profile(1L, "하나"));
+        buffer.offer(profile(2L, "둘"));
+
+        buffer.close();
+
+        assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).hasSize(2));
+        assertThat(buffer.isEnabled()).isFalse();
+        assertThat(buffer.offer(profile(3L, "종료후"))).isNull();
+    }
+
+    private ProfileWriteBehindBuffer newBuffer(int batchSize, int maxAttempts) {
+        doAnswer(this::execute).when(batchExecutor).executeChunk(any(), anyList(), any());
+        return new ProfileWriteBehindBuffer(batchExecutor, memberLookupCache, true, Duration.ofMinutes(1),
+                batchSize, maxAttempts, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    // 실패할 항목이 섞인 청크는 트랜잭션처럼 전체 실패
+    private int[] execute(InvocationOnMock invocation) {
+        List<Profile> chunk = invocation.getArgument(1);
+        for (Profile profile : chunk) {
+            RuntimeException e = failure.apply(profile.getMemberId());
+            if (e != null) {
+                throw e;
+            }
+        }
+        batches.add(List.copyOf(chunk));
+        return new int[chunk.size()];
+    }
+
+    private static Profile profile(Long memberId, String nickname) {
+        return Profile.createWithMemberId(memberId, nickname, "홍길동", null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,163 @@
+package campus.membercampusstudy.cache;
+
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.repository.MemberRepository;
+import campus.membercampusstudy.repository.ProfileRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 2차 캐시 항목별 무효화 테스트
+ * <p>
+ * Hibernate를 거치지 않은 쓰기(JdbcTemplate)를 {@link MemberLookupCache}로 무효화한 뒤,
+ * 바뀐 항목은 DB에서 다시 읽고 다른 항목은 계속 2차 캐시에서 응답하는지 적중 통계로 확인합니다.
+ * 조회마다 별도 세션을 쓰도록 테스트 트랜잭션 없이 실행하고, 만든 회원은 끝난 뒤 삭제합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see SecondLevelCache
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private MemberLookupCache memberLookupCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> memberIds = new ArrayList<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (!memberIds.isEmpty()) {
+            memberRepository.deleteMembersByIds(memberIds);
+            memberLookupCache.evictMembers(memberIds);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 회원 무효화 후 ID 조회 - 2차 캐시에서 응답")
+    void evictMember_otherMember_findByIdServedFromCache() {
+        Member kept = newMember(Member.Gender.MALE);
+        Member changed = newMember(Member.Gender.MALE);
+        memberRepository.findById(kept.getId());
+
+        memberLookupCache.evictMember(changed.getId());
+
+        // 성공 조건: 회원 엔티티 영역 적중이 1 증가
+        long hits = regionHits(SecondLevelCache.MEMBER);
+        assertThat(memberRepository.findById(kept.getId())).isPresent();
+        assertThat(regionHits(SecondLevelCache.MEMBER)).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("다른 회원 무효화 후 이메일 조회 - 자연 키 캐시에서 응답")
+    void evictMember_otherMember_findByEmailServedFromCache() {
+        Member kept = newMember(Member.Gender.MALE);
+        Member changed = newMember(Member.Gender.MALE);
+        memberRepository.findByEmail(kept.getEmail());
+
+        memberLookupCache.evictMember(changed.getId());
+
+        // 성공 조건: 자연 키 영역 적중이 1 증가
+        long hits = statistics.getNaturalIdCacheHitCount();
+        assertThat(memberRepository.findByEmail(kept.getEmail())).isPresent();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("Hibernate 밖 이메일 변경 - 이전 이메일의 자연 키 항목으로 조회되지 않음")
+    void evictMember_emailChanged_staleNaturalIdIgnored() {
+        Member member = newMember(Member.Gender.MALE);
+        String oldEmail = member.getEmail();
+        memberRepository.findByEmail(oldEmail);
+
+        String newEmail = "changed" + System.nanoTime() + "@test.com";
+        jdbcTemplate.update("UPDATE member SET email = ? WHERE id = ?", newEmail, member.getId());
+        memberLookupCache.evictMember(member.getId());
+
+        // 성공 조건: 이전 이메일은 없음, 새 이메일은 같은 회원
+        assertThat(memberRepository.findByEmail(oldEmail)).isEmpty();
+        assertThat(memberRepository.findByEmail(newEmail)).map(Member::getId).contains(member.getId());
+    }
+
+    @Test
+    @DisplayName("프로필 무효화 - 바뀐 프로필만 다시 읽고 다른 프로필은 2차 캐시에서 응답")
+    void evictProfile_onlyChangedProfileReloaded() {
+        Member kept = newMember(Member.Gender.MALE);
+        Member changed = newMember(Member.Gender.MALE);
+        newProfile(kept.getId());
+        newProfile(changed.getId());
+        profileRepository.findByMemberId(kept.getId());
+        profileRepository.findByMemberId(changed.getId());
+
+        jdbcTemplate.update("UPDATE profile SET nickname = ? WHERE member_id = ?", "변경", changed.getId());
+        memberLookupCache.evictProfile(changed.getId());
+
+        // 성공 조건: 다른 프로필은 프로필 영역 적중, 바뀐 프로필은 새 닉네임
+        long hits = regionHits(SecondLevelCache.PROFILE);
+        assertThat(profileRepository.findByMemberId(kept.getId())).isPresent();
+        assertThat(regionHits(SecondLevelCache.PROFILE)).isEqualTo(hits + 1);
+        assertThat(profileRepository.findByMemberId(changed.getId())).map(Profile::getNickname).contains("변경");
+    }
+
+    @Test
+    @DisplayName("회원 무효화 - 쿼리 영역을 비우지 않아도 회원 테이블 갱신 시각으로 성별 쿼리 재실행")
+    void evictMember_cachedGenderQueryInvalidatedByTimestamp() {
+        Member member = newMember(Member.Gender.MALE);
+        int females = memberRepository.findByGender(Member.Gender.FEMALE).size();
+
+        jdbcTemplate.update("UPDATE member SET gender = 'FEMALE' WHERE id = ?", member.getId());
+        memberLookupCache.evictMember(member.getId());
+
+        // 성공 조건: 캐시된 쿼리 결과 대신 바뀐 성별이 반영된 결과
+        assertThat(memberRepository.findByGender(Member.Gender.FEMALE)).hasSize(females + 1);
+    }
+
+    private long regionHits(String region) {
+        return statistics.getCacheRegionStatistics(region).getHitCount();
+    }
+
+    private Member newMember(Member.Gender gender) {
+        Member member = memberRepository.save(Member.builder()
+                .email("l2-" + System.nanoTime() + "@test.com").name("홍길동")
+                .phone("010-1234-5678").age(25).gender(gender).build());
+        memberIds.add(member.getId());
+        return member;
+    }
+
+    private void newProfile(Long memberId) {
+        profileRepository.save(Profile.createWithMemberId(memberId, "길동", "홍길동", null, null, null, null, null, null));
+    }
+}
@@ -0,0 +1,175 @@
+package campus.membercampusstudy.controller;
+
+import campus.membercampusstudy.cache.MemberLookupCache;
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.repository.MemberRepository;
+import campus.membercampusstudy.repository.ProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원/프로필 단건 JSON 문서 캐시 테스트
+ * <p>
+ * 적중 여부는 캐시를 거치지 않고 DB를 직접 바꾼 뒤에도 이전 본문이 응답되는지로 확인합니다.
+ * 조건부 GET은 캐시된 문서의 버전만으로 304를 결정하므로, 쓰기 API가 문서를 무효화해야 새 버전이 보입니다.
+ * 캐시는 요청 간에 공유되어야 하므로 테스트 트랜잭션 없이 실행하고, 만든 회원은 끝난 뒤 삭제합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MemberJsonCacheTest {
+
+    private static final String MEMBERS = "/api/jpa/members/";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private MemberLookupCache memberLookupCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email("json" + System.nanoTime() + "@test.com").name("홍길동")
+                .phone("010-1234-5678").age(25).gender(Member.Gender.MALE).build());
+        memberId = member.getId();
+        profileRepository.save(Profile.createWithMemberId(memberId, "길동", "홍길동", null, null, null, null, null, null));
+    }
+
+    @AfterEach
+    void cleanup() {
+        memberRepository.deleteMembersByIds(List.of(memberId));
+        memberLookupCache.evictMember(memberId);
+        memberLookupCache.evictProfile(memberId);
+    }
+
+    @Test
+    @DisplayName("회원 JSON 캐시 적중 - DB를 직접 바꿔도 캐시된 본문 응답")
+    void getMember_cached_servesCachedDocument() throws Exception {
+        // 목적: 두 번째 조회가 DB가 아닌 JSON 문서 캐시에서 응답되는지 확인
+        mockMvc.perform(get(MEMBERS + memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("홍길동"));
+        jdbcTemplate.update("UPDATE member SET name = ? WHERE id = ?", "직접변경", memberId);
+
+        // 성공 조건: 캐시를 거치지 않은 변경은 보이지 않음
+        mockMvc.perform(get(MEMBERS + memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("홍길동"));
+        assertThat(memberLookupCache.peekMemberJson(memberId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("회원 PATCH - JSON 문서를 무효화해 다음 조회에 반영")
+    void patchMember_evictsDocument() throws Exception {
+        mockMvc.perform(get(MEMBERS + memberId)).andExpect(status().isOk());
+
+        mockMvc.perform(patch(MEMBERS + memberId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"김철수\"}"))
+                .andExpect(status().isNoContent());
+
+        // 성공 조건: 캐시가 비워지고 다음 조회는 수정된 이름
+        assertThat(memberLookupCache.peekMemberJson(memberId)).isNull();
+        mockMvc.perform(get(MEMBERS + memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("김철수"));
+    }
+
+    @Test
+    @DisplayName("회원 DELETE - 회원/프로필 JSON 문서를 무효화해 404")
+    void deleteMember_evictsDocuments() throws Exception {
+        mockMvc.perform(get(MEMBERS + memberId)).andExpect(status().isOk());
+        mockMvc.perform(get(MEMBERS + memberId + "/profile")).andExpect(status().isOk());
+
+        mockMvc.perform(delete(MEMBERS + memberId)).andExpect(status().isOk());
+
+        // 성공 조건: 삭제된 회원과 프로필이 캐시에서 응답되지 않음
+        assertThat(memberLookupCache.peekMemberJson(memberId)).isNull();
+        assertThat(memberLookupCache.peekProfileJson(memberId)).isNull();
+        mockMvc.perform(get(MEMBERS + memberId)).andExpect(status().isNotFound());
+        mockMvc.perform(get(MEMBERS + memberId + "/profile")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("회원 ETag - 같은 버전이면 304, PATCH 후에는 새 ETag로 200")
+    void getMember_etag_matchesUntilPatched() throws Exception {
+        String etag = mockMvc.perform(get(MEMBERS + memberId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        // 성공 조건: 캐시된 문서 버전과 일치하면 본문 없이 304
+        mockMvc.perform(get(MEMBERS + memberId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch(MEMBERS + memberId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"김철수\"}"))
+                .andExpect(status().isNoContent());
+
+        // 성공 조건: 무효화 후에는 이전 ETag가 일치하지 않음
+        String newEtag = mockMvc.perform(get(MEMBERS + memberId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("김철수"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("프로필 PATCH - 프로필 JSON 문서를 무효화하고 ETag 변경")
+    void patchProfile_evictsDocument() throws Exception {
+        String etag = mockMvc.perform(get(MEMBERS + memberId + "/profile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value("길동"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(MEMBERS + memberId + "/profile").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch(MEMBERS + memberId + "/profile")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nickname\":\"철수\"}"))
+                .andExpect(status().isNoContent());
+
+        // 성공 조건: 다음 조회는 수정된 닉네임과 새 ETag
+        assertThat(memberLookupCache.peekProfileJson(memberId)).isNull();
+        mockMvc.perform(get(MEMBERS + memberId + "/profile").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value("철수"))
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+}
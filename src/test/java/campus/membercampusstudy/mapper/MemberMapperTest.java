@@ -1,12 +1,21 @@
 package campus.membercampusstudy.mapper;
 
+import campus.membercampusstudy.dto.MemberField;
+import campus.membercampusstudy.dto.MemberPatch;
+import campus.membercampusstudy.dto.MemberStatsResponse;
+import campus.membercampusstudy.dto.PageVersion;
 import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.support.MemberStatistics;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -45,6 +54,12 @@ class MemberMapperTest {
     @Autowired(required = false)
     private IMemberMapper memberMapper;
 
+    @Autowired(required = false)
+    private IProfileMapper profileMapper;
+
+    @Autowired
+    private MemberStatistics memberStatistics;
+
     // ========== 기본 CRUD 테스트 ==========
     
     @Test
@@ -92,6 +107,28 @@ class MemberMapperTest {
             .contains("test1@test.com", "test2@test.com");
     }
 
+    @Test
+    @DisplayName("전체 회원 커서 조회 - Cursor로 한 행씩 읽기")
+    void scanAllMembers_success() throws Exception {
+        // 목적: Cursor 반환 타입과 ORDER BY로 대량 조회 SQL 작성
+        // 성공 조건: 모든 회원이 id 오름차순으로 커서를 통해 반환됨
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("cursor@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        
+        List<Member> scanned = new ArrayList<>();
+        try (Cursor<Member> cursor = memberMapper.scanAllMembers()) {
+            cursor.forEach(scanned::add);
+        }
+        
+        assertThat(scanned).hasSize(memberMapper.findAllMembers().size());
+        assertThat(scanned).extracting(Member::getId).isSorted();
+        assertThat(scanned).extracting(Member::getEmail).contains("cursor@test.com");
+    }
+
     @Test
     @DisplayName("ID로 회원 조회 - WHERE 조건절 작성")
     void findMemberById_success() {
@@ -133,6 +170,28 @@ class MemberMapperTest {
         assertThat(updated.getAge()).isEqualTo(30);
     }
 
+    @Test
+    @DisplayName("회원 부분 수정 - <set> + <if> 동적 UPDATE")
+    void patchMember_success() {
+        // 목적: 전달된 필드만 SET 절에 넣어 조회 없이 수정
+        // 성공 조건: 전달한 필드만 바뀌고 나머지는 유지되며, 없는 ID는 0건 수정
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("test@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        
+        int updated = memberMapper.patchMember(member.getId(), MemberPatch.builder().age(31).build());
+        
+        assertThat(updated).isEqualTo(1);
+        Member patched = memberMapper.findMemberById(member.getId());
+        assertThat(patched.getAge()).isEqualTo(31);
+        assertThat(patched.getName()).isEqualTo("홍길동");
+        assertThat(patched.getPhone()).isEqualTo("010-1234-5678");
+        assertThat(memberMapper.patchMember(99999L, MemberPatch.builder().age(31).build())).isZero();
+    }
+
     @Test
     @DisplayName("회원 삭제 - DELETE문 작성")
     void deleteMember_success() {
@@ -151,6 +210,111 @@ class MemberMapperTest {
         assertThat(deleted).isNull();
     }
 
+    @Test
+    @DisplayName("회원 일괄 삭제 - 조건별 ID 조회 + foreach IN 삭제")
+    void deleteMembersByIds_success() {
+        // 목적: <if> 동적 조건으로 ID를 키셋 조회하고, 조회한 ID를 IN 조건 한 문장으로 삭제
+        // 성공 조건: 조건에 맞는 회원 ID만 오름차순으로 조회되고, 없는 ID를 섞어도 실제 삭제 건수만 반환됨
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Member member = Member.builder()
+                .email("bulk" + i + "@test.com").name("일괄" + i).phone("010-0000-000" + i)
+                .age(150 + i).gender(Member.Gender.OTHER).build();
+            memberMapper.insertMember(member);
+            ids.add(member.getId());
+        }
+        
+        List<Long> firstPage = memberMapper.findMemberIdsAfter(0L, 150, 151, Member.Gender.OTHER, 1);
+        List<Long> secondPage = memberMapper.findMemberIdsAfter(firstPage.get(0), 150, 151, Member.Gender.OTHER, 10);
+        assertThat(firstPage).containsExactly(ids.get(0));
+        assertThat(secondPage).containsExactly(ids.get(1));
+        
+        int deleted = memberMapper.deleteMembersByIds(List.of(ids.get(0), ids.get(1), 99999L));
+        
+        assertThat(deleted).isEqualTo(2);
+        assertThat(memberMapper.findMemberById(ids.get(0))).isNull();
+        assertThat(memberMapper.findMemberById(ids.get(2))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("회원 다건 조회 - foreach IN 조회")
+    void findMembersByIds_success() {
+        // 목적: ID 목록을 IN 조건 한 문장으로 조회
+        // 성공 조건: 존재하는 회원만 반환되고 없는 ID는 결과에서 빠짐
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Member member = Member.builder()
+                .email("mget" + i + "@test.com").name("다건" + i).phone("010-0000-000" + i)
+                .age(30).gender(Member.Gender.MALE).build();
+            memberMapper.insertMember(member);
+            ids.add(member.getId());
+        }
+        
+        List<Member> found = memberMapper.findMembersByIds(List.of(ids.get(1), 99999L, ids.get(0)));
+        
+        assertThat(found).extracting(Member::getId).containsExactlyInAnyOrder(ids.get(0), ids.get(1));
+        assertThat(found).extracting(Member::getEmail).contains("mget0@test.com", "mget1@test.com");
+    }
+
+    @Test
+    @DisplayName("회원 통계 - 등록/수정/삭제가 트리거로 member_stats에 반영")
+    void memberStats_followsWrites_success() {
+        // 목적: 매퍼의 쓰기가 member_stats 트리거로 같은 트랜잭션에서 증분 반영되는지 확인
+        // 성공 조건: 등록/나이 변경/삭제 후 통계가 기대값과 같고, 재집계 시 보정할 구간이 없음
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        MemberStatsResponse before = memberStatistics.snapshot();
+        Member member = Member.builder()
+            .email("stats@test.com").name("통계").phone("010-0000-0000")
+            .age(25).gender(Member.Gender.FEMALE).build();
+        memberMapper.insertMember(member);
+        
+        MemberStatsResponse inserted = memberStatistics.snapshot();
+        assertThat(inserted.total()).isEqualTo(before.total() + 1);
+        assertThat(inserted.byGender().get("FEMALE")).isEqualTo(before.byGender().get("FEMALE") + 1);
+        assertThat(inserted.byAge().get("20-29")).isEqualTo(before.byAge().get("20-29") + 1);
+        
+        member.setAge(35);
+        memberMapper.updateMember(member);
+        MemberStatsResponse updated = memberStatistics.snapshot();
+        assertThat(updated.byAge().get("20-29")).isEqualTo(before.byAge().get("20-29"));
+        assertThat(updated.byAge().get("30-39")).isEqualTo(before.byAge().get("30-39") + 1);
+        
+        memberMapper.deleteMember(member.getId());
+        assertThat(memberStatistics.snapshot()).isEqualTo(before);
+        assertThat(memberStatistics.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 수정 시각 / 페이지 버전 - 조건부 GET용 집계")
+    void findMemberUpdatedAt_andPageVersion_success() {
+        // 목적: 엔티티를 읽지 않고 updated_at과 키셋 페이지 버전(행 수, 마지막 ID, 최신 수정 시각)만 조회
+        // 성공 조건: 없는 회원은 null, 집계 결과가 같은 범위의 목록 조회 결과로 만든 버전과 같음
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("version@test.com").name("버전").phone("010-0000-0000")
+            .age(30).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        
+        assertThat(memberMapper.findMemberUpdatedAt(member.getId()))
+            .isEqualTo(memberMapper.findMemberById(member.getId()).getUpdatedAt());
+        assertThat(memberMapper.findMemberUpdatedAt(99999L)).isNull();
+        
+        PageVersion firstPage = memberMapper.findMemberPageVersion(0L, 3);
+        PageVersion lastPage = memberMapper.findMemberPageVersion(member.getId() - 1, 3);
+        
+        assertThat(firstPage).isEqualTo(PageVersion.ofMembers(memberMapper.findMembersAfter(0L, 3)));
+        assertThat(lastPage.rowCount()).isEqualTo(1);
+        assertThat(lastPage.lastId()).isEqualTo(member.getId());
+        assertThat(memberMapper.findMemberPageVersion(member.getId(), 3))
+            .isEqualTo(new PageVersion(0, null, null));
+    }
+
     // ========== 검색 기능 테스트 ==========
 
     @Test
@@ -188,6 +352,42 @@ class MemberMapperTest {
         assertThat(count).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("IMember 어댑터 - 매퍼 메서드를 공통 인터페이스로 래핑")
+    void imemberAdapter_success() {
+        // 목적: IMember 메서드(findByEmail, existsByEmail, findByGender)를 MyBatis 메서드로 위임
+        // 성공 조건: JPA Repository와 같은 반환 형태(Optional, boolean, enum 인자)로 동작함
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("adapter@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.OTHER).build();
+        memberMapper.insertMember(member);
+        
+        assertThat(memberMapper.findByEmail("adapter@test.com")).map(Member::getId).contains(member.getId());
+        assertThat(memberMapper.findByEmail("nobody@test.com")).isEmpty();
+        assertThat(memberMapper.existsByEmail("adapter@test.com")).isTrue();
+        assertThat(memberMapper.existsByEmail("nobody@test.com")).isFalse();
+        assertThat(memberMapper.findByGender(Member.Gender.OTHER)).extracting(Member::getId).contains(member.getId());
+    }
+
+    @Test
+    @DisplayName("등록된 이메일 일괄 확인 - foreach IN 조건")
+    void findExistingEmails_success() {
+        // 목적: <foreach>로 컬렉션을 IN 절로 펼치는 동적 SQL 작성
+        // 성공 조건: 전달한 이메일 중 등록된 이메일만 반환됨
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("exists@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        
+        List<String> existing = memberMapper.findExistingEmails(List.of("exists@test.com", "new@test.com"));
+        
+        assertThat(existing).containsExactly("exists@test.com");
+    }
+
     @Test
     @DisplayName("이름 검색 - LIKE 연산자 사용")
     void findByNameContaining_success() {
@@ -213,6 +413,33 @@ class MemberMapperTest {
             .contains("홍길동", "홍영수");
     }
 
+    @Test
+    @DisplayName("이름 검색 - n-gram 색인 후보 + LIKE 최종 확인")
+    void findByNameContaining_ngramIndex_success() {
+        // 목적: 트리거로 유지되는 member_name_ngram 색인으로 후보를 좁힌 뒤 LIKE로 확인
+        // 성공 조건: bigram은 모두 있지만 연속되지 않은 이름은 제외되고, 이름 변경 후 새 이름으로 검색됨
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member contiguous = Member.builder()
+            .email("gram1@test.com").name("가나다라").phone("010-1111-1111")
+            .age(25).gender(Member.Gender.MALE).build();
+        Member scattered = Member.builder()
+            .email("gram2@test.com").name("가나 나다").phone("010-2222-2222")
+            .age(23).gender(Member.Gender.FEMALE).build();
+        memberMapper.insertMember(contiguous);
+        memberMapper.insertMember(scattered);
+        
+        assertThat(memberMapper.findByNameContaining("가나다")).extracting(Member::getId)
+            .containsExactly(contiguous.getId());
+        
+        scattered.setName("마바사");
+        memberMapper.updateMember(scattered);
+        
+        assertThat(memberMapper.findByNameContaining("바사")).extracting(Member::getId)
+            .containsExactly(scattered.getId());
+        assertThat(memberMapper.findByNameContaining("나 나")).isEmpty();
+    }
+
     @Test
     @DisplayName("나이 범위 검색 - BETWEEN 연산자 사용")
     void findByAgeBetween_success() {
@@ -259,6 +486,80 @@ class MemberMapperTest {
         assertThat(members).allMatch(member -> member.getGender() == Member.Gender.MALE);
     }
 
+    @Test
+    @DisplayName("키셋 페이지 조회 - ORDER BY + LIMIT 커서 페이지네이션")
+    void findMembersAfter_success() {
+        // 목적: id 커서(WHERE id > ?)와 LIMIT으로 페이지 조회 SQL 작성
+        // 성공 조건: 커서 이후 회원이 id 오름차순으로 limit건까지 조회됨
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+
+        Member member1 = Member.builder()
+            .email("page1@test.com").name("홍길동").phone("010-1111-1111")
+            .age(25).gender(Member.Gender.MALE).build();
+        Member member2 = Member.builder()
+            .email("page2@test.com").name("김영희").phone("010-2222-2222")
+            .age(23).gender(Member.Gender.FEMALE).build();
+        Member member3 = Member.builder()
+            .email("page3@test.com").name("이철수").phone("010-3333-3333")
+            .age(31).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member1);
+        memberMapper.insertMember(member2);
+        memberMapper.insertMember(member3);
+
+        List<Member> firstPage = memberMapper.findMembersAfter(member1.getId() - 1, 2);
+        List<Member> secondPage = memberMapper.findMembersAfter(member2.getId(), 2);
+
+        assertThat(firstPage).extracting(Member::getId)
+            .containsExactly(member1.getId(), member2.getId());
+        assertThat(secondPage).extracting(Member::getId)
+            .containsExactly(member3.getId());
+    }
+
+    @Test
+    @DisplayName("필드 선택 조회 - <foreach> 동적 SELECT 목록")
+    void findMemberFieldsAfter_success() {
+        // 목적: 요청한 컬럼만 SELECT 목록에 넣어 Map으로 조회
+        // 성공 조건: id와 요청한 필드만 필드 이름을 키로 담기고, 그 밖의 컬럼은 조회되지 않음
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+
+        Member member = Member.builder()
+            .email("fields@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+
+        List<MemberField> fields = MemberField.parse("name,gender");
+        List<Map<String, Object>> rows = memberMapper.findMemberFieldsAfter(member.getId() - 1, fields, 1);
+
+        assertThat(fields).containsExactly(MemberField.ID, MemberField.NAME, MemberField.GENDER);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsOnlyKeys("id", "name", "gender");
+        assertThat(rows.get(0)).containsEntry("id", member.getId()).containsEntry("name", "홍길동");
+    }
+
+    @Test
+    @DisplayName("필드 선택 조회 (프로필 필드) - LEFT JOIN + 점 없는 별칭")
+    void findMemberFieldsAfter_profileField_success() {
+        // 목적: 프로필 필드를 요청하면 profile을 LEFT JOIN 하고, 별칭에 점이 없어 평평한 Map으로 담기는지 확인
+        // 성공 조건: profile_nickname 키에 닉네임이 담기고 응답에서는 profile.nickname으로 묶임
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+
+        Member member = Member.builder()
+            .email("fields-profile@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            member.getId(), "길동이", "홍길동", null, null, null, null, null, null));
+
+        List<MemberField> fields = MemberField.parse("name,profile.nickname");
+        List<Map<String, Object>> rows = memberMapper.findMemberFieldsAfter(member.getId() - 1, fields, 1);
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsEntry("profile_nickname", "길동이");
+        Map<String, Object> response = MemberField.toResponse(fields, rows.get(0));
+        assertThat(response).containsEntry("name", "홍길동");
+        assertThat(response.get("profile")).isEqualTo(Map.of("nickname", "길동이"));
+    }
+
     // ========== 엣지 케이스 테스트 ==========
 
     @Test
@@ -1,5 +1,9 @@
 package campus.membercampusstudy.mapper;
 
+import campus.membercampusstudy.dto.MemberSearchCondition;
+import campus.membercampusstudy.dto.MemberWithProfile;
+import campus.membercampusstudy.dto.PageVersion;
+import campus.membercampusstudy.dto.ProfilePatch;
 import campus.membercampusstudy.entity.Member;
 import campus.membercampusstudy.entity.Profile;
 import org.junit.jupiter.api.Test;
@@ -152,6 +156,177 @@ class ProfileMapperTest {
         assertThat(found.getNickname()).isEqualTo("길동이");
     }
 
+    @Test
+    @DisplayName("회원 ID 목록으로 프로필 일괄 조회 - foreach IN 조회")
+    void findProfilesByMemberIds_success() {
+        // 목적: member_id IN 조건 한 문장으로 여러 회원의 프로필 조회
+        // 성공 조건: 프로필이 있는 회원의 프로필만 반환되고 프로필 없는 회원과 없는 ID는 빠짐
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member withProfile = Member.builder()
+            .email("bulk-profile@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        Member withoutProfile = Member.builder()
+            .email("no-profile@test.com").name("김철수").phone("010-8765-4321")
+            .age(30).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(withProfile);
+        memberMapper.insertMember(withoutProfile);
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            withProfile.getId(), "길동이", "홍길동", null, null, null, null, null, null
+        ));
+        
+        List<Profile> found = profileMapper.findProfilesByMemberIds(
+            List.of(withProfile.getId(), withoutProfile.getId(), 99999L));
+        
+        assertThat(found).extracting(Profile::getMemberId).containsExactly(withProfile.getId());
+        assertThat(found).extracting(Profile::getNickname).containsExactly("길동이");
+    }
+
+    @Test
+    @DisplayName("IProfile 어댑터 - 매퍼 메서드를 공통 인터페이스로 래핑")
+    void iprofileAdapter_success() {
+        // 목적: IProfile 메서드(findByMemberId, deleteByMemberId)를 MyBatis 메서드로 위임
+        // 성공 조건: JPA Repository와 같은 반환 형태(Optional)로 조회되고 삭제됨
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("test@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            member.getId(), "길동이", "홍길동", null, null, null, null, null, null
+        ));
+        
+        assertThat(profileMapper.findByMemberId(member.getId())).map(Profile::getNickname).contains("길동이");
+        
+        profileMapper.deleteByMemberId(member.getId());
+        
+        assertThat(profileMapper.findByMemberId(member.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원 + 프로필 조인 조회 - LEFT JOIN + 중첩 @Results 매핑")
+    void findMemberWithProfileById_success() {
+        // 목적: LEFT JOIN 결과를 @One(columnPrefix)로 Member/Profile 두 객체에 나눠 매핑
+        // 성공 조건: 쿼리 한 번으로 회원과 프로필이 함께 조회되고, 프로필이 없으면 null
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member withProfile = Member.builder()
+            .email("full@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(withProfile);
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            withProfile.getId(), "길동이", "프로필이름", null, "12345", null, null, null, null
+        ));
+        Member withoutProfile = Member.builder()
+            .email("bare@test.com").name("김철수").phone("010-9876-5432")
+            .age(30).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(withoutProfile);
+        
+        MemberWithProfile found = memberMapper.findMemberWithProfileById(withProfile.getId());
+        MemberWithProfile bare = memberMapper.findMemberWithProfileById(withoutProfile.getId());
+        List<MemberWithProfile> page = memberMapper.findMembersWithProfileAfter(withProfile.getId() - 1, 2);
+        
+        assertThat(found.getMember().getName()).isEqualTo("홍길동");
+        assertThat(found.getProfile().getName()).isEqualTo("프로필이름");
+        assertThat(found.getProfile().getPostalCode()).isEqualTo("12345");
+        assertThat(bare.getMember().getEmail()).isEqualTo("bare@test.com");
+        assertThat(bare.getProfile()).isNull();
+        assertThat(page).extracting(row -> row.getMember().getId())
+            .containsExactly(withProfile.getId(), withoutProfile.getId());
+    }
+
+    @Test
+    @DisplayName("회원 복합 조건 검색 - <where> + <if> 동적 조건 + 프로필 조인")
+    void searchMembers_success() {
+        // 목적: 회원 조건과 프로필 조건을 조합한 동적 WHERE를 조인 쿼리 하나로 실행
+        // 성공 조건: 모든 조건을 만족하는 회원만 프로필과 함께 조회되고, 지정하지 않은 조건은 무시됨
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member match = Member.builder()
+            .email("search1@test.com").name("검색대상").phone("010-1111-1111")
+            .age(150).gender(Member.Gender.OTHER).build();
+        Member otherPostalCode = Member.builder()
+            .email("search2@test.com").name("검색대상").phone("010-2222-2222")
+            .age(150).gender(Member.Gender.OTHER).build();
+        memberMapper.insertMember(match);
+        memberMapper.insertMember(otherPostalCode);
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            match.getId(), "검색닉", null, null, "99999", null, null, null, null
+        ));
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            otherPostalCode.getId(), "검색닉", null, null, "88888", null, null, null, null
+        ));
+        
+        MemberSearchCondition condition = MemberSearchCondition.builder()
+            .name("검색").email("search").minAge(150).gender(Member.Gender.OTHER)
+            .nickname("검색").postalCode("99999").build();
+        List<MemberWithProfile> found = memberMapper.searchMembers(condition, 0L, 10);
+        List<MemberWithProfile> byAgeOnly = memberMapper.searchMembers(
+            MemberSearchCondition.builder().minAge(150).maxAge(150).build(), 0L, 10);
+        
+        assertThat(found).extracting(row -> row.getMember().getId()).containsExactly(match.getId());
+        assertThat(found.get(0).getProfile().getPostalCode()).isEqualTo("99999");
+        assertThat(byAgeOnly).extracting(row -> row.getMember().getId())
+            .containsExactly(match.getId(), otherPostalCode.getId());
+    }
+
+    @Test
+    @DisplayName("회원 복합 조건 검색 - LIKE 와일드카드 이스케이프")
+    void searchMembers_wildcardInput_matchesLiterally() {
+        // 목적: 검색어의 %, _를 <bind> + ESCAPE로 일반 문자로 검색
+        // 성공 조건: '%'로 시작하는 이메일이 없으므로 email=% 검색은 0건, 이름의 '_'는 문자 그대로 일치
+        assumeTrue(memberMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+
+        Member literal = Member.builder()
+            .email("escape@test.com").name("검색_대상").phone("010-1111-1111")
+            .age(151).gender(Member.Gender.OTHER).build();
+        Member other = Member.builder()
+            .email("escape2@test.com").name("검색X대상").phone("010-2222-2222")
+            .age(151).gender(Member.Gender.OTHER).build();
+        memberMapper.insertMember(literal);
+        memberMapper.insertMember(other);
+
+        List<MemberWithProfile> byPercent = memberMapper.searchMembers(
+            MemberSearchCondition.builder().email("%").build(), 0L, 10);
+        List<MemberWithProfile> byUnderscore = memberMapper.searchMembers(
+            MemberSearchCondition.builder().name("검색_").minAge(151).build(), 0L, 10);
+
+        assertThat(byPercent).isEmpty();
+        assertThat(byUnderscore).extracting(row -> row.getMember().getId()).containsExactly(literal.getId());
+    }
+
+    @Test
+    @DisplayName("프로필 수정 시각 / 회원+프로필 페이지 버전 - 조건부 GET용 집계")
+    void findProfileUpdatedAt_andPageVersion_success() {
+        // 목적: 엔티티를 읽지 않고 updated_at과 페이지 버전(행 수, 마지막 ID, 최신 수정 시각)만 조회
+        // 성공 조건: 프로필이 없으면 null, 집계 결과가 같은 범위의 조인 조회 결과로 만든 버전과 같음
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member withProfile = Member.builder()
+            .email("version1@test.com").name("버전").phone("010-1111-1111")
+            .age(30).gender(Member.Gender.MALE).build();
+        Member withoutProfile = Member.builder()
+            .email("version2@test.com").name("버전").phone("010-2222-2222")
+            .age(30).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(withProfile);
+        memberMapper.insertMember(withoutProfile);
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            withProfile.getId(), "버전닉", null, null, null, null, null, null, null
+        ));
+        
+        assertThat(profileMapper.findProfileUpdatedAt(withProfile.getId()))
+            .isEqualTo(profileMapper.findProfileByMemberId(withProfile.getId()).getUpdatedAt());
+        assertThat(profileMapper.findProfileUpdatedAt(withoutProfile.getId())).isNull();
+        
+        Long after = withProfile.getId() - 1;
+        PageVersion version = memberMapper.findMemberWithProfilePageVersion(after, 10);
+        
+        assertThat(version.rowCount()).isEqualTo(3);
+        assertThat(version.lastId()).isEqualTo(withoutProfile.getId());
+        assertThat(version).isEqualTo(PageVersion.ofMembersWithProfile(memberMapper.findMembersWithProfileAfter(after, 10)));
+    }
+
     @Test
     @DisplayName("프로필 정보 수정 - UPDATE문 다중 컬럼")
     void updateProfile_success() {
@@ -186,6 +361,85 @@ class ProfileMapperTest {
         assertThat(updated.getAddress()).isEqualTo("부산시");
     }
 
+    @Test
+    @DisplayName("프로필 부분 수정 - <set> + <if> 동적 UPDATE")
+    void patchProfile_success() {
+        // 목적: 회원 ID 기준으로 전달된 필드만 수정 (memo 등 나머지 컬럼은 다시 쓰지 않음)
+        // 성공 조건: 닉네임만 바뀌고 메모는 유지되며, 프로필이 없는 회원은 0건 수정
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("test@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            member.getId(), "길동이", "홍길동", null, null, null, null, null, "메모"
+        ));
+        
+        int updated = profileMapper.patchProfile(member.getId(), ProfilePatch.builder().nickname("새길동").build());
+        
+        assertThat(updated).isEqualTo(1);
+        Profile patched = profileMapper.findProfileByMemberId(member.getId());
+        assertThat(patched.getNickname()).isEqualTo("새길동");
+        assertThat(patched.getMemo()).isEqualTo("메모");
+        assertThat(profileMapper.patchProfile(99999L, ProfilePatch.builder().nickname("없음").build())).isZero();
+    }
+
+    @Test
+    @DisplayName("프로필 upsert - MERGE INTO ... KEY 단일 문장 등록/수정")
+    void upsertProfile_success() {
+        // 목적: MERGE 한 문장으로 프로필이 없으면 등록, 있으면 같은 행을 수정
+        // 성공 조건: 두 번째 저장이 같은 ID를 유지하며 값만 바뀌고, 프로필은 한 건만 존재
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("test@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        
+        Profile inserted = profileMapper.upsertProfile(Profile.createWithMemberId(
+            member.getId(), "길동이", "홍길동", null, "12345", "서울시", null, null, null
+        ));
+        assertThat(inserted.getId()).isNotNull();
+        assertThat(inserted.getCreatedAt()).isNotNull();
+        
+        Profile updated = profileMapper.upsertProfile(Profile.createWithMemberId(
+            member.getId(), "새길동", "홍길동", null, "54321", "부산시", null, null, null
+        ));
+        assertThat(updated.getId()).isEqualTo(inserted.getId());
+        assertThat(updated.getCreatedAt()).isEqualTo(inserted.getCreatedAt());
+        assertThat(profileMapper.findProfileByMemberId(member.getId()).getNickname()).isEqualTo("새길동");
+        assertThat(profileMapper.countByMemberId(member.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로필 merge - 결과 행 없는 MERGE로 등록/수정 (배치용)")
+    void mergeProfile_success() {
+        // 목적: @Update로 FINAL TABLE 조회 없이 MERGE 실행 (BATCH executor에 쌓일 수 있는 형태)
+        // 성공 조건: 없으면 등록, 있으면 같은 행을 수정하며 매번 영향 행 수 1 반환
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("test@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        
+        int inserted = profileMapper.mergeProfile(Profile.createWithMemberId(
+            member.getId(), "길동이", "홍길동", null, "12345", "서울시", null, null, null
+        ));
+        Long profileId = profileMapper.findProfileByMemberId(member.getId()).getId();
+        int updated = profileMapper.mergeProfile(Profile.createWithMemberId(
+            member.getId(), "새길동", "홍길동", null, "54321", "부산시", null, null, null
+        ));
+        
+        assertThat(inserted).isEqualTo(1);
+        assertThat(updated).isEqualTo(1);
+        Profile saved = profileMapper.findProfileByMemberId(member.getId());
+        assertThat(saved.getId()).isEqualTo(profileId);
+        assertThat(saved.getNickname()).isEqualTo("새길동");
+        assertThat(saved.getPostalCode()).isEqualTo("54321");
+    }
+
     @Test
     @DisplayName("프로필 삭제 - DELETE문 기본")
     void deleteProfile_success() {
@@ -234,6 +488,27 @@ class ProfileMapperTest {
 
     // ========== 검색 기능 테스트 ==========
 
+    @Test
+    @DisplayName("회원 삭제 - 외래키 ON DELETE CASCADE로 프로필 함께 삭제")
+    void deleteMember_cascadesProfile_success() {
+        // 목적: 프로필을 따로 지우지 않고 회원 DELETE 한 문장으로 연관 프로필까지 정리
+        // 성공 조건: 회원 삭제 건수가 1이고 해당 회원의 프로필도 사라짐
+        assumeTrue(memberMapper != null && profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        
+        Member member = Member.builder()
+            .email("test@test.com").name("홍길동").phone("010-1234-5678")
+            .age(25).gender(Member.Gender.MALE).build();
+        memberMapper.insertMember(member);
+        profileMapper.insertProfile(Profile.createWithMemberId(
+            member.getId(), "길동이", "홍길동", null, null, null, null, null, null
+        ));
+        
+        int deleted = memberMapper.deleteMembersByIds(List.of(member.getId()));
+        
+        assertThat(deleted).isEqualTo(1);
+        assertThat(profileMapper.findProfileByMemberId(member.getId())).isNull();
+    }
+
     @Test
     @DisplayName("회원 ID로 프로필 존재 확인 - COUNT 활용")
     void existsByMemberId_success() {
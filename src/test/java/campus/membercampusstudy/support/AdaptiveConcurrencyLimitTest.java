@@ -0,0 +1,149 @@
+package campus.membercampusstudy.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 동시 실행 한도 테스트
+ * <p>
+ * 호출 시작 시각을 지연 시간만큼 앞당겨 {@link AdaptiveConcurrencyLimit#release}에 넘기는 방식으로
+ * 정상/느린 호출을 흉내 내고 한도 변화를 확인합니다.
+ * 감소는 직전 감소(처음에는 생성 시각) 이후 시작된 호출에만 반응하므로, 감소를 기대하는 경우에는
+ * 지연 시간보다 오래 기다린 뒤 호출을 시작합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long NORMAL_MILLIS = 1;
+    private static final long SLOW_MILLIS = 10;
+
+    @Test
+    @DisplayName("한도를 다 쓰는 정상 호출 - 한도가 1씩 늘어 최대 한도에서 멈춤")
+    void fullyUsedAndFast_increasesUpToMax() {
+        AdaptiveConcurrencyLimit limit = newLimit(4, 1, 6, Duration.ofSeconds(1));
+
+        int previous = limit.getLimit();
+        for (int round = 0; round < 30; round++) {
+            int acquired = acquireAll(limit);
+            // 성공 조건: 한도만큼만 얻고 그 이상은 즉시 거절
+            assertThat(acquired).isEqualTo(previous);
+            assertThat(limit.tryAcquire()).isFalse();
+            for (int i = 0; i < acquired; i++) {
+                limit.release(startedAgo(NORMAL_MILLIS), false);
+            }
+            // 성공 조건: 한 번에 1 이하로만 증가
+            assertThat(limit.getLimit()).isBetween(previous, previous + 1);
+            previous = limit.getLimit();
+        }
+        assertThat(limit.getLimit()).isEqualTo(6);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않는 정상 호출 - 한도 유지")
+    void underused_doesNotIncrease() {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 20, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+            limit.release(startedAgo(NORMAL_MILLIS), false);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("기준 지연의 허용 배수를 넘는 호출 - 감소 비율만큼 감소")
+    void slowerThanBaseline_decreases() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 20, Duration.ofSeconds(1));
+        for (int i = 0; i < 20; i++) {
+            complete(limit, NORMAL_MILLIS, false);
+        }
+        waitPast(SLOW_MILLIS);
+
+        complete(limit, SLOW_MILLIS, false);
+
+        // 성공 조건: 10 × 0.5
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("최대 지연을 넘는 호출 - 기준 지연이 없어도 감소")
+    void slowerThanCeiling_decreases() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 20, Duration.ofMillis(5));
+        waitPast(SLOW_MILLIS);
+
+        complete(limit, SLOW_MILLIS, false);
+
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("과부하 실패 - 지연과 관계없이 감소하되 최소 한도 아래로는 내려가지 않음")
+    void overloaded_decreasesDownToMin() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 3, 20, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 5; i++) {
+            waitPast(NORMAL_MILLIS);
+            complete(limit, NORMAL_MILLIS, true);
+        }
+
+        // 성공 조건: 10 → 5 → 3 (2.5는 최소 한도 3으로)
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("감소 전에 시작된 느린 호출들 - 한 번만 감소하고 감소 이후 시작된 호출은 다시 감소")
+    void slowCallsStartedBeforeDecrease_decreaseOnce() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = newLimit(10, 1, 20, Duration.ofSeconds(1));
+        waitPast(SLOW_MILLIS);
+
+        long start = startedAgo(SLOW_MILLIS);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+        for (int i = 0; i < 3; i++) {
+            limit.release(start, true);
+        }
+        // 성공 조건: 같은 구간의 과부하 3건에 한 번만 감소
+        assertThat(limit.getLimit()).isEqualTo(5);
+
+        waitPast(SLOW_MILLIS);
+        complete(limit, SLOW_MILLIS, true);
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    private static AdaptiveConcurrencyLimit newLimit(int initial, int min, int max, Duration latencyCeiling) {
+        return new AdaptiveConcurrencyLimit(initial, min, max, 2.0, latencyCeiling, 0.5);
+    }
+
+    private static int acquireAll(AdaptiveConcurrencyLimit limit) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    private static void complete(AdaptiveConcurrencyLimit limit, long latencyMillis, boolean overloaded) {
+        assertThat(limit.tryAcquire()).isTrue();
+        limit.release(startedAgo(latencyMillis), overloaded);
+    }
+
+    // 지연 시간만큼 전에 시작한 호출로 보이도록 시작 시각을 앞당김
+    private static long startedAgo(long latencyMillis) {
+        return System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+    }
+
+    // 이후 호출의 앞당긴 시작 시각이 직전 감소보다 뒤가 되도록 대기
+    private static void waitPast(long latencyMillis) throws InterruptedException {
+        Thread.sleep(latencyMillis * 2);
+    }
+}
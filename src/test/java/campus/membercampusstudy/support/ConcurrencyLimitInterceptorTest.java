@@ -0,0 +1,161 @@
+package campus.membercampusstudy.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HTTP 요청 동시 처리 한도 인터셉터 테스트
+ * <p>
+ * 조회/쓰기 한도를 각각 1로 고정하고, 디스패처처럼 핸들러 실행 전후로 인터셉터를 호출해
+ * 요청 단위로 슬롯을 쓰고 반환하는지와 한도 초과 요청이 503으로 거절되는지 확인합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see AdaptiveConcurrencyLimit
+ */
+class ConcurrencyLimitInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = newInterceptor(singleSlot(), singleSlot());
+    }
+
+    @Test
+    @DisplayName("조회 요청이 처리 중일 때 다른 조회 요청 - 503과 Retry-After로 거절")
+    void readInProgress_nextReadRejected() throws Exception {
+        MockHttpServletRequest first = request("GET", "get");
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler("get"));
+
+        // 성공 조건: 503 + Retry-After 1초, 거절 카운터 1
+        assertThatThrownBy(() -> interceptor.preHandle(request("GET", "get"), new MockHttpServletResponse(), handler("get")))
+                .isInstanceOfSatisfying(ConcurrencyLimitExceededException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                });
+        assertThat(meterRegistry.get(ConcurrencyLimitInterceptor.METRIC_NAME + ".rejected").tag("kind", "read")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 슬롯 반환 - 다음 조회 요청 처리")
+    void afterCompletion_releasesSlot() throws Exception {
+        MockHttpServletRequest first = request("GET", "get");
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler("get"));
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("get"), null);
+
+        assertThat(interceptor.preHandle(request("GET", "get"), new MockHttpServletResponse(), handler("get"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 한도가 찬 상태의 쓰기 요청 - 쓰기 한도로 처리")
+    void readLimitFull_writeStillAccepted() throws Exception {
+        interceptor.preHandle(request("GET", "get"), new MockHttpServletResponse(), handler("get"));
+
+        assertThat(interceptor.preHandle(request("PATCH", "patch"), new MockHttpServletResponse(), handler("patch"))).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(request("DELETE", "patch"), new MockHttpServletResponse(), handler("patch")))
+                .isInstanceOf(ConcurrencyLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("@ReadOnlyRequest 핸들러의 POST - 조회 한도로 처리")
+    void readOnlyRequestPost_countedAsRead() throws Exception {
+        interceptor.preHandle(request("POST", "multiGet"), new MockHttpServletResponse(), handler("multiGet"));
+
+        // 성공 조건: 조회 슬롯을 썼으므로 GET은 거절, 쓰기 슬롯은 남아 있음
+        assertThatThrownBy(() -> interceptor.preHandle(request("GET", "get"), new MockHttpServletResponse(), handler("get")))
+                .isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(interceptor.preHandle(request("POST", "patch"), new MockHttpServletResponse(), handler("patch"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("완료 처리가 두 번 호출되어도 슬롯은 한 번만 반환")
+    void afterCompletionTwice_releasesOnce() throws Exception {
+        MockHttpServletRequest first = request("GET", "get");
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler("get"));
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("get"), null);
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("get"), null);
+
+        interceptor.preHandle(request("GET", "get"), new MockHttpServletResponse(), handler("get"));
+        assertThatThrownBy(() -> interceptor.preHandle(request("GET", "get"), new MockHttpServletResponse(), handler("get")))
+                .isInstanceOf(ConcurrencyLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("지연 시간 상한을 넘는 내보내기 - 슬롯을 쓰지 않고 한도도 줄이지 않음")
+    void longRunningExport_doesNotShrinkLimit() throws Exception {
+        AdaptiveConcurrencyLimit readLimit = new AdaptiveConcurrencyLimit(4, 1, 10, 2.0, Duration.ofMillis(5), 0.5);
+        ConcurrencyLimitInterceptor limited = newInterceptor(readLimit, singleSlot());
+        MockHttpServletRequest export = request("GET", "export");
+
+        limited.preHandle(export, new MockHttpServletResponse(), handler("export"));
+        assertThat(readLimit.getInFlight()).isZero();
+        Thread.sleep(20);
+        limited.afterCompletion(export, new MockHttpServletResponse(), handler("export"), null);
+
+        // 성공 조건: 한도 유지
+        assertThat(readLimit.getLimit()).isEqualTo(4);
+
+        // 같은 지연의 일반 조회는 한도를 줄임 (비교 대상)
+        MockHttpServletRequest get = request("GET", "get");
+        limited.preHandle(get, new MockHttpServletResponse(), handler("get"));
+        Thread.sleep(20);
+        limited.afterCompletion(get, new MockHttpServletResponse(), handler("get"), null);
+        assertThat(readLimit.getLimit()).isEqualTo(2);
+    }
+
+    private ConcurrencyLimitInterceptor newInterceptor(AdaptiveConcurrencyLimit readLimit,
+                                                       AdaptiveConcurrencyLimit writeLimit) {
+        ConcurrencyLimitInterceptor created = new ConcurrencyLimitInterceptor(readLimit, writeLimit, Duration.ofSeconds(1),
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+        created.afterSingletonsInstantiated();
+        return created;
+    }
+
+    private static AdaptiveConcurrencyLimit singleSlot() {
+        return new AdaptiveConcurrencyLimit(1, 1, 1, 2.0, Duration.ofSeconds(1), 0.9);
+    }
+
+    private static MockHttpServletRequest request(String method, String name) {
+        return new MockHttpServletRequest(method, "/api/jpa/members/" + name);
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod(name));
+    }
+
+    static class Handlers {
+
+        void get() {
+        }
+
+        void patch() {
+        }
+
+        @ReadOnlyRequest
+        void multiGet() {
+        }
+
+        @LongRunningRequest
+        void export() {
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.entity.Member;
+import campus.membercampusstudy.entity.Profile;
+import campus.membercampusstudy.mapper.IProfileMapper;
+import campus.membercampusstudy.repository.IProfile;
+import campus.membercampusstudy.repository.MemberRepository;
+import campus.membercampusstudy.repository.ProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * ProfileUpserts 동시 최초 등록 테스트
+ * <p>
+ * 두 스레드가 서로 다른 커넥션으로 같은 회원의 프로필을 동시에 처음 등록해도
+ * 둘 다 성공하고 프로필은 한 행만 남는지 확인합니다. 경합이 매번 나지는 않으므로 여러 회원으로 반복합니다.
+ * 각 스레드가 커밋해야 하므로 테스트 트랜잭션 없이 실행하고, 만든 회원은 끝난 뒤 삭제합니다(프로필은 CASCADE).
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see ProfileUpserts
+ */
+@SpringBootTest
+class ProfileUpsertsTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired(required = false)
+    private IProfileMapper profileMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        if (!memberIds.isEmpty()) {
+            memberRepository.deleteMembersByIds(memberIds);
+        }
+    }
+
+    @Test
+    @DisplayName("동시 최초 등록 (JPA) - 둘 다 성공하고 한 행만 남음")
+    void upsert_concurrentFirstInsert_jpa_bothSucceed() throws Exception {
+        assertConcurrentFirstUpsertsSucceed(profileRepository);
+    }
+
+    @Test
+    @DisplayName("동시 최초 등록 (MyBatis) - 둘 다 성공하고 한 행만 남음")
+    void upsert_concurrentFirstInsert_mybatis_bothSucceed() throws Exception {
+        assumeTrue(profileMapper != null, "MyBatis 매퍼가 없음 - ref 프로필로 실행하세요");
+        assertConcurrentFirstUpsertsSucceed(profileMapper);
+    }
+
+    @Test
+    @DisplayName("유니크 위반 판별 - DuplicateKeyException 또는 SQLSTATE 23505")
+    void isDuplicateKey_uniqueViolationOnly() {
+        assertThat(ProfileUpserts.isDuplicateKey(new DuplicateKeyException("dup"))).isTrue();
+        assertThat(ProfileUpserts.isDuplicateKey(
+                new DataIntegrityViolationException("dup", new SQLException("dup", "23505")))).isTrue();
+        assertThat(ProfileUpserts.isDuplicateKey(
+                new DataIntegrityViolationException("fk", new SQLException("fk", "23506")))).isFalse();
+    }
+
+    private void assertConcurrentFirstUpsertsSucceed(IProfile profiles) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int round = 0; round < ROUNDS; round++) {
+                Long memberId = newMember(round);
+                CyclicBarrier start = new CyclicBarrier(2);
+                List<Future<Profile>> results = new ArrayList<>();
+                for (int writer = 0; writer < 2; writer++) {
+                    String nickname = "동시" + writer;
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return ProfileUpserts.upsert(profiles, newProfile(memberId, nickname),
+                                memberRepository::existsById);
+                    }));
+                }
+
+                for (Future<Profile> result : results) {
+                    Profile saved = result.get(10, TimeUnit.SECONDS);
+                    assertThat(saved).isNotNull();
+                    assertThat(saved.getMemberId()).isEqualTo(memberId);
+                }
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM profile WHERE member_id = ?", Integer.class, memberId)).isEqualTo(1);
+            }
+        }
+    }
+
+    private Long newMember(int round) {
+        Member member = memberRepository.save(Member.builder()
+                .email("upsert" + round + "-" + System.nanoTime() + "@test.com").name("홍길동")
+                .phone("010-1234-5678").age(25).gender(Member.Gender.MALE).build());
+        memberIds.add(member.getId());
+        return member.getId();
+    }
+
+    private static Profile newProfile(Long memberId, String nickname) {
+        return Profile.createWithMemberId(memberId, nickname, "홍길동", null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,203 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.cache.MemberLookupCache;
+import campus.membercampusstudy.cache.SecondLevelCache;
+import campus.membercampusstudy.entity.Member;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 복제본 라우팅과 read-your-writes 쿠키 테스트
+ * <p>
+ * {@link ReadYourWritesInterceptor}를 거친 요청 안에서 읽기 전용 여부를 지정하고 커넥션을 얻어,
+ * 주/복제본 중 어느 DataSource가 사용되는지 확인합니다.
+ * 쿠키로 주 DB에 고정된 요청은 공유 조회 캐시도 거치지 않아야 합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see ReplicaRoutingDataSource
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(2);
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica);
+    private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(WINDOW);
+
+    @Test
+    @DisplayName("쿠키 없는 읽기 전용 트랜잭션 - 복제본 사용")
+    void readOnly_withoutCookie_routesToReplica() throws Exception {
+        connect(get(), true);
+
+        verify(replica).getConnection();
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("고정 시각 전의 쿠키가 있는 읽기 전용 트랜잭션 - 주 DB 사용")
+    void readOnly_withCookie_routesToPrimary() throws Exception {
+        connect(get(System.currentTimeMillis() + WINDOW.toMillis()), true);
+
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("고정 시각이 지난 쿠키 - 복제본 사용")
+    void readOnly_withExpiredCookie_routesToReplica() throws Exception {
+        connect(get(System.currentTimeMillis() - 1), true);
+
+        verify(replica).getConnection();
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("쓰기 요청 - 쿠키를 내려주고 그 요청의 읽기도 주 DB 사용")
+    void writeRequest_setsCookieAndRoutesToPrimary() throws Exception {
+        MockHttpServletResponse response = connect(new MockHttpServletRequest("PATCH", "/api/jpa/members/1"),
+                handler("patch"), true);
+
+        assertThat(response.getCookie(ReadYourWritesInterceptor.COOKIE_NAME)).isNotNull();
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("@ReadOnlyRequest 핸들러의 POST - 쿠키 없이 복제본 사용")
+    void readOnlyRequestPost_noCookieAndRoutesToReplica() throws Exception {
+        MockHttpServletResponse response = connect(new MockHttpServletRequest("POST", "/api/jpa/members/_mget"),
+                handler("multiGet"), true);
+
+        assertThat(response.getCookie(ReadYourWritesInterceptor.COOKIE_NAME)).isNull();
+        verify(replica).getConnection();
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 - 쿠키와 무관하게 주 DB 사용")
+    void readWrite_withoutCookie_routesToPrimary() throws Exception {
+        connect(get(), false);
+
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("주 DB에 고정된 요청 - 조회 캐시를 읽지도 채우지도 않음")
+    void pinnedRequest_bypassesLookupCache() throws Exception {
+        MemberLookupCache cache = new MemberLookupCache(mock(SecondLevelCache.class), 100, Duration.ofMinutes(1),
+                false, WINDOW);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, Member> loader = id -> {
+            loads.incrementAndGet();
+            return Member.builder().email("routing@test.com").name("홍길동").build();
+        };
+        cache.getMember(1L, loader);
+
+        // 고정된 요청은 캐시된 회원이 있어도 적재 함수로 읽음
+        within(get(System.currentTimeMillis() + WINDOW.toMillis()), new MockHttpServletResponse(), handler("get"),
+                () -> cache.getMember(1L, loader));
+        assertThat(loads).hasValue(2);
+
+        // 고정되지 않은 요청은 기존 캐시 항목을 그대로 사용
+        within(get(), new MockHttpServletResponse(), handler("get"), () -> cache.getMember(1L, loader));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 후 복제 지연이 지나면 다시 적재된 항목도 한 번 더 무효화")
+    void evict_reEvictsAfterReplicaLag() throws Exception {
+        Duration lag = Duration.ofMillis(50);
+        MemberLookupCache cache = new MemberLookupCache(mock(SecondLevelCache.class), 100, Duration.ofMinutes(1),
+                true, lag);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, Member> loader = id -> {
+            loads.incrementAndGet();
+            return Member.builder().email("routing@test.com").name("홍길동").build();
+        };
+
+        cache.evictMember(1L);
+        // 무효화 직후 지연된 복제본에서 이전 행을 다시 적재한 상황
+        cache.getMember(1L, loader);
+        Thread.sleep(lag.toMillis() * 4);
+
+        cache.getMember(1L, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    private MockHttpServletResponse connect(MockHttpServletRequest request, boolean readOnly) throws Exception {
+        return connect(request, handler("get"), readOnly);
+    }
+
+    private MockHttpServletResponse connect(MockHttpServletRequest request, HandlerMethod handler, boolean readOnly)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        within(request, response, handler, () -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+            try {
+                routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        });
+        return response;
+    }
+
+    // 디스패처처럼 핸들러 실행 전후로 인터셉터를 호출
+    private void within(MockHttpServletRequest request, MockHttpServletResponse response, HandlerMethod handler,
+                        Runnable handle) throws Exception {
+        interceptor.preHandle(request, response, handler);
+        try {
+            handle.run();
+        } finally {
+            interceptor.afterCompletion(request, response, handler, null);
+        }
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod(name));
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/jpa/members/1");
+    }
+
+    private static MockHttpServletRequest get(long pinnedUntil) {
+        MockHttpServletRequest request = get();
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE_NAME, Long.toString(pinnedUntil)));
+        return request;
+    }
+
+    static class Handlers {
+
+        void get() {
+        }
+
+        void patch() {
+        }
+
+        @ReadOnlyRequest
+        void multiGet() {
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package campus.membercampusstudy.support;
+
+import campus.membercampusstudy.entity.Member;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동일 조회 병합 인터셉터 테스트
+ * <p>
+ * 첫 호출이 대상 메서드 안에서 막혀 있는 동안 같은(또는 다른) 인자로 호출하고,
+ * 대상 메서드가 몇 번 실행되는지와 각 호출이 받은 결과를 확인합니다.
+ * 병합은 읽기 전용 트랜잭션 안에서만 일어나므로 각 호출 스레드에서 읽기 전용으로 지정합니다.
+ *
+ * @author XIYO
+ * @since 2026-10-17
+ * @see SingleFlightInterceptor
+ */
+class SingleFlightInterceptorTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingLookups target = new BlockingLookups();
+    private final List<Thread> callers = new ArrayList<>();
+
+    @Test
+    @DisplayName("같은 인자의 동시 조회 - 대상 메서드는 한 번만 실행되고 모두 같은 결과")
+    void sameArguments_coalescedIntoOneInvocation() throws Exception {
+        Lookups lookups = proxy(true, MAX_WAIT);
+
+        CompletableFuture<Object> leader = call(() -> lookups.findName(1L));
+        target.entered.await();
+        List<CompletableFuture<Object>> followers = List.of(
+                call(() -> lookups.findName(1L)), call(() -> lookups.findName(1L)), call(() -> lookups.findName(1L)));
+        awaitWaiting();
+        target.release.countDown();
+
+        // 성공 조건: 실행 1회, 모든 호출이 같은 결과, 병합 카운터 3
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("회원1");
+        for (CompletableFuture<Object> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("회원1");
+        }
+        assertThat(target.invocations).hasValue(1);
+        assertThat(coalesced()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("첫 조회가 예외로 끝남 - 기다리던 호출도 같은 예외를 받음")
+    void leaderFails_exceptionFannedOut() throws Exception {
+        Lookups lookups = proxy(true, MAX_WAIT);
+        target.failure = new IllegalStateException("조회 실패");
+
+        CompletableFuture<Object> leader = call(() -> lookups.findName(1L));
+        target.entered.await();
+        List<CompletableFuture<Object>> followers = List.of(call(() -> lookups.findName(1L)), call(() -> lookups.findName(1L)));
+        awaitWaiting();
+        target.release.countDown();
+
+        // 성공 조건: 실행 1회, 모든 호출이 같은 예외
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(target.failure);
+        for (CompletableFuture<Object> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(target.failure);
+        }
+        assertThat(target.invocations).hasValue(1);
+        assertThat(coalesced()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 인자의 동시 조회 - 병합하지 않고 각자 실행")
+    void differentArguments_notCoalesced() throws Exception {
+        Lookups lookups = proxy(true, MAX_WAIT);
+
+        CompletableFuture<Object> leader = call(() -> lookups.findName(1L));
+        target.entered.await();
+
+        // 성공 조건: 첫 조회가 막혀 있어도 다른 키는 바로 자기 결과를 받음
+        assertThat(call(() -> lookups.findName(2L)).get(5, TimeUnit.SECONDS)).isEqualTo("회원2");
+        target.release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("회원1");
+        assertThat(target.invocations).hasValue(2);
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 조회가 최대 대기 시간을 넘김 - 기다리던 호출은 직접 조회")
+    void leaderTooSlow_followerProceedsAfterMaxWait() throws Exception {
+        Lookups lookups = proxy(true, Duration.ofMillis(50));
+
+        CompletableFuture<Object> leader = call(() -> lookups.findName(1L));
+        target.entered.await();
+
+        // 성공 조건: 첫 조회가 끝나기 전에 직접 조회한 결과를 받고 병합으로 세지 않음
+        assertThat(call(() -> lookups.findName(1L)).get(5, TimeUnit.SECONDS)).isEqualTo("회원1");
+        target.release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        assertThat(target.invocations).hasValue(2);
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    @DisplayName("JPA 엔티티 결과 - 영속성 컨텍스트가 다른 호출자와 공유하지 않음")
+    void managedEntity_notCoalesced() throws Exception {
+        Lookups lookups = proxy(true, MAX_WAIT);
+
+        CompletableFuture<Object> leader = call(() -> lookups.findMember(1L));
+        target.entered.await();
+
+        // 성공 조건: 두 호출이 각자 실행되어 서로 다른 엔티티 인스턴스를 받음
+        Object member = call(() -> lookups.findMember(1L)).get(5, TimeUnit.SECONDS);
+        target.release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isNotSameAs(member);
+        assertThat(target.invocations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("MyBatis 단건 결과 - 호출마다 새 객체이므로 병합")
+    void unmanagedEntity_coalesced() throws Exception {
+        Lookups lookups = proxy(false, MAX_WAIT);
+
+        CompletableFuture<Object> leader = call(() -> lookups.findMember(1L));
+        target.entered.await();
+        CompletableFuture<Object> follower = call(() -> lookups.findMember(1L));
+        awaitWaiting();
+        target.release.countDown();
+
+        // 성공 조건: 실행 1회, 같은 결과 공유
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(target.invocations).hasValue(1);
+    }
+
+    private Lookups proxy(boolean managedEntities, Duration maxWait) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvice(new SingleFlightInterceptor(
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class),
+                "jpa", "Lookups", managedEntities, maxWait));
+        return (Lookups) proxyFactory.getProxy();
+    }
+
+    // 읽기 전용 트랜잭션 안에서처럼 별도 스레드로 호출
+    private CompletableFuture<Object> call(Supplier<Object> lookup) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Thread caller = new Thread(() -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try {
+                result.complete(lookup.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        });
+        callers.add(caller);
+        caller.start();
+        return result;
+    }
+
+    // 첫 호출을 제외한 호출이 모두 결과를 기다리며 멈출 때까지 대기
+    private void awaitWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread caller : callers.subList(1, callers.size())) {
+            while (caller.getState() != Thread.State.WAITING && caller.getState() != Thread.State.TIMED_WAITING) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private double coalesced() {
+        Counter counter = meterRegistry.find(SingleFlightInterceptor.METRIC_NAME).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    interface Lookups {
+
+        String findName(Long id);
+
+        Member findMember(Long id);
+    }
+
+    // 첫 실행만 release 전까지 막히는 대상
+    static class BlockingLookups implements Lookups {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger invocations = new AtomicInteger();
+        volatile RuntimeException failure;
+
+        @Override
+        public String findName(Long id) {
+            invoke();
+            return "회원" + id;
+        }
+
+        @Override
+        public Member findMember(Long id) {
+            invoke();
+            return Member.builder().email("member" + id + "@test.com").name("홍길동").build();
+        }
+
+        private void invoke() {
+            if (invocations.incrementAndGet() == 1) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}